@@ -0,0 +1,69 @@
+package com.example.report_service.benchmark;
+
+import com.example.report_service.dto.response.AWSComprehendResult;
+import com.example.report_service.dto.response.SentimentScore;
+import com.example.report_service.entity.SentimentReport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크 입력 데이터 생성기입니다. 고정 시드를 사용하므로 실행 간 입력이 동일합니다.
+ */
+final class BenchmarkFixtures {
+
+    static final String[] SENTIMENTS = {"POSITIVE", "NEGATIVE", "NEUTRAL", "MIXED", "positive", "Negative"};
+
+    static final String[] ANSWERS = {
+            "좋아요", "없음", "만족합니다", "배송이 너무 느려서 불편했어요", "직원분이 친절하고 설명도 쉬웠어요",
+            "가격은 비싸지만 품질은 좋아요", "그냥 그래요", "다음에도 이용하고 싶습니다", "앱이 자주 오류가 나요",
+            "안 좋아요", "기대보다 별로였습니다", "전반적으로 괜찮았어요"
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<AWSComprehendResult> comprehendResults(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<AWSComprehendResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(new AWSComprehendResult(SENTIMENTS[random.nextInt(SENTIMENTS.length)], score(random)));
+        }
+        return results;
+    }
+
+    static List<SentimentReport> sentimentReports(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<SentimentReport> reports = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            SentimentScore score = score(random);
+            int sentiment = random.nextInt(4);
+            reports.add(SentimentReport.builder()
+                                       .surveyId(1L)
+                                       .questionId(1L)
+                                       .responseId((long) i)
+                                       .userId((long) i)
+                                       .totalResponses(1)
+                                       .positiveCount(sentiment == 0 ? 1 : 0)
+                                       .negativeCount(sentiment == 1 ? 1 : 0)
+                                       .neutralCount(sentiment == 2 ? 1 : 0)
+                                       .mixedCount(sentiment == 3 ? 1 : 0)
+                                       .averagePositive(score.getPositive())
+                                       .averageNegative(score.getNegative())
+                                       .averageNeutral(score.getNeutral())
+                                       .averageMixed(score.getMixed())
+                                       .build());
+        }
+        return reports;
+    }
+
+    private static SentimentScore score(SplittableRandom random) {
+        double positive = random.nextDouble();
+        double negative = random.nextDouble();
+        double neutral = random.nextDouble();
+        double mixed = random.nextDouble() * 0.2;
+        double sum = positive + negative + neutral + mixed;
+        return new SentimentScore(positive / sum, negative / sum, neutral / sum, mixed / sum);
+    }
+}
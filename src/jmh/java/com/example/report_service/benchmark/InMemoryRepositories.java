@@ -0,0 +1,134 @@
+package com.example.report_service.benchmark;
+
+import com.example.report_service.dto.internal.SentimentTotals;
+import com.example.report_service.entity.ReportSketch;
+import com.example.report_service.entity.ReportSketchType;
+import com.example.report_service.repository.OverallSentimentReportRepository;
+import com.example.report_service.repository.ReportSketchRepository;
+import com.example.report_service.repository.ReportVersionRepository;
+import com.example.report_service.repository.SentimentReportRepository;
+import com.example.report_service.repository.SentimentTrendBucketRepository;
+import com.example.report_service.repository.SurveySentimentReportRepository;
+import com.example.report_service.repository.WriteBehindJournalStateRepository;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 벤치마크용 인메모리 리포지토리입니다. DB 없이 저장 단계의 애플리케이션 코드 비용만 측정하기 위해
+ * save는 인자를 그대로 반환하고, 집계 테이블 upsert는 자연 키의 존재 여부만 메모리에 보관합니다.
+ * 구현하지 않은 메서드는 반환 타입의 기본값을 돌려줍니다.
+ */
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    static SentimentReportRepository sentimentReports() {
+        return proxy(SentimentReportRepository.class, (method, args) -> defaultValue(method, args));
+    }
+
+    static WriteBehindJournalStateRepository writeBehindJournalStates() {
+        return proxy(WriteBehindJournalStateRepository.class, (method, args) -> defaultValue(method, args));
+    }
+
+    static OverallSentimentReportRepository overallReports() {
+        Map<List<Long>, SentimentTotals> store = new ConcurrentHashMap<>();
+        return proxy(OverallSentimentReportRepository.class, (method, args) -> switch (method.getName()) {
+            case "upsertIncrement" -> upsert(store, List.of((Long) args[0], (Long) args[1]), (SentimentTotals) args[2]);
+            case "findIdBySurveyIdAndQuestionId" -> Optional.of((long) List.of((Long) args[0], (Long) args[1]).hashCode());
+            default -> defaultValue(method, args);
+        });
+    }
+
+    static SentimentTrendBucketRepository trendBuckets() {
+        Map<List<Object>, SentimentTotals> store = new ConcurrentHashMap<>();
+        return proxy(SentimentTrendBucketRepository.class, (method, args) -> method.getName().equals("upsertIncrement")
+                ? upsert(store, List.of(args[0], args[1], args[2], args[3]), (SentimentTotals) args[4])
+                : defaultValue(method, args));
+    }
+
+    static SurveySentimentReportRepository surveyReports() {
+        Map<Long, SentimentTotals> store = new ConcurrentHashMap<>();
+        return proxy(SurveySentimentReportRepository.class, (method, args) -> method.getName().equals("upsertIncrement")
+                ? upsert(store, (Long) args[0], (SentimentTotals) args[2])
+                : defaultValue(method, args));
+    }
+
+    static ReportVersionRepository reportVersions() {
+        return proxy(ReportVersionRepository.class, (method, args) -> defaultValue(method, args));
+    }
+
+    static ReportSketchRepository reportSketches() {
+        Map<List<Object>, ReportSketch> store = new ConcurrentHashMap<>();
+        return proxy(ReportSketchRepository.class, (method, args) -> switch (method.getName()) {
+            case "insertIgnore" -> {
+                ReportSketchType type = ReportSketchType.valueOf((String) args[2]);
+                store.computeIfAbsent(List.of(args[0], args[1], type, args[3]), key -> ReportSketch.builder()
+                                                                                             .surveyId((Long) args[0])
+                                                                                             .questionId((Long) args[1])
+                                                                                             .sketchType(type)
+                                                                                             .dimension((String) args[3])
+                                                                                             .build());
+                yield null;
+            }
+            case "findForUpdate" -> Optional.ofNullable(store.get(List.of(args[0], args[1], args[2], args[3])));
+            default -> defaultValue(method, args);
+        });
+    }
+
+    /**
+     * INSERT ... ON DUPLICATE KEY UPDATE의 영향받은 행 수(신규 1, 갱신 2)를 흉내 냅니다. 벤치마크에서는 증분 값 자체는 보관하지 않습니다.
+     */
+    private static <K> int upsert(Map<K, SentimentTotals> store, K key, SentimentTotals totals) {
+        return store.putIfAbsent(key, totals) == null ? 1 : 2;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T proxy(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + "(in-memory)";
+                };
+            }
+            return handler.handle(method, args);
+        });
+    }
+
+    private static Object defaultValue(Method method, Object[] args) {
+        String name = method.getName();
+        if ((name.equals("save") || name.equals("saveAll") || name.equals("saveAndFlush")) && args != null) {
+            return args[0];
+        }
+        Class<?> returnType = method.getReturnType();
+        if (returnType == Optional.class) {
+            return Optional.empty();
+        }
+        if (List.class.isAssignableFrom(returnType) || Iterable.class.isAssignableFrom(returnType)) {
+            return Collections.emptyList();
+        }
+        if (returnType == boolean.class) {
+            return false;
+        }
+        if (returnType == int.class) {
+            return 0;
+        }
+        if (returnType == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+}
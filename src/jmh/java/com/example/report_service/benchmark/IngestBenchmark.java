@@ -0,0 +1,93 @@
+package com.example.report_service.benchmark;
+
+import com.example.report_service.dto.internal.AnalyzedAnswer;
+import com.example.report_service.dto.response.AWSComprehendResult;
+import com.example.report_service.repository.SentimentReportBatchRepository;
+import com.example.report_service.service.IngestMetrics;
+import com.example.report_service.service.OverallWriteBehindAggregator;
+import com.example.report_service.service.ReportSketchService;
+import com.example.report_service.service.ReportVersionTracker;
+import com.example.report_service.service.SentimentReportWriter;
+import com.example.report_service.service.SentimentSearchIndexer;
+import com.example.report_service.service.analyzer.KoreanLexiconSentimentAnalyzer;
+import com.example.report_service.service.sketch.AnswerTermTokenizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.PseudoTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 네트워크와 DB 없이 로컬 분석기와 인메모리 리포지토리로 수집 경로(분석 → 개별 보고서 생성 → 전체 보고서 증분 갱신)를 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class IngestBenchmark {
+
+    private static final String LANGUAGE_CODE = "ko";
+    private static final ReportVersionTracker VERSION_TRACKER =
+            new ReportVersionTracker(InMemoryRepositories.reportVersions(), new PseudoTransactionManager(), 1000);
+
+    @Param({"1", "15"})
+    int answersPerRequest;
+
+    KoreanLexiconSentimentAnalyzer analyzer;
+    SentimentReportWriter writer;
+    List<String> texts;
+    final AtomicLong responseSequence = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        analyzer = new KoreanLexiconSentimentAnalyzer();
+        writer = new SentimentReportWriter(
+                InMemoryRepositories.sentimentReports(),
+                new SentimentReportBatchRepository(new JdbcTemplate()),
+                InMemoryRepositories.overallReports(),
+                InMemoryRepositories.trendBuckets(),
+                InMemoryRepositories.surveyReports(),
+                disabledWriteBehind(),
+                VERSION_TRACKER,
+                new ReportSketchService(InMemoryRepositories.reportSketches(), VERSION_TRACKER, new AnswerTermTokenizer(2, 20),
+                        new PseudoTransactionManager(), new SimpleMeterRegistry(), 64, 12, 100),
+                new SentimentSearchIndexer(null, new SimpleMeterRegistry(), false, false, 1, 1, 0, 0, 1, 0),
+                new IngestMetrics(new SimpleMeterRegistry(), ObservationRegistry.NOOP, 16),
+                new TransactionTemplate(new PseudoTransactionManager())
+        );
+        texts = new ArrayList<>(answersPerRequest);
+        for (int i = 0; i < answersPerRequest; i++) {
+            texts.add(BenchmarkFixtures.ANSWERS[i % BenchmarkFixtures.ANSWERS.length]);
+        }
+    }
+
+    @Benchmark
+    public void ingest() {
+        List<AWSComprehendResult> results = analyzer.analyzeAll(texts, LANGUAGE_CODE);
+        List<AnalyzedAnswer> analyzedAnswers = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            analyzedAnswers.add(new AnalyzedAnswer((long) i, texts.get(i), results.get(i)));
+        }
+        long responseId = responseSequence.incrementAndGet();
+        writer.persist(1L, responseId, responseId, analyzedAnswers);
+    }
+
+    private static OverallWriteBehindAggregator disabledWriteBehind() {
+        return new OverallWriteBehindAggregator(
+                InMemoryRepositories.overallReports(),
+                InMemoryRepositories.surveyReports(),
+                InMemoryRepositories.sentimentReports(),
+                InMemoryRepositories.trendBuckets(),
+                VERSION_TRACKER,
+                InMemoryRepositories.writeBehindJournalStates(),
+                new PseudoTransactionManager(),
+                new SimpleMeterRegistry(),
+                false, 500, false, "", false, "benchmark"
+        );
+    }
+}
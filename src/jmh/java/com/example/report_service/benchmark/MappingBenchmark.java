@@ -0,0 +1,64 @@
+package com.example.report_service.benchmark;
+
+import com.amazonaws.services.comprehend.model.BatchDetectSentimentItemResult;
+import com.amazonaws.services.comprehend.model.DetectSentimentResult;
+import com.example.report_service.dto.response.AWSComprehendResult;
+import com.example.report_service.dto.response.OverallSentimentReportDto;
+import com.example.report_service.dto.response.SentimentReportDetailDto;
+import com.example.report_service.entity.OverallSentimentReport;
+import com.example.report_service.entity.SentimentReport;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comprehend 응답 변환과 엔티티 → 응답 DTO 매핑 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    DetectSentimentResult detectSentimentResult;
+    BatchDetectSentimentItemResult batchItemResult;
+    SentimentReport sentimentReport;
+    OverallSentimentReport overallReport;
+
+    @Setup
+    public void setUp() {
+        com.amazonaws.services.comprehend.model.SentimentScore score = new com.amazonaws.services.comprehend.model.SentimentScore()
+                .withPositive(0.71f)
+                .withNegative(0.08f)
+                .withNeutral(0.19f)
+                .withMixed(0.02f);
+        detectSentimentResult = new DetectSentimentResult().withSentiment("POSITIVE").withSentimentScore(score);
+        batchItemResult = new BatchDetectSentimentItemResult().withIndex(0).withSentiment("POSITIVE").withSentimentScore(score);
+
+        sentimentReport = BenchmarkFixtures.sentimentReports(1).get(0);
+        overallReport = OverallSentimentReport.builder()
+                                              .surveyId(1L)
+                                              .questionId(1L)
+                                              .build();
+        BenchmarkFixtures.sentimentReports(100).forEach(overallReport::accumulate);
+    }
+
+    @Benchmark
+    public AWSComprehendResult comprehendResultFromDetect() {
+        return AWSComprehendResult.from(detectSentimentResult);
+    }
+
+    @Benchmark
+    public AWSComprehendResult comprehendResultFromBatchItem() {
+        return AWSComprehendResult.from(batchItemResult);
+    }
+
+    @Benchmark
+    public SentimentReportDetailDto sentimentReportDetailDto() {
+        return SentimentReportDetailDto.from(sentimentReport);
+    }
+
+    @Benchmark
+    public OverallSentimentReportDto overallSentimentReportDto() {
+        return OverallSentimentReportDto.from(overallReport, "설문 제목", "질문 내용", 0L);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.report_service.benchmark;
+
+import com.example.report_service.dto.internal.OverallStats;
+import com.example.report_service.entity.OverallSentimentReport;
+import com.example.report_service.entity.SentimentReport;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 재집계(OverallStats.fromReports)와 증분 누적(OverallSentimentReport.accumulate)의 비용을 보고서 수별로 비교합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class OverallStatsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int reports;
+
+    List<SentimentReport> sentimentReports;
+    SentimentReport latest;
+
+    @Setup
+    public void setUp() {
+        sentimentReports = BenchmarkFixtures.sentimentReports(reports);
+        latest = sentimentReports.get(sentimentReports.size() - 1);
+    }
+
+    @Benchmark
+    public OverallStats fromReports() {
+        return OverallStats.fromReports(sentimentReports);
+    }
+
+    @Benchmark
+    public double incrementalAccumulate() {
+        OverallSentimentReport overall = OverallSentimentReport.builder()
+                                                               .surveyId(1L)
+                                                               .questionId(1L)
+                                                               .build();
+        overall.accumulate(latest);
+        return overall.getAveragePositive();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.report_service.benchmark;
+
+import com.example.report_service.dto.internal.SentimentStats;
+import com.example.report_service.dto.response.AWSComprehendResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SentimentStats.accumulate (toUpperCase 문자열 switch 포함)의 처리량을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SentimentStatsBenchmark {
+
+    @Param({"1", "15", "1000"})
+    int results;
+
+    List<AWSComprehendResult> comprehendResults;
+
+    @Setup
+    public void setUp() {
+        comprehendResults = BenchmarkFixtures.comprehendResults(results);
+    }
+
+    @Benchmark
+    public void accumulate(Blackhole blackhole) {
+        SentimentStats stats = new SentimentStats();
+        for (AWSComprehendResult result : comprehendResults) {
+            stats.accumulate(result);
+        }
+        blackhole.consume(stats.getAvgPositive());
+        blackhole.consume(stats.getPositiveCount());
+    }
+}
@@ -7,12 +7,14 @@ import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(exclude = { SecurityAutoConfiguration.class })
 @EnableDiscoveryClient
 @EnableFeignClients
 @ComponentScan(basePackages = {"com.example.report_service", "com.example.global"})
 @EnableJpaAuditing
+@EnableScheduling
 public class ReportServiceApplication {
 
 	public static void main(String[] args) {
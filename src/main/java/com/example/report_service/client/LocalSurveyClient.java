@@ -0,0 +1,50 @@
+package com.example.report_service.client;
+
+import com.example.report_service.dto.request.SurveyQuestionKey;
+import com.example.report_service.dto.response.QuestionWithSurveyDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 설문 서비스 없이 로컬 실행·테스트할 때 사용하는 SurveyClient 대체 구현입니다.
+ * local 프로파일에서만 등록되며 Feign 클라이언트보다 우선합니다.
+ */
+@Component
+@Primary
+@Profile("local")
+@Slf4j
+public class LocalSurveyClient implements SurveyClient {
+
+    @Override
+    public QuestionWithSurveyDto getQuestionWithSurvey(Long surveyId, Long questionId) {
+        return questionWithSurvey(surveyId, questionId);
+    }
+
+    @Override
+    public List<QuestionWithSurveyDto> getQuestionsWithSurvey(List<SurveyQuestionKey> keys) {
+        log.debug("로컬 설문 클라이언트 일괄 조회 - 요청 건수: {}", keys.size());
+        return keys.stream()
+                   .map(key -> questionWithSurvey(key.surveyId(), key.questionId()))
+                   .toList();
+    }
+
+    private QuestionWithSurveyDto questionWithSurvey(Long surveyId, Long questionId) {
+        LocalDateTime now = LocalDateTime.now();
+        return new QuestionWithSurveyDto(
+                questionId,
+                "로컬 질문 " + questionId,
+                surveyId,
+                "로컬 설문 " + surveyId,
+                "로컬 실행용 설문입니다.",
+                0L,
+                now.minusDays(7),
+                now.plusDays(7),
+                "IN_PROGRESS"
+        );
+    }
+}
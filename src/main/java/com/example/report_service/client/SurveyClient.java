@@ -1,10 +1,15 @@
 package com.example.report_service.client;
 
 import com.example.report_service.client.config.FeignClientConfig;
+import com.example.report_service.dto.request.SurveyQuestionKey;
 import com.example.report_service.dto.response.QuestionWithSurveyDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
 
 @FeignClient(name = "survey-service", url = "${feign.survey-service-url}", configuration = FeignClientConfig.class)
 public interface SurveyClient {
@@ -12,4 +17,7 @@ public interface SurveyClient {
     @GetMapping("/api/surveys/{surveyId}/{questionId}")
     QuestionWithSurveyDto getQuestionWithSurvey(@PathVariable Long surveyId, @PathVariable Long questionId);
 
+    @PostMapping("/api/surveys/questions/bulk")
+    List<QuestionWithSurveyDto> getQuestionsWithSurvey(@RequestBody List<SurveyQuestionKey> keys);
+
 }
@@ -0,0 +1,153 @@
+package com.example.report_service.client.service;
+
+import com.example.report_service.dto.request.SurveyQuestionKey;
+import com.example.report_service.dto.response.QuestionWithSurveyDto;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 설문/질문 메타데이터를 근거리 캐시와 일괄 조회로 해석합니다.
+ * 한 페이지에 필요한 (surveyId, questionId) 키를 중복 제거한 뒤 캐시에 없는 키만 한 번의 원격 호출로 조회하며,
+ * refresh 주기가 지난 항목은 기존 값을 반환하면서 백그라운드에서 갱신합니다(stale-while-revalidate).
+ * 백그라운드 갱신은 짧은 구간(refresh-batch-window-ms) 동안 모은 키를 한 번의 일괄 조회로 처리하며,
+ * 설문 서비스 장애로 기본값이 돌아오면 기존 값을 유지합니다.
+ */
+@Service
+@Slf4j
+public class QuestionMetadataResolver {
+
+    private final SurveyClientService surveyClientService;
+    private final LoadingCache<SurveyQuestionKey, QuestionWithSurveyDto> cache;
+    private final long refreshBatchWindowMillis;
+    private final ConcurrentHashMap<SurveyQuestionKey, CompletableFuture<QuestionWithSurveyDto>> pendingRefreshes = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean(false);
+
+    public QuestionMetadataResolver(
+            SurveyClientService surveyClientService,
+            MeterRegistry meterRegistry,
+            @Value("${report.question-metadata-cache.max-size:10000}") long maxSize,
+            @Value("${report.question-metadata-cache.ttl-minutes:60}") long ttlMinutes,
+            @Value("${report.question-metadata-cache.refresh-minutes:5}") long refreshMinutes,
+            @Value("${report.question-metadata-cache.refresh-batch-window-ms:50}") long refreshBatchWindowMillis
+    ) {
+        this.surveyClientService = surveyClientService;
+        this.refreshBatchWindowMillis = refreshBatchWindowMillis;
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(maxSize)
+                             .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                             .refreshAfterWrite(Duration.ofMinutes(refreshMinutes))
+                             .recordStats()
+                             .build(new BulkLoader());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "question-metadata");
+    }
+
+    public QuestionWithSurveyDto resolve(Long surveyId, Long questionId) {
+        return resolveAll(List.of(new SurveyQuestionKey(surveyId, questionId)))
+                .get(new SurveyQuestionKey(surveyId, questionId));
+    }
+
+    /**
+     * 키 목록을 중복 제거하여 한 번에 해석합니다. 캐시 적중 시 원격 호출이 발생하지 않습니다.
+     */
+    public Map<SurveyQuestionKey, QuestionWithSurveyDto> resolveAll(Collection<SurveyQuestionKey> keys) {
+        Set<SurveyQuestionKey> distinctKeys = new LinkedHashSet<>(keys);
+        Map<SurveyQuestionKey, QuestionWithSurveyDto> resolved = cache.getAll(distinctKeys);
+
+        // 장애 시 반환된 기본값은 캐시에 남기지 않아 다음 요청에서 다시 조회되도록 함
+        resolved.forEach((key, dto) -> {
+            if (isFallback(dto)) {
+                cache.invalidate(key);
+            }
+        });
+        return resolved;
+    }
+
+    /**
+     * 설문 서비스 장애로 반환된 기본값인지 확인합니다.
+     */
+    public static boolean isFallback(QuestionWithSurveyDto dto) {
+        return SurveyClientService.FALLBACK_STATUS.equals(dto.status());
+    }
+
+    private class BulkLoader implements CacheLoader<SurveyQuestionKey, QuestionWithSurveyDto> {
+
+        @Override
+        public QuestionWithSurveyDto load(SurveyQuestionKey key) {
+            return surveyClientService.getQuestionWithSurvey(key.surveyId(), key.questionId());
+        }
+
+        @Override
+        public Map<SurveyQuestionKey, QuestionWithSurveyDto> loadAll(Set<? extends SurveyQuestionKey> keys) {
+            List<SurveyQuestionKey> requested = new ArrayList<>(keys);
+            log.debug("설문/질문 메타데이터 일괄 조회 - 요청 건수: {}", requested.size());
+            Map<SurveyQuestionKey, QuestionWithSurveyDto> loaded = surveyClientService.getQuestionsWithSurvey(requested)
+                                                                                      .stream()
+                                                                                      .collect(Collectors.toMap(
+                                                                                              dto -> new SurveyQuestionKey(dto.surveyId(), dto.questionId()),
+                                                                                              Function.identity(),
+                                                                                              (first, second) -> first
+                                                                                      ));
+            // 응답에 누락된 키는 기본값으로 채워 호출자가 null을 받지 않도록 함
+            requested.forEach(key -> loaded.computeIfAbsent(key,
+                    missing -> SurveyClientService.defaultQuestionWithSurvey(missing.surveyId(), missing.questionId())));
+            return loaded;
+        }
+
+        /**
+         * refresh 주기가 지난 키를 대기열에 넣고, 구간 안에 모인 키를 한 번의 일괄 조회로 갱신합니다.
+         * 새 값이 장애 시 기본값이면 기존 값을 유지하여 장애 중에도 마지막으로 조회한 메타데이터를 계속 반환합니다.
+         */
+        @Override
+        public CompletableFuture<QuestionWithSurveyDto> asyncReload(SurveyQuestionKey key, QuestionWithSurveyDto oldValue, Executor executor) {
+            CompletableFuture<QuestionWithSurveyDto> refreshed = pendingRefreshes.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (refreshScheduled.compareAndSet(false, true)) {
+                CompletableFuture.delayedExecutor(refreshBatchWindowMillis, TimeUnit.MILLISECONDS, executor)
+                                 .execute(this::refreshPending);
+            }
+            return refreshed.thenApply(fresh -> isFallback(fresh) ? oldValue : fresh);
+        }
+
+        private void refreshPending() {
+            refreshScheduled.set(false);
+            Map<SurveyQuestionKey, CompletableFuture<QuestionWithSurveyDto>> batch = new LinkedHashMap<>();
+            for (SurveyQuestionKey key : pendingRefreshes.keySet()) {
+                CompletableFuture<QuestionWithSurveyDto> future = pendingRefreshes.remove(key);
+                if (future != null) {
+                    batch.put(key, future);
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                Map<SurveyQuestionKey, QuestionWithSurveyDto> loaded = loadAll(batch.keySet());
+                batch.forEach((key, future) -> future.complete(loaded.get(key)));
+            } catch (RuntimeException e) {
+                log.warn("설문/질문 메타데이터 백그라운드 갱신 실패 - {}건은 기존 값을 유지합니다.", batch.size(), e);
+                batch.values().forEach(future -> future.completeExceptionally(e));
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.report_service.client.service;
 
 import com.example.report_service.client.SurveyClient;
+import com.example.report_service.dto.request.SurveyQuestionKey;
 import com.example.report_service.dto.response.QuestionWithSurveyDto;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
@@ -9,12 +10,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SurveyClientService {
 
+    public static final String FALLBACK_STATUS = "UNKNOWN";
+
     private final SurveyClient surveyClient;
 
     @CircuitBreaker(name = "surveyService", fallbackMethod = "fallbackGetQuestionWithSurvey")
@@ -23,9 +27,30 @@ public class SurveyClientService {
         return surveyClient.getQuestionWithSurvey(surveyId, questionId);
     }
 
+    @CircuitBreaker(name = "surveyService", fallbackMethod = "fallbackGetQuestionsWithSurvey")
+    @Retry(name = "surveyService", fallbackMethod = "fallbackGetQuestionsWithSurvey")
+    public List<QuestionWithSurveyDto> getQuestionsWithSurvey(List<SurveyQuestionKey> keys) {
+        return surveyClient.getQuestionsWithSurvey(keys);
+    }
+
+    public List<QuestionWithSurveyDto> fallbackGetQuestionsWithSurvey(List<SurveyQuestionKey> keys, Throwable throwable) {
+        log.error("SurveyClient 일괄 조회 실패. 요청 건수: {}. 기본값을 반환합니다.", keys.size(), throwable);
+
+        return keys.stream()
+                   .map(key -> defaultQuestionWithSurvey(key.surveyId(), key.questionId()))
+                   .toList();
+    }
+
     public QuestionWithSurveyDto fallbackGetQuestionWithSurvey(Long surveyId, Long questionId, Throwable throwable) {
         log.error("SurveyClient 호출 실패. surveyId: {}, questionId: {}. 기본값을 반환합니다.", surveyId, questionId, throwable);
 
+        return defaultQuestionWithSurvey(surveyId, questionId);
+    }
+
+    /**
+     * 설문 서비스 장애 시 사용하는 기본 질문 정보입니다. 상태는 UNKNOWN으로 표시됩니다.
+     */
+    public static QuestionWithSurveyDto defaultQuestionWithSurvey(Long surveyId, Long questionId) {
         return new QuestionWithSurveyDto(
                 questionId,
                 "기본 질문 내용을 확인할 수 없습니다.",
@@ -35,7 +60,7 @@ public class SurveyClientService {
                 0L,
                 LocalDateTime.now(),
                 LocalDateTime.now(),
-                "UNKNOWN"
+                FALLBACK_STATUS
         );
     }
 }
@@ -0,0 +1,35 @@
+package com.example.report_service.controller;
+
+import com.example.report_service.dto.request.AggregateRequest;
+import com.example.report_service.messaging.IngestionConsumer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 브로커가 켜져 있을 때만 등록되므로 꺼져 있으면 /events 는 노출되지 않음
+@RestController
+@RequestMapping("/api/reports")
+@ConditionalOnProperty(prefix = "report.ingest.broker", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class IngestionEventController {
+
+    private final IngestionConsumer ingestionConsumer;
+
+    // 브로커에 발행만 하고 202 응답, 처리는 파티션별 소비 스레드가 배치로 수행
+    @PostMapping("/events")
+    public ResponseEntity<Void> publishIngestionEvent(@RequestBody AggregateRequest request) {
+        if (!ingestionConsumer.publish(request)) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                 .header(HttpHeaders.RETRY_AFTER, "5")
+                                 .build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+}
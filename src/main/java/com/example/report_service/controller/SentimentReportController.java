@@ -1,16 +1,49 @@
 package com.example.report_service.controller;
 
+import com.example.report_service.dto.internal.CacheableResult;
 import com.example.report_service.dto.request.AggregateRequest;
+import com.example.report_service.dto.response.BulkIngestResultDto;
+import com.example.report_service.dto.response.IngestJobDto;
 import com.example.report_service.dto.response.OverallSentimentReportDto;
 import com.example.report_service.dto.response.OverallSentimentReportSummaryDto;
+import com.example.report_service.dto.response.SentimentReportDetailDto;
 import com.example.report_service.dto.response.SentimentReportDto;
 import com.example.report_service.dto.response.SentimentReportSingleDto;
+import com.example.report_service.dto.response.ScoreDistributionDto;
+import com.example.report_service.dto.response.SentimentAggregationDto;
+import com.example.report_service.dto.response.SentimentReportSliceDto;
+import com.example.report_service.dto.response.SentimentSearchResultDto;
+import com.example.report_service.dto.response.SentimentTrendDto;
+import com.example.report_service.dto.response.SurveySentimentReportDto;
+import com.example.report_service.dto.response.TopTermsDto;
+import com.example.report_service.entity.TrendGranularity;
+import com.example.report_service.service.BulkIngestService;
+import com.example.report_service.service.IngestJobService;
+import com.example.report_service.service.ReportReadCache;
+import com.example.report_service.service.ReportSketchService;
+import com.example.report_service.service.SentimentReportExportService;
 import com.example.report_service.service.SentimentReportService;
+import com.example.report_service.service.SentimentSearchService;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/reports")
@@ -18,11 +51,44 @@ import org.springframework.web.bind.annotation.*;
 public class SentimentReportController {
 
     private final SentimentReportService reportService;
+    private final IngestJobService ingestJobService;
+    private final SentimentReportExportService exportService;
+    private final BulkIngestService bulkIngestService;
+    private final SentimentSearchService searchService;
+    private final ReportSketchService reportSketchService;
+    private final ReportReadCache readCache;
+    // 클라이언트가 매번 ETag로 재검증하도록 함 (변경이 없으면 304)
+    private final CacheControl reportCacheControl = CacheControl.noCache().cachePrivate();
 
+    // 동기 모드는 응답의 개별 감성 보고서 목록을 반환 (재전송된 응답이면 저장된 보고서를 재분석 없이 반환)
     @PostMapping("/analyze")
-    public ResponseEntity<Void> analyzeAndAggregateReport(@RequestBody AggregateRequest request) {
-        reportService.aggregateAndGenerateReport(request);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<?> analyzeAndAggregateReport(@RequestBody AggregateRequest request) {
+        if (!ingestJobService.isAsyncEnabled()) {
+            List<SentimentReportDetailDto> sentimentReportDetailDtos = reportService.aggregateAndGenerateReport(request);
+            return ResponseEntity.ok(sentimentReportDetailDtos);
+        }
+        if (ingestJobService.isQueueFull()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                 .header(HttpHeaders.RETRY_AFTER, "5")
+                                 .build();
+        }
+        IngestJobDto job = ingestJobService.enqueue(request);
+        return ResponseEntity.accepted()
+                             .location(URI.create("/api/reports/jobs/" + job.jobId()))
+                             .body(job);
+    }
+
+    // AggregateRequest를 한 줄에 하나씩 담은 NDJSON 스트림을 청크 단위로 분석·저장
+    @PostMapping(value = "/analyze/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkIngestResultDto> analyzeAndAggregateBulk(InputStream body) throws IOException {
+        BulkIngestResultDto bulkIngestResultDto = bulkIngestService.ingest(body);
+        return ResponseEntity.ok(bulkIngestResultDto);
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<IngestJobDto> getIngestJob(@PathVariable Long jobId) {
+        IngestJobDto ingestJobDto = ingestJobService.getJob(jobId);
+        return ResponseEntity.ok(ingestJobDto);
     }
 
     @GetMapping("/sentiments/{surveyId}/{questionId}")
@@ -33,18 +99,115 @@ public class SentimentReportController {
         return ResponseEntity.ok(sentimentReportDto);
     }
 
+    // cursor 파라미터가 있으면(첫 페이지는 빈 값) 키셋 페이지네이션으로 조회
+    @GetMapping(value = "/sentiments/{surveyId}/{questionId}", params = "cursor")
+    public ResponseEntity<SentimentReportSliceDto> getSentimentReportSlice(@PathVariable Long surveyId,
+                                                                           @PathVariable Long questionId,
+                                                                           @RequestParam String cursor,
+                                                                           @RequestParam(defaultValue = "20") int size) {
+        SentimentReportSliceDto sentimentReportSliceDto =
+                reportService.getSentimentReportSliceBySurveyAndQuestion(surveyId, questionId, cursor, size);
+        return ResponseEntity.ok(sentimentReportSliceDto);
+    }
+
+    @GetMapping("/trends/{surveyId}/{questionId}")
+    public ResponseEntity<SentimentTrendDto> getSentimentTrend(
+            @PathVariable Long surveyId,
+            @PathVariable Long questionId,
+            @RequestParam(defaultValue = "DAY") TrendGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        SentimentTrendDto sentimentTrendDto = reportService.getSentimentTrend(surveyId, questionId, granularity, from, to);
+        return ResponseEntity.ok(sentimentTrendDto);
+    }
+
+    // 질문의 상위 키워드 (sentiment 생략 시 모든 감성 병합)
+    @GetMapping("/terms/{surveyId}/{questionId}")
+    public ResponseEntity<TopTermsDto> getTopTerms(@PathVariable Long surveyId,
+                                                   @PathVariable Long questionId,
+                                                   @RequestParam(required = false) String sentiment,
+                                                   @RequestParam(defaultValue = "10") int limit) {
+        TopTermsDto topTermsDto = reportSketchService.getTopTerms(surveyId, questionId, sentiment, limit);
+        return ResponseEntity.ok(topTermsDto);
+    }
+
+    // 질문의 감성 점수 분위수와 히스토그램
+    @GetMapping("/distributions/{surveyId}/{questionId}")
+    public ResponseEntity<ScoreDistributionDto> getScoreDistribution(@PathVariable Long surveyId,
+                                                                     @PathVariable Long questionId,
+                                                                     @RequestParam(defaultValue = "10") int bins) {
+        ScoreDistributionDto scoreDistributionDto = reportSketchService.getScoreDistribution(surveyId, questionId, bins);
+        return ResponseEntity.ok(scoreDistributionDto);
+    }
+
+    // 설문의 모든 질문을 병합한 감성 점수 분위수와 히스토그램
+    @GetMapping("/distributions/{surveyId}")
+    public ResponseEntity<ScoreDistributionDto> getSurveyScoreDistribution(@PathVariable Long surveyId,
+                                                                           @RequestParam(defaultValue = "10") int bins) {
+        ScoreDistributionDto scoreDistributionDto = reportSketchService.getScoreDistribution(surveyId, null, bins);
+        return ResponseEntity.ok(scoreDistributionDto);
+    }
+
+    // Elasticsearch 색인에서 답변 원문 전문 검색 (감성·질문으로 필터)
+    @GetMapping("/search/{surveyId}")
+    public ResponseEntity<SentimentSearchResultDto> searchSentimentReports(
+            @PathVariable Long surveyId,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String sentiment,
+            @RequestParam(required = false) Long questionId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        SentimentSearchResultDto sentimentSearchResultDto = searchService.search(surveyId, questionId, q, sentiment, page, size);
+        return ResponseEntity.ok(sentimentSearchResultDto);
+    }
+
+    // Elasticsearch 색인에서 감성별 건수와 기간별 감성 분포 집계
+    @GetMapping("/search/{surveyId}/aggregations")
+    public ResponseEntity<SentimentAggregationDto> aggregateSentimentReports(
+            @PathVariable Long surveyId,
+            @RequestParam(required = false) Long questionId,
+            @RequestParam(defaultValue = "DAY") TrendGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        SentimentAggregationDto sentimentAggregationDto = searchService.aggregate(surveyId, questionId, granularity, from, to);
+        return ResponseEntity.ok(sentimentAggregationDto);
+    }
+
+    // 설문(또는 질문) 전체 개별 감성 보고서를 NDJSON/CSV로 스트리밍
+    @GetMapping("/exports/{surveyId}")
+    public ResponseEntity<StreamingResponseBody> exportSentimentReports(
+            @PathVariable Long surveyId,
+            @RequestParam(required = false) Long questionId,
+            @RequestParam(defaultValue = "NDJSON") SentimentReportExportService.Format format) {
+        boolean csv = format == SentimentReportExportService.Format.CSV;
+        String filename = "sentiment-reports-" + surveyId + (questionId == null ? "" : "-" + questionId) + (csv ? ".csv" : ".ndjson");
+        StreamingResponseBody body = outputStream -> exportService.export(surveyId, questionId, format, outputStream);
+        return ResponseEntity.ok()
+                             .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                             .body(body);
+    }
+
     @GetMapping("/overall/{overallReportId}")
-    public ResponseEntity<OverallSentimentReportDto> getOverallReport(@PathVariable Long overallReportId) {
-        OverallSentimentReportDto overallSentimentReportDto = reportService.getOverallReportById(overallReportId);
-        return ResponseEntity.ok(overallSentimentReportDto);
+    public ResponseEntity<OverallSentimentReportDto> getOverallReport(@PathVariable Long overallReportId, WebRequest webRequest) {
+        Long surveyId = readCache.surveyIdOfOverall(overallReportId, reportService::getSurveyIdOfOverallReport);
+        return cached(webRequest, "overall", surveyId, overallReportId,
+                () -> reportService.getOverallReportById(overallReportId));
     }
 
     @GetMapping("/overalls/{surveyId}")
     public ResponseEntity<Page<OverallSentimentReportSummaryDto>> getAllOverallSentimentReportBySurvey(
             @PathVariable Long surveyId,
-            @RequestParam(defaultValue = "0") int page) {
-        Page<OverallSentimentReportSummaryDto> result = reportService.getAllOverallReportBySurvey(surveyId, page);
-        return ResponseEntity.ok(result);
+            @RequestParam(defaultValue = "0") int page,
+            WebRequest webRequest) {
+        return cached(webRequest, "overalls", surveyId, page,
+                () -> reportService.getAllOverallReportBySurvey(surveyId, page));
+    }
+
+    @GetMapping("/surveys/{surveyId}/overall")
+    public ResponseEntity<SurveySentimentReportDto> getSurveySentimentReport(@PathVariable Long surveyId, WebRequest webRequest) {
+        return cached(webRequest, "survey", surveyId, 0,
+                () -> CacheableResult.cacheable(reportService.getSurveyReport(surveyId)));
     }
 
     @GetMapping("/sentiment/{sentimentId}")
@@ -52,4 +215,29 @@ public class SentimentReportController {
         SentimentReportSingleDto sentimentReportSingleDto = reportService.getSentimentReport(sentimentId);
         return ResponseEntity.ok(sentimentReportSingleDto);
     }
+
+    /**
+     * 설문의 보고서 버전으로 만든 ETag가 If-None-Match와 같으면 304를 반환하고(DB·원격 호출 없음),
+     * 아니면 버전별 조회 캐시에서 응답을 읽습니다. 캐시할 수 없는 응답(기본 메타데이터 포함)에는 ETag를 붙이지 않습니다.
+     */
+    private <T> ResponseEntity<T> cached(WebRequest webRequest, String kind, Long surveyId, Object argument,
+                                         Supplier<CacheableResult<T>> loader) {
+        String etag = readCache.etag(kind, surveyId, argument);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                 .eTag(etag)
+                                 .cacheControl(reportCacheControl)
+                                 .build();
+        }
+        CacheableResult<T> result = readCache.get(kind, surveyId, argument, loader);
+        if (!result.cacheable()) {
+            return ResponseEntity.ok()
+                                 .cacheControl(CacheControl.noStore())
+                                 .body(result.value());
+        }
+        return ResponseEntity.ok()
+                             .eTag(etag)
+                             .cacheControl(reportCacheControl)
+                             .body(result.value());
+    }
 }
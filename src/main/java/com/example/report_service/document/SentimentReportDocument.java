@@ -0,0 +1,79 @@
+package com.example.report_service.document;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.Setting;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색·분석용 Elasticsearch 문서입니다. 답변 하나(응답 ID, 질문 ID)당 문서 하나이며, 재색인해도 같은 ID로 덮어씁니다.
+ * 답변 원문은 nori 형태소 분석기로 색인하므로 클러스터에 analysis-nori 플러그인이 설치되어 있어야 합니다.
+ */
+@Document(indexName = SentimentReportDocument.INDEX_NAME, createIndex = false)
+@Setting(settingPath = "elasticsearch/sentiment-reports-settings.json")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SentimentReportDocument {
+
+    public static final String INDEX_NAME = "sentiment-reports";
+
+    @Id
+    private String id;
+
+    @Field(type = FieldType.Long)
+    private Long surveyId;
+
+    @Field(type = FieldType.Long)
+    private Long questionId;
+
+    @Field(type = FieldType.Long)
+    private Long responseId;
+
+    @Field(type = FieldType.Long)
+    private Long userId;
+
+    @Field(type = FieldType.Keyword)
+    private String sentiment;
+
+    @Field(type = FieldType.Double)
+    private double positive;
+    @Field(type = FieldType.Double)
+    private double negative;
+    @Field(type = FieldType.Double)
+    private double neutral;
+    @Field(type = FieldType.Double)
+    private double mixed;
+
+    // 선택적으로 색인하는 답변 원문 (전문 검색 대상, "배송"으로 "배송이"도 찾도록 한국어 형태소 단위로 분석)
+    @Field(type = FieldType.Text, analyzer = "korean")
+    private String answerText;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_millis)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public SentimentReportDocument(Long surveyId, Long questionId, Long responseId, Long userId, String sentiment,
+                                   double positive, double negative, double neutral, double mixed,
+                                   String answerText, LocalDateTime createdAt) {
+        this.id = responseId + "-" + questionId;
+        this.surveyId = surveyId;
+        this.questionId = questionId;
+        this.responseId = responseId;
+        this.userId = userId;
+        this.sentiment = sentiment;
+        this.positive = positive;
+        this.negative = negative;
+        this.neutral = neutral;
+        this.mixed = mixed;
+        this.answerText = answerText;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.report_service.dto.internal;
+
+import com.example.report_service.dto.response.AWSComprehendResult;
+
+/**
+ * 분석 단계에서 만들어져 저장 단계로 전달되는 답변 한 건의 감성 분석 결과입니다.
+ */
+public record AnalyzedAnswer(
+        Long questionId,
+        String text,
+        AWSComprehendResult result
+) {}
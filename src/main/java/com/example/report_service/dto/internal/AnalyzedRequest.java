@@ -0,0 +1,13 @@
+package com.example.report_service.dto.internal;
+
+import java.util.List;
+
+/**
+ * 감성 분석이 끝난 AggregateRequest 한 건입니다. 벌크 수집에서 청크 단위 저장에 사용합니다.
+ */
+public record AnalyzedRequest(
+        Long surveyId,
+        Long responseId,
+        Long userId,
+        List<AnalyzedAnswer> answers
+) {}
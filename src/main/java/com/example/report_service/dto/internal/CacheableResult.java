@@ -0,0 +1,14 @@
+package com.example.report_service.dto.internal;
+
+/**
+ * 조회 결과와 캐시 가능 여부입니다. 설문 서비스 장애로 기본 메타데이터가 섞인 결과는 캐시하거나 ETag를 붙이지 않습니다.
+ */
+public record CacheableResult<T>(
+        T value,
+        boolean cacheable
+) {
+
+    public static <T> CacheableResult<T> cacheable(T value) {
+        return new CacheableResult<>(value, true);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.report_service.dto.internal;
+
+import com.example.global.exception.type.NotFoundException;
+import com.example.report_service.entity.SentimentReport;
+import com.example.report_service.exception.ReportExceptionType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 개별 감성 보고서 키셋 페이지네이션의 위치(createdAt, id)입니다.
+ * 클라이언트에는 Base64(URL-safe) 문자열로 인코딩된 불투명 커서로만 노출합니다.
+ */
+public record SentimentReportCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final String SEPARATOR = "|";
+
+    public static SentimentReportCursor of(SentimentReport entity) {
+        return new SentimentReportCursor(entity.getCreatedAt(), entity.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SentimentReportCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new SentimentReportCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new NotFoundException(ReportExceptionType.INVALID_CURSOR);
+        }
+    }
+}
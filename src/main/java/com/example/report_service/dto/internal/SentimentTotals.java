@@ -0,0 +1,56 @@
+package com.example.report_service.dto.internal;
+
+import com.example.report_service.entity.SentimentReport;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+
+/**
+ * 개별 보고서들의 감성 건수와 점수 합(평균 × 응답 수)의 증분입니다. 집계 테이블의 원자적 upsert 파라미터로 사용합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SentimentTotals {
+
+    private int totalResponses, positiveCount, negativeCount, neutralCount, mixedCount;
+    private double sumPositive, sumNegative, sumNeutral, sumMixed;
+
+    public static SentimentTotals of(Collection<SentimentReport> reports) {
+        SentimentTotals totals = new SentimentTotals();
+        reports.forEach(totals::add);
+        return totals;
+    }
+
+    public void add(SentimentReport report) {
+        int total = report.getTotalResponses();
+        totalResponses += total;
+        positiveCount += report.getPositiveCount();
+        negativeCount += report.getNegativeCount();
+        neutralCount += report.getNeutralCount();
+        mixedCount += report.getMixedCount();
+        sumPositive += report.getAveragePositive() * total;
+        sumNegative += report.getAverageNegative() * total;
+        sumNeutral += report.getAverageNeutral() * total;
+        sumMixed += report.getAverageMixed() * total;
+    }
+
+    /**
+     * 두 증분을 합친 새 값을 반환합니다.
+     */
+    public SentimentTotals plus(SentimentTotals other) {
+        return new SentimentTotals(
+                totalResponses + other.totalResponses,
+                positiveCount + other.positiveCount,
+                negativeCount + other.negativeCount,
+                neutralCount + other.neutralCount,
+                mixedCount + other.mixedCount,
+                sumPositive + other.sumPositive,
+                sumNegative + other.sumNegative,
+                sumNeutral + other.sumNeutral,
+                sumMixed + other.sumMixed
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.report_service.dto.internal;
+
+/**
+ * 저장된 개별 보고서의 ID와 (응답 ID, 질문 ID)입니다. 다른 레플리카가 저장한 키를 ID 순서로 따라잡을 때 사용합니다.
+ */
+public record StoredReportKey(
+        Long id,
+        Long responseId,
+        Long questionId
+) {}
@@ -0,0 +1,6 @@
+package com.example.report_service.dto.request;
+
+public record ResponseQuestionKey(
+        Long responseId,
+        Long questionId
+) {}
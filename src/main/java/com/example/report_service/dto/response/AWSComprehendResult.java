@@ -1,5 +1,6 @@
 package com.example.report_service.dto.response;
 
+import com.amazonaws.services.comprehend.model.BatchDetectSentimentItemResult;
 import com.amazonaws.services.comprehend.model.DetectSentimentResult;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -19,4 +20,14 @@ public class AWSComprehendResult {
         );
         return new AWSComprehendResult(result.getSentiment(), score);
     }
+
+    public static AWSComprehendResult from(BatchDetectSentimentItemResult result) {
+        SentimentScore score = new SentimentScore(
+                result.getSentimentScore().getPositive(),
+                result.getSentimentScore().getNegative(),
+                result.getSentimentScore().getNeutral(),
+                result.getSentimentScore().getMixed()
+        );
+        return new AWSComprehendResult(result.getSentiment(), score);
+    }
 }
@@ -0,0 +1,9 @@
+package com.example.report_service.dto.response;
+
+public record BulkIngestResultDto(
+        long requests,
+        long answers,
+        // 이미 저장되어(또는 같은 스트림에서 반복되어) 분석·저장을 생략한 답변 수
+        long duplicateAnswers,
+        int chunks
+) {}
@@ -0,0 +1,30 @@
+package com.example.report_service.dto.response;
+
+import com.example.report_service.entity.IngestJob;
+import com.example.report_service.entity.IngestJobStatus;
+
+import java.time.LocalDateTime;
+
+public record IngestJobDto(
+        Long jobId,
+        Long surveyId,
+        Long responseId,
+        IngestJobStatus status,
+        int attempts,
+        String lastError,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static IngestJobDto from(IngestJob entity) {
+        return new IngestJobDto(
+                entity.getId(),
+                entity.getSurveyId(),
+                entity.getResponseId(),
+                entity.getStatus(),
+                entity.getAttempts(),
+                entity.getLastError(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+}
@@ -19,10 +19,13 @@ public record OverallSentimentReportDto(
         double averageNegative,
         double averageNeutral,
         double averageMixed,
+        // HyperLogLog 추정치 (상대 표준 오차 약 1.6%), 재전송·중복 제출은 한 번만 셈
+        long distinctRespondents,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
-    public static OverallSentimentReportDto from(OverallSentimentReport entity, String title, String questionText) {
+    public static OverallSentimentReportDto from(OverallSentimentReport entity, String title, String questionText,
+                                                 long distinctRespondents) {
         return new OverallSentimentReportDto(
                 entity.getId(),
                 entity.getSurveyId(),
@@ -38,6 +41,7 @@ public record OverallSentimentReportDto(
                 entity.getAverageNegative(),
                 entity.getAverageNeutral(),
                 entity.getAverageMixed(),
+                distinctRespondents,
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
         );
@@ -0,0 +1,15 @@
+package com.example.report_service.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+public record ScoreDimensionDistributionDto(
+        // POSITIVE, NEGATIVE, NEUTRAL, MIXED 점수
+        String dimension,
+        long count,
+        double min,
+        double max,
+        // 예: "p50" -> 0.42
+        Map<String, Double> percentiles,
+        List<ScoreHistogramBinDto> histogram
+) {}
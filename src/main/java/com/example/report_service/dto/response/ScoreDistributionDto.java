@@ -0,0 +1,10 @@
+package com.example.report_service.dto.response;
+
+import java.util.List;
+
+public record ScoreDistributionDto(
+        Long surveyId,
+        // null이면 설문의 모든 질문을 병합한 분포
+        Long questionId,
+        List<ScoreDimensionDistributionDto> dimensions
+) {}
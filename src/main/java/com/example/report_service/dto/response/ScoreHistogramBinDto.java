@@ -0,0 +1,7 @@
+package com.example.report_service.dto.response;
+
+public record ScoreHistogramBinDto(
+        double lower,
+        double upper,
+        long count
+) {}
@@ -0,0 +1,18 @@
+package com.example.report_service.dto.response;
+
+import com.example.report_service.entity.TrendGranularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public record SentimentAggregationDto(
+        Long surveyId,
+        Long questionId,
+        TrendGranularity granularity,
+        LocalDateTime from,
+        LocalDateTime to,
+        long totalResponses,
+        Map<String, Long> sentimentCounts,
+        List<SentimentHistogramBucketDto> histogram
+) {}
@@ -0,0 +1,10 @@
+package com.example.report_service.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record SentimentHistogramBucketDto(
+        LocalDateTime bucketStart,
+        long totalResponses,
+        Map<String, Long> sentimentCounts
+) {}
@@ -0,0 +1,79 @@
+package com.example.report_service.dto.response;
+
+import com.example.report_service.entity.SentimentReport;
+
+import java.time.LocalDateTime;
+
+public record SentimentReportExportRow(
+        Long sentimentId,
+        Long surveyId,
+        String surveyTitle,
+        Long questionId,
+        String questionText,
+        Long responseId,
+        int totalResponses,
+        int positiveCount,
+        int negativeCount,
+        int neutralCount,
+        int mixedCount,
+        double averagePositive,
+        double averageNegative,
+        double averageNeutral,
+        double averageMixed,
+        LocalDateTime createdAt
+) {
+    public static final String CSV_HEADER = "sentimentId,surveyId,surveyTitle,questionId,questionText,responseId,totalResponses,"
+            + "positiveCount,negativeCount,neutralCount,mixedCount,averagePositive,averageNegative,averageNeutral,averageMixed,createdAt";
+
+    public static SentimentReportExportRow from(SentimentReport entity, QuestionWithSurveyDto questionWithSurveyDto) {
+        return new SentimentReportExportRow(
+                entity.getId(),
+                entity.getSurveyId(),
+                questionWithSurveyDto.title(),
+                entity.getQuestionId(),
+                questionWithSurveyDto.questionText(),
+                entity.getResponseId(),
+                entity.getTotalResponses(),
+                entity.getPositiveCount(),
+                entity.getNegativeCount(),
+                entity.getNeutralCount(),
+                entity.getMixedCount(),
+                entity.getAveragePositive(),
+                entity.getAverageNegative(),
+                entity.getAverageNeutral(),
+                entity.getAverageMixed(),
+                entity.getCreatedAt()
+        );
+    }
+
+    public String toCsvLine() {
+        return String.join(",",
+                String.valueOf(sentimentId),
+                String.valueOf(surveyId),
+                csvEscape(surveyTitle),
+                String.valueOf(questionId),
+                csvEscape(questionText),
+                String.valueOf(responseId),
+                String.valueOf(totalResponses),
+                String.valueOf(positiveCount),
+                String.valueOf(negativeCount),
+                String.valueOf(neutralCount),
+                String.valueOf(mixedCount),
+                String.valueOf(averagePositive),
+                String.valueOf(averageNegative),
+                String.valueOf(averageNeutral),
+                String.valueOf(averageMixed),
+                String.valueOf(createdAt)
+        );
+    }
+
+    private static String csvEscape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.report_service.dto.response;
+
+import java.util.List;
+
+public record SentimentReportSliceDto(
+        QuestionWithSurveyDto questionWithSurveyDto,
+        List<SentimentReportDetailDto> reports,
+        boolean hasNext,
+        String nextCursor
+) {}
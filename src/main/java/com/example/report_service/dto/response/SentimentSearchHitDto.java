@@ -0,0 +1,37 @@
+package com.example.report_service.dto.response;
+
+import com.example.report_service.document.SentimentReportDocument;
+import org.springframework.data.elasticsearch.core.SearchHit;
+
+import java.time.LocalDateTime;
+
+public record SentimentSearchHitDto(
+        Long questionId,
+        Long responseId,
+        Long userId,
+        String sentiment,
+        double positive,
+        double negative,
+        double neutral,
+        double mixed,
+        String answerText,
+        LocalDateTime createdAt,
+        float score
+) {
+    public static SentimentSearchHitDto from(SearchHit<SentimentReportDocument> hit) {
+        SentimentReportDocument document = hit.getContent();
+        return new SentimentSearchHitDto(
+                document.getQuestionId(),
+                document.getResponseId(),
+                document.getUserId(),
+                document.getSentiment(),
+                document.getPositive(),
+                document.getNegative(),
+                document.getNeutral(),
+                document.getMixed(),
+                document.getAnswerText(),
+                document.getCreatedAt(),
+                hit.getScore()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.report_service.dto.response;
+
+import java.util.List;
+
+public record SentimentSearchResultDto(
+        Long surveyId,
+        long totalHits,
+        int page,
+        int size,
+        List<SentimentSearchHitDto> hits
+) {}
@@ -0,0 +1,14 @@
+package com.example.report_service.dto.response;
+
+import com.example.report_service.entity.TrendGranularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record SentimentTrendDto(
+        QuestionWithSurveyDto questionWithSurveyDto,
+        TrendGranularity granularity,
+        LocalDateTime from,
+        LocalDateTime to,
+        List<SentimentTrendPointDto> points
+) {}
@@ -0,0 +1,33 @@
+package com.example.report_service.dto.response;
+
+import com.example.report_service.entity.SentimentTrendBucket;
+
+import java.time.LocalDateTime;
+
+public record SentimentTrendPointDto(
+        LocalDateTime bucketStart,
+        int totalResponses,
+        int positiveCount,
+        int negativeCount,
+        int neutralCount,
+        int mixedCount,
+        double averagePositive,
+        double averageNegative,
+        double averageNeutral,
+        double averageMixed
+) {
+    public static SentimentTrendPointDto from(SentimentTrendBucket entity) {
+        return new SentimentTrendPointDto(
+                entity.getBucketStart(),
+                entity.getTotalResponses(),
+                entity.getPositiveCount(),
+                entity.getNegativeCount(),
+                entity.getNeutralCount(),
+                entity.getMixedCount(),
+                entity.getAveragePositive(),
+                entity.getAverageNegative(),
+                entity.getAverageNeutral(),
+                entity.getAverageMixed()
+        );
+    }
+}
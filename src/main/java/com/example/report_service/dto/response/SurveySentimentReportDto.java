@@ -0,0 +1,44 @@
+package com.example.report_service.dto.response;
+
+import com.example.report_service.entity.SurveySentimentReport;
+
+import java.time.LocalDateTime;
+
+public record SurveySentimentReportDto(
+        Long surveyReportId,
+        Long surveyId,
+        int questionCount,
+        int totalResponses,
+        int positiveCount,
+        int negativeCount,
+        int neutralCount,
+        int mixedCount,
+        double averagePositive,
+        double averageNegative,
+        double averageNeutral,
+        double averageMixed,
+        // HyperLogLog 추정치 (상대 표준 오차 약 1.6%), 여러 질문에 답한 사용자도 한 번만 셈
+        long distinctRespondents,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static SurveySentimentReportDto from(SurveySentimentReport entity, long distinctRespondents) {
+        return new SurveySentimentReportDto(
+                entity.getId(),
+                entity.getSurveyId(),
+                entity.getQuestionCount(),
+                entity.getTotalResponses(),
+                entity.getPositiveCount(),
+                entity.getNegativeCount(),
+                entity.getNeutralCount(),
+                entity.getMixedCount(),
+                entity.getAveragePositive(),
+                entity.getAverageNegative(),
+                entity.getAverageNeutral(),
+                entity.getAverageMixed(),
+                distinctRespondents,
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.report_service.dto.response;
+
+import com.example.report_service.service.sketch.SpaceSavingSketch;
+
+public record TermCountDto(
+        String term,
+        long count,
+        // 추정 빈도가 실제 빈도보다 클 수 있는 최대치 (실제 빈도는 count - maxOverestimate 이상)
+        long maxOverestimate
+) {
+    public static TermCountDto from(SpaceSavingSketch.Entry entry) {
+        return new TermCountDto(entry.item(), entry.count(), entry.error());
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.report_service.dto.response;
+
+import java.util.List;
+
+public record TopTermsDto(
+        Long surveyId,
+        Long questionId,
+        String sentiment,
+        long totalTerms,
+        List<TermCountDto> terms
+) {}
@@ -0,0 +1,84 @@
+package com.example.report_service.entity;
+
+import com.example.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "ingest_jobs",
+        indexes = {
+                @Index(name = "idx_status_next_attempt", columnList = "status, nextAttemptAt")
+        }
+)
+public class IngestJob extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long surveyId;
+
+    @Column(nullable = false)
+    private Long responseId;
+
+    // 직렬화된 AggregateRequest (JSON)
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IngestJobStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime startedAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Builder
+    public IngestJob(Long surveyId, Long responseId, String payload) {
+        this.surveyId = surveyId;
+        this.responseId = responseId;
+        this.payload = payload;
+        this.status = IngestJobStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * 완료된 작업은 다시 읽히지 않으므로 페이로드를 비워 행 크기를 줄입니다.
+     */
+    public void markSucceeded() {
+        this.status = IngestJobStatus.SUCCEEDED;
+        this.payload = "";
+        this.lastError = null;
+    }
+
+    /**
+     * 실패 횟수를 증가시키고, 최대 시도 횟수에 도달하면 FAILED로, 아니면 지정된 시각에 재시도되도록 PENDING으로 되돌립니다.
+     */
+    public void markAttemptFailed(String error, int maxAttempts, LocalDateTime retryAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = IngestJobStatus.FAILED;
+        } else {
+            this.status = IngestJobStatus.PENDING;
+            this.nextAttemptAt = retryAt;
+        }
+    }
+}
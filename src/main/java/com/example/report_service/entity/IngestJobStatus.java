@@ -0,0 +1,8 @@
+package com.example.report_service.entity;
+
+public enum IngestJobStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -14,6 +14,10 @@ import java.util.List;
         name = "overall_sentiment_reports",
         indexes = {
                 @Index(name = "idx_survey", columnList = "surveyId")
+        },
+        uniqueConstraints = {
+                // 여러 레플리카가 동시에 수집해도 질문당 한 행만 존재하도록 보장 (원자적 upsert의 기준 키)
+                @UniqueConstraint(name = "uk_survey_question", columnNames = {"surveyId", "questionId"})
         }
 )
 public class OverallSentimentReport extends BaseEntity {
@@ -34,15 +38,15 @@ public class OverallSentimentReport extends BaseEntity {
     @Column(nullable = false)
     private int totalResponses;
 
-    // 감성 점수의 평균
+    // 감성 점수의 누적 합 (개별 보고서 평균 × 응답 수), 평균은 조회 시 계산
     @Column(nullable = false)
-    private double averagePositive;
+    private double sumPositive;
     @Column(nullable = false)
-    private double averageNegative;
+    private double sumNegative;
     @Column(nullable = false)
-    private double averageNeutral;
+    private double sumNeutral;
     @Column(nullable = false)
-    private double averageMixed;
+    private double sumMixed;
 
     @Column(nullable = false)
     private int positiveCount;
@@ -54,32 +58,45 @@ public class OverallSentimentReport extends BaseEntity {
     private int mixedCount;
 
     @Builder
-    public OverallSentimentReport(Long surveyId, Long questionId, int totalResponses, double averagePositive,
-                                  double averageNegative, double averageNeutral, double averageMixed,
-                                  int positiveCount, int negativeCount, int neutralCount, int mixedCount) {
+    public OverallSentimentReport(Long surveyId, Long questionId) {
         this.surveyId = surveyId;
         this.questionId = questionId;
-        this.totalResponses = totalResponses;
-        this.averagePositive = averagePositive;
-        this.averageNegative = averageNegative;
-        this.averageNeutral = averageNeutral;
-        this.averageMixed = averageMixed;
-        this.positiveCount = positiveCount;
-        this.negativeCount = negativeCount;
-        this.neutralCount = neutralCount;
-        this.mixedCount = mixedCount;
     }
 
-    public void updateStats(int totalResponses, int positiveCount, int negativeCount, int neutralCount, int mixedCount,
-                            double averagePositive, double averageNegative, double averageNeutral, double averageMixed) {
-        this.totalResponses = totalResponses;
-        this.positiveCount = positiveCount;
-        this.negativeCount = negativeCount;
-        this.neutralCount = neutralCount;
-        this.mixedCount = mixedCount;
-        this.averagePositive = averagePositive;
-        this.averageNegative = averageNegative;
-        this.averageNeutral = averageNeutral;
-        this.averageMixed = averageMixed;
+    /**
+     * 새로 생성된 개별 보고서의 값만큼 누적 합계를 증가시킵니다.
+     * 기존 개별 보고서를 다시 읽지 않으므로 응답 수와 무관하게 상수 시간에 갱신됩니다.
+     */
+    public void accumulate(SentimentReport report) {
+        int total = report.getTotalResponses();
+        this.totalResponses += total;
+        this.positiveCount += report.getPositiveCount();
+        this.negativeCount += report.getNegativeCount();
+        this.neutralCount += report.getNeutralCount();
+        this.mixedCount += report.getMixedCount();
+        this.sumPositive += report.getAveragePositive() * total;
+        this.sumNegative += report.getAverageNegative() * total;
+        this.sumNeutral += report.getAverageNeutral() * total;
+        this.sumMixed += report.getAverageMixed() * total;
+    }
+
+    public double getAveragePositive() {
+        return average(sumPositive);
+    }
+
+    public double getAverageNegative() {
+        return average(sumNegative);
+    }
+
+    public double getAverageNeutral() {
+        return average(sumNeutral);
+    }
+
+    public double getAverageMixed() {
+        return average(sumMixed);
+    }
+
+    private double average(double sum) {
+        return totalResponses > 0 ? Math.floor((sum / totalResponses) * 1000) / 1000.0 : 0.0;
     }
 }
@@ -0,0 +1,60 @@
+package com.example.report_service.entity;
+
+import com.example.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 질문(또는 설문) 단위로 유지하는 고정 크기 확률적 요약(sketch)입니다.
+ * 요약은 직렬화된 바이트로 저장되며, 수집 시 행을 잠근 뒤 새 답변으로 만든 요약을 병합하여 갱신합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "report_sketches",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_survey_question_type_dimension",
+                        columnNames = {"surveyId", "questionId", "sketchType", "dimension"})
+        }
+)
+public class ReportSketch extends BaseEntity {
+
+    // 설문 단위 요약의 questionId
+    public static final long SURVEY_SCOPE = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long surveyId;
+
+    @Column(nullable = false)
+    private Long questionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReportSketchType sketchType;
+
+    // 요약을 나누는 기준 (예: 감성 POSITIVE/NEGATIVE/NEUTRAL/MIXED)
+    @Column(nullable = false, length = 20)
+    private String dimension;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] data;
+
+    @Builder
+    public ReportSketch(Long surveyId, Long questionId, ReportSketchType sketchType, String dimension) {
+        this.surveyId = surveyId;
+        this.questionId = questionId;
+        this.sketchType = sketchType;
+        this.dimension = dimension;
+        this.data = new byte[0];
+    }
+
+    public void replaceData(byte[] data) {
+        this.data = data;
+    }
+}
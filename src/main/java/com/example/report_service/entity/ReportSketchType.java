@@ -0,0 +1,10 @@
+package com.example.report_service.entity;
+
+public enum ReportSketchType {
+    // 감성별 상위 키워드 (Space-Saving)
+    TOP_TERMS,
+    // 고유 응답자 수 (HyperLogLog)
+    DISTINCT_USERS,
+    // 감성 점수 분포 (t-digest)
+    SCORE_DIGEST
+}
@@ -0,0 +1,27 @@
+package com.example.report_service.entity;
+
+import com.example.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 설문별 보고서 데이터의 버전입니다. 수집으로 집계가 바뀐 트랜잭션이 커밋될 때마다 증가하며,
+ * 조회 캐시 키와 ETag에 사용되고 각 레플리카는 updatedAt 기준 폴링으로 다른 레플리카의 변경을 감지합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "report_versions",
+        indexes = {
+                @Index(name = "idx_updated_at", columnList = "updatedAt")
+        }
+)
+public class ReportVersion extends BaseEntity {
+
+    @Id
+    private Long surveyId;
+
+    @Column(nullable = false)
+    private long version;
+}
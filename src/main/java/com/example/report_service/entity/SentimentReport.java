@@ -5,9 +5,19 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "sentiment_reports")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "sentiment_reports",
+        uniqueConstraints = {
+                // 재전송된 응답이 중복 보고서를 만들지 않도록 함 (IngestDeduplicator)
+                @UniqueConstraint(name = "uk_response_question", columnNames = {"responseId", "questionId"})
+        },
+        indexes = {
+                // 질문별 목록 조회(최신순)와 키셋 페이지네이션이 정렬 없이 인덱스 범위 스캔으로 처리되도록 함
+                @Index(name = "idx_survey_question_created_id", columnList = "surveyId, questionId, createdAt, id")
+        }
+)
 public class SentimentReport extends BaseEntity {
 
     @Id
@@ -75,4 +85,18 @@ public class SentimentReport extends BaseEntity {
         this.overallSentimentReport = overallSentimentReport;
         overallSentimentReport.getSentimentReports().add(this);
     }
+
+    /**
+     * 연관관계의 주인 쪽만 설정합니다. 전체 보고서의 개별 보고서 컬렉션을 초기화하지 않아야 하는 집계 경로에서 사용합니다.
+     */
+    public void linkOverallSentimentReport(OverallSentimentReport overallSentimentReport) {
+        this.overallSentimentReport = overallSentimentReport;
+    }
+
+    /**
+     * JDBC 배치로 저장한 뒤 DB가 생성한 ID를 기록합니다. JPA를 거치지 않는 벌크 저장 경로에서만 사용합니다.
+     */
+    public void assignGeneratedId(Long id) {
+        this.id = id;
+    }
 }
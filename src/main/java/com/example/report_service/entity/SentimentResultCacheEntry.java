@@ -0,0 +1,40 @@
+package com.example.report_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정규화된 텍스트와 언어 코드의 해시를 키로 하는 감성 분석 결과 캐시 항목입니다.
+ * 레플리카 간에 공유되며 재시작 후에도 유지됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "sentiment_result_cache")
+public class SentimentResultCacheEntry {
+
+    // SHA-256 hex
+    @Id
+    @Column(length = 64)
+    private String contentHash;
+
+    @Column(nullable = false, length = 10)
+    private String languageCode;
+
+    @Column(nullable = false, length = 20)
+    private String sentiment;
+
+    @Column(nullable = false)
+    private double positive;
+    @Column(nullable = false)
+    private double negative;
+    @Column(nullable = false)
+    private double neutral;
+    @Column(nullable = false)
+    private double mixed;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
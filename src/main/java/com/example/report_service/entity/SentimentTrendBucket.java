@@ -0,0 +1,91 @@
+package com.example.report_service.entity;
+
+import com.example.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 질문별 감성 통계를 시간 버킷 단위로 미리 집계한 롤업입니다.
+ * 수집 시 DB에서 원자적으로 증분 갱신되므로 추이 조회는 응답 수와 무관하게 버킷 수만큼의 행만 읽습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "sentiment_trend_buckets",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_survey_question_granularity_bucket",
+                        columnNames = {"surveyId", "questionId", "granularity", "bucketStart"})
+        }
+)
+public class SentimentTrendBucket extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long surveyId;
+
+    @Column(nullable = false)
+    private Long questionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private TrendGranularity granularity;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private int totalResponses;
+
+    @Column(nullable = false)
+    private int positiveCount;
+    @Column(nullable = false)
+    private int negativeCount;
+    @Column(nullable = false)
+    private int neutralCount;
+    @Column(nullable = false)
+    private int mixedCount;
+
+    // 감성 점수의 누적 합 (개별 보고서 평균 × 응답 수), 평균은 조회 시 계산
+    @Column(nullable = false)
+    private double sumPositive;
+    @Column(nullable = false)
+    private double sumNegative;
+    @Column(nullable = false)
+    private double sumNeutral;
+    @Column(nullable = false)
+    private double sumMixed;
+
+    @Builder
+    public SentimentTrendBucket(Long surveyId, Long questionId, TrendGranularity granularity, LocalDateTime bucketStart) {
+        this.surveyId = surveyId;
+        this.questionId = questionId;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+    }
+
+    public double getAveragePositive() {
+        return average(sumPositive);
+    }
+
+    public double getAverageNegative() {
+        return average(sumNegative);
+    }
+
+    public double getAverageNeutral() {
+        return average(sumNeutral);
+    }
+
+    public double getAverageMixed() {
+        return average(sumMixed);
+    }
+
+    private double average(double sum) {
+        return totalResponses > 0 ? Math.floor((sum / totalResponses) * 1000) / 1000.0 : 0.0;
+    }
+}
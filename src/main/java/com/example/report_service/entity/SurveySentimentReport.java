@@ -0,0 +1,79 @@
+package com.example.report_service.entity;
+
+import com.example.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 설문의 모든 질문을 합친 설문 단위 감성 통계입니다.
+ * 질문별 전체 보고서와 함께 수집 시 DB에서 원자적으로 증분 갱신되며, 가중 평균은 OverallStats.fromReports와 같은 방식(응답 수 가중)으로 계산합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "survey_sentiment_reports",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_survey", columnNames = {"surveyId"})
+        }
+)
+public class SurveySentimentReport extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long surveyId;
+
+    // 전체 보고서가 생성된 질문 수
+    @Column(nullable = false)
+    private int questionCount;
+
+    @Column(nullable = false)
+    private int totalResponses;
+
+    @Column(nullable = false)
+    private int positiveCount;
+    @Column(nullable = false)
+    private int negativeCount;
+    @Column(nullable = false)
+    private int neutralCount;
+    @Column(nullable = false)
+    private int mixedCount;
+
+    // 감성 점수의 누적 합 (개별 보고서 평균 × 응답 수), 평균은 조회 시 계산
+    @Column(nullable = false)
+    private double sumPositive;
+    @Column(nullable = false)
+    private double sumNegative;
+    @Column(nullable = false)
+    private double sumNeutral;
+    @Column(nullable = false)
+    private double sumMixed;
+
+    @Builder
+    public SurveySentimentReport(Long surveyId) {
+        this.surveyId = surveyId;
+    }
+
+    public double getAveragePositive() {
+        return average(sumPositive);
+    }
+
+    public double getAverageNegative() {
+        return average(sumNegative);
+    }
+
+    public double getAverageNeutral() {
+        return average(sumNeutral);
+    }
+
+    public double getAverageMixed() {
+        return average(sumMixed);
+    }
+
+    private double average(double sum) {
+        return totalResponses > 0 ? Math.floor((sum / totalResponses) * 1000) / 1000.0 : 0.0;
+    }
+}
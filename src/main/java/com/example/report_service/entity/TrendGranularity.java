@@ -0,0 +1,29 @@
+package com.example.report_service.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 감성 추이 집계 버킷의 단위입니다.
+ */
+public enum TrendGranularity {
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    TrendGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * 시각이 속한 버킷의 시작 시각을 반환합니다.
+     */
+    public LocalDateTime bucketStartOf(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public LocalDateTime minus(LocalDateTime time, long buckets) {
+        return time.minus(buckets, unit);
+    }
+}
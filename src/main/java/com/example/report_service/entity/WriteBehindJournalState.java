@@ -0,0 +1,22 @@
+package com.example.report_service.entity;
+
+import com.example.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 쓰기 지연 저널별로 DB에 반영된 마지막 세그먼트 번호입니다. 플러시 트랜잭션 안에서 증분과 함께 갱신되므로,
+ * 반영 후 세그먼트를 지우기 전에 종료되어도 재시작 시 이 번호 이하의 세그먼트는 다시 반영하지 않습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "write_behind_journal_states")
+public class WriteBehindJournalState extends BaseEntity {
+
+    @Id
+    private String journalId;
+
+    @Column(nullable = false)
+    private long appliedSequence;
+}
@@ -12,7 +12,10 @@ public enum ReportExceptionType implements ExceptionType {
     INVALID_REPORT_DATA(6203, "분석 데이터가 올바르지 않습니다."),
     TEXTS_IS_EMPTY(6204, "분석할 텍스트 목록이 비어있습니다."),
     OVERALL_SENTIMENT_IS_EMPTY(6205, "전체 평균 통계 데이터가 존재하지 않습니다."),
-    OVERALL_REPORT_NOT_FOUND(6206, "해당 평균 통계 데이터를 찾을 수 없습니다.");
+    OVERALL_REPORT_NOT_FOUND(6206, "해당 평균 통계 데이터를 찾을 수 없습니다."),
+    INGEST_JOB_NOT_FOUND(6207, "해당 분석 작업을 찾을 수 없습니다."),
+    INVALID_CURSOR(6208, "페이지 커서가 올바르지 않습니다."),
+    SEARCH_DISABLED(6209, "검색 기능이 활성화되어 있지 않습니다.");
 
     private final int statusCode;
     private final String message;
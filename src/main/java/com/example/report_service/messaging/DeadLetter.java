@@ -0,0 +1,9 @@
+package com.example.report_service.messaging;
+
+import java.time.LocalDateTime;
+
+public record DeadLetter(
+        IngestionMessage message,
+        String error,
+        LocalDateTime failedAt
+) {}
@@ -0,0 +1,162 @@
+package com.example.report_service.messaging;
+
+import com.example.report_service.dto.request.AggregateRequest;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 테스트와 로컬 실행용 프로세스 내 브로커입니다. 파티션마다 ack되지 않은 메시지를 메모리에 보관하며 프로세스가 종료되면 사라집니다.
+ * 파티션별 보관 한도(partition-capacity)를 넘으면 publish가 거부되어 생산자에게 배압이 전달됩니다.
+ * 내구성이 없으므로 local 프로필에서만 등록되며, 다른 프로필에서 브로커를 켜려면 영속 IngestionBroker 구현이 필요합니다(없으면 기동 실패).
+ */
+@Component
+@Profile("local")
+@ConditionalOnProperty(prefix = "report.ingest.broker", name = "enabled", havingValue = "true")
+@Slf4j
+public class InMemoryIngestionBroker implements IngestionBroker {
+
+    private final Partition[] partitions;
+    private final int partitionCapacity;
+    private final int deadLetterCapacity;
+    private final ConcurrentLinkedDeque<DeadLetter> deadLetters = new ConcurrentLinkedDeque<>();
+
+    public InMemoryIngestionBroker(
+            MeterRegistry meterRegistry,
+            @Value("${report.ingest.broker.partitions:8}") int partitionCount,
+            @Value("${report.ingest.broker.partition-capacity:10000}") int partitionCapacity,
+            @Value("${report.ingest.broker.dead-letter-capacity:1000}") int deadLetterCapacity
+    ) {
+        this.partitions = new Partition[Math.max(1, partitionCount)];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition();
+        }
+        this.partitionCapacity = Math.max(1, partitionCapacity);
+        this.deadLetterCapacity = Math.max(1, deadLetterCapacity);
+
+        Gauge.builder("report.ingest.broker.lag", this, InMemoryIngestionBroker::totalLag)
+             .description("ack되지 않은 메시지 수")
+             .register(meterRegistry);
+        Gauge.builder("report.ingest.broker.dead-letters", deadLetters, ConcurrentLinkedDeque::size)
+             .description("메모리에 보관 중인 데드 레터 수")
+             .register(meterRegistry);
+    }
+
+    @Override
+    public int partitionCount() {
+        return partitions.length;
+    }
+
+    @Override
+    public boolean publish(AggregateRequest request) {
+        int partitionIndex = request.surveyId() == null ? 0 : Math.floorMod(Long.hashCode(request.surveyId()), partitions.length);
+        Partition partition = partitions[partitionIndex];
+        partition.lock.lock();
+        try {
+            if (partition.messages.size() >= partitionCapacity) {
+                return false;
+            }
+            partition.messages.addLast(new IngestionMessage(partitionIndex, partition.nextOffset++, request));
+            partition.available.signal();
+            return true;
+        } finally {
+            partition.lock.unlock();
+        }
+    }
+
+    @Override
+    public List<IngestionMessage> poll(int partitionIndex, int maxMessages, Duration timeout) {
+        Partition partition = partitions[partitionIndex];
+        partition.lock.lock();
+        try {
+            long remaining = timeout.toNanos();
+            while (partition.position >= partition.nextOffset) {
+                if (remaining <= 0) {
+                    return List.of();
+                }
+                remaining = partition.available.awaitNanos(remaining);
+            }
+
+            List<IngestionMessage> batch = new ArrayList<>(Math.min(maxMessages, (int) (partition.nextOffset - partition.position)));
+            Iterator<IngestionMessage> iterator = partition.messages.iterator();
+            while (iterator.hasNext() && batch.size() < maxMessages) {
+                IngestionMessage message = iterator.next();
+                if (message.offset() >= partition.position) {
+                    batch.add(message);
+                }
+            }
+            partition.position += batch.size();
+            return batch;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        } finally {
+            partition.lock.unlock();
+        }
+    }
+
+    @Override
+    public void ack(int partitionIndex, long offset) {
+        Partition partition = partitions[partitionIndex];
+        partition.lock.lock();
+        try {
+            while (!partition.messages.isEmpty() && partition.messages.peekFirst().offset() <= offset) {
+                partition.messages.pollFirst();
+            }
+            partition.position = Math.max(partition.position, offset + 1);
+        } finally {
+            partition.lock.unlock();
+        }
+    }
+
+    @Override
+    public void deadLetter(IngestionMessage message, Exception cause) {
+        deadLetters.addLast(new DeadLetter(message, String.valueOf(cause.getMessage()), LocalDateTime.now()));
+        while (deadLetters.size() > deadLetterCapacity) {
+            deadLetters.pollFirst();
+        }
+        log.error("데드 레터 이동 - 파티션 {}, offset {}, 설문 ID: {}, 응답 ID: {}",
+                message.partition(), message.offset(), message.payload().surveyId(), message.payload().responseId(), cause);
+    }
+
+    public List<DeadLetter> deadLetters() {
+        return List.copyOf(deadLetters);
+    }
+
+    private double totalLag() {
+        long lag = 0;
+        for (Partition partition : partitions) {
+            partition.lock.lock();
+            try {
+                lag += partition.messages.size();
+            } finally {
+                partition.lock.unlock();
+            }
+        }
+        return lag;
+    }
+
+    private static final class Partition {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition available = lock.newCondition();
+        // ack되지 않은 메시지 (offset 오름차순)
+        private final ArrayDeque<IngestionMessage> messages = new ArrayDeque<>();
+        private long nextOffset;
+        // 다음에 전달할 offset
+        private long position;
+    }
+}
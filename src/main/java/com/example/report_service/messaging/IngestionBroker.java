@@ -0,0 +1,36 @@
+package com.example.report_service.messaging;
+
+import com.example.report_service.dto.request.AggregateRequest;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * AggregateRequest 이벤트를 전달하는 메시지 브로커 추상화입니다.
+ * 같은 설문의 이벤트는 항상 같은 파티션에 들어가 파티션 안에서 순서가 유지되며,
+ * 소비자는 처리한 배치를 커밋한 뒤 마지막 offset까지 ack합니다. ack하지 않은 메시지는 재기동 후 다시 전달됩니다.
+ */
+public interface IngestionBroker {
+
+    int partitionCount();
+
+    /**
+     * 이벤트를 설문 ID로 정한 파티션에 추가합니다. 파티션이 가득 차면 false를 반환합니다.
+     */
+    boolean publish(AggregateRequest request);
+
+    /**
+     * 파티션에서 아직 전달하지 않은 메시지를 최대 maxMessages건 가져옵니다. 메시지가 없으면 timeout까지 기다린 뒤 빈 목록을 반환합니다.
+     */
+    List<IngestionMessage> poll(int partition, int maxMessages, Duration timeout);
+
+    /**
+     * 파티션의 offset까지(포함) 처리가 끝났음을 기록합니다.
+     */
+    void ack(int partition, long offset);
+
+    /**
+     * 재시도 후에도 처리하지 못한 메시지를 데드 레터로 보냅니다.
+     */
+    void deadLetter(IngestionMessage message, Exception cause);
+}
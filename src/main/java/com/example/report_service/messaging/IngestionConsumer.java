@@ -0,0 +1,226 @@
+package com.example.report_service.messaging;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.services.comprehend.model.TooManyRequestsException;
+import com.example.report_service.dto.request.AggregateRequest;
+import com.example.report_service.service.BulkIngestService;
+import com.example.report_service.service.SentimentReportService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 브로커에서 AggregateRequest 이벤트를 배치로 소비합니다.
+ * 파티션마다 전용 스레드 하나가 순서대로 처리하므로 같은 설문(= 같은 파티션)의 질문별 갱신 순서가 유지됩니다.
+ * 배치는 벌크 수집과 같은 경로(한 번의 분석 호출, 하나의 저장 트랜잭션)로 처리하고, 커밋된 뒤에만 ack합니다.
+ * 배치가 실패하면 메시지별로 다시 처리하여 실패한 메시지만 격리합니다. DB 잠금 충돌·커넥션 오류·Comprehend 스로틀링 같은
+ * 일시적 오류만 max-attempts까지 재시도하고, 검증 실패 등 다시 처리해도 같은 결과인 오류는 첫 실패에 데드 레터로 보냅니다.
+ * 종료 중에는 실패한 배치를 데드 레터로 보내거나 ack하지 않고 멈추므로 재기동 후 다시 전달됩니다.
+ * 수집은 (응답 ID, 질문 ID) 기준으로 멱등이므로 재전달이나 재시도로 중복 집계되지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "report.ingest.broker", name = "enabled", havingValue = "true")
+@Slf4j
+public class IngestionConsumer {
+
+    private final IngestionBroker ingestionBroker;
+    private final BulkIngestService bulkIngestService;
+    private final SentimentReportService sentimentReportService;
+    private final int batchSize;
+    private final Duration pollTimeout;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final ExecutorService consumers;
+    private volatile boolean running = true;
+
+    private final Counter consumed;
+    private final Counter batchFailures;
+    private final Counter deadLettered;
+
+    public IngestionConsumer(
+            IngestionBroker ingestionBroker,
+            BulkIngestService bulkIngestService,
+            SentimentReportService sentimentReportService,
+            MeterRegistry meterRegistry,
+            @Value("${report.ingest.broker.batch-size:100}") int batchSize,
+            @Value("${report.ingest.broker.poll-timeout-ms:500}") long pollTimeoutMillis,
+            @Value("${report.ingest.broker.max-attempts:3}") int maxAttempts,
+            @Value("${report.ingest.broker.retry-backoff-ms:1000}") long retryBackoffMillis
+    ) {
+        this.ingestionBroker = ingestionBroker;
+        this.bulkIngestService = bulkIngestService;
+        this.sentimentReportService = sentimentReportService;
+        this.batchSize = Math.max(1, batchSize);
+        this.pollTimeout = Duration.ofMillis(pollTimeoutMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+        AtomicInteger sequence = new AtomicInteger();
+        this.consumers = Executors.newFixedThreadPool(ingestionBroker.partitionCount(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ingestion-consumer-" + sequence.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.consumed = Counter.builder("report.ingest.broker.consumed")
+                               .description("소비하여 처리한 메시지 수")
+                               .register(meterRegistry);
+        this.batchFailures = Counter.builder("report.ingest.broker.batch-failures")
+                                    .description("메시지별 재처리로 전환된 배치 수")
+                                    .register(meterRegistry);
+        this.deadLettered = Counter.builder("report.ingest.broker.dead-lettered")
+                                   .description("데드 레터로 보낸 메시지 수")
+                                   .register(meterRegistry);
+    }
+
+    /**
+     * 요청을 브로커에 발행합니다. 파티션이 가득 차 발행이 거부되면 false를 반환합니다.
+     */
+    public boolean publish(AggregateRequest request) {
+        return ingestionBroker.publish(request);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        for (int partition = 0; partition < ingestionBroker.partitionCount(); partition++) {
+            int assigned = partition;
+            consumers.execute(() -> consume(assigned));
+        }
+        log.info("수집 이벤트 소비 시작 - 파티션 {}개, 배치 크기 {}", ingestionBroker.partitionCount(), batchSize);
+    }
+
+    private void consume(int partition) {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            List<IngestionMessage> batch = ingestionBroker.poll(partition, batchSize, pollTimeout);
+            if (batch.isEmpty()) {
+                continue;
+            }
+            if (!process(batch)) {
+                log.info("종료 중 처리하지 못한 수집 이벤트 배치는 ack하지 않습니다. (파티션 {}, offset {}~)", partition, batch.get(0).offset());
+                return;
+            }
+            ingestionBroker.ack(partition, batch.get(batch.size() - 1).offset());
+            consumed.increment(batch.size());
+        }
+    }
+
+    /**
+     * 배치를 처리합니다. 모든 메시지가 저장되었거나 데드 레터로 보내져 ack해도 되면 true를 반환합니다.
+     */
+    private boolean process(List<IngestionMessage> batch) {
+        try {
+            List<AggregateRequest> requests = batch.stream()
+                                                   .map(IngestionMessage::payload)
+                                                   .toList();
+            int answers = bulkIngestService.ingestChunk(requests);
+            log.debug("수집 이벤트 배치 처리 완료 - 파티션 {}, offset {}~{}, 답변 {}건",
+                    batch.get(0).partition(), batch.get(0).offset(), batch.get(batch.size() - 1).offset(), answers);
+            return true;
+        } catch (RuntimeException e) {
+            if (!running) {
+                return false;
+            }
+            batchFailures.increment();
+            log.warn("수집 이벤트 배치 처리 실패 - 메시지별로 다시 처리합니다. (파티션 {}, {}건)", batch.get(0).partition(), batch.size(), e);
+            for (IngestionMessage message : batch) {
+                if (!processWithRetry(message)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 메시지 하나를 처리하고 일시적 오류면 재시도합니다. 종료 중이거나 인터럽트되면 데드 레터로 보내지 않고 false를 반환합니다.
+     */
+    private boolean processWithRetry(IngestionMessage message) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                sentimentReportService.aggregateAndGenerateReport(message.payload());
+                return true;
+            } catch (RuntimeException e) {
+                // 종료 중의 실패(커넥션 풀 종료 등)는 일시적일 수 있으므로 재기동 후 재전달되도록 남겨 둠
+                if (!running) {
+                    return false;
+                }
+                // 재시도해도 결과가 같은 오류로 파티션을 막지 않도록 바로 격리
+                if (attempt >= maxAttempts || !isTransient(e)) {
+                    ingestionBroker.deadLetter(message, e);
+                    deadLettered.increment();
+                    return true;
+                }
+                log.warn("수집 이벤트 처리 실패 ({}회차) - 파티션 {}, offset {}", attempt, message.partition(), message.offset());
+                try {
+                    Thread.sleep(retryBackoffMillis * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+    }
+
+    /**
+     * 다시 처리하면 성공할 수 있는 인프라 오류인지 원인 체인을 따라 확인합니다.
+     */
+    static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof TooManyRequestsException
+                    || cause instanceof CancellationException
+                    || cause instanceof UncheckedIOException
+                    || cause instanceof IOException) {
+                return true;
+            }
+            if (cause instanceof AmazonServiceException serviceException) {
+                return RetryUtils.isThrottlingException(serviceException) || RetryUtils.isRetryableServiceException(serviceException);
+            }
+            if (cause instanceof AmazonClientException clientException && clientException.isRetryable()) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        consumers.shutdown();
+        try {
+            if (!consumers.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("종료 대기 시간 내에 끝나지 않은 수집 이벤트 배치는 ack되지 않아 다시 전달됩니다.");
+                consumers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            consumers.shutdownNow();
+        }
+    }
+}
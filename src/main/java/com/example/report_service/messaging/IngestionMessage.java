@@ -0,0 +1,12 @@
+package com.example.report_service.messaging;
+
+import com.example.report_service.dto.request.AggregateRequest;
+
+/**
+ * 브로커 파티션의 메시지 한 건입니다. offset은 파티션 안에서 단조 증가합니다.
+ */
+public record IngestionMessage(
+        int partition,
+        long offset,
+        AggregateRequest payload
+) {}
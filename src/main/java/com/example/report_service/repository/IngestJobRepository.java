@@ -0,0 +1,65 @@
+package com.example.report_service.repository;
+
+import com.example.report_service.entity.IngestJob;
+import com.example.report_service.entity.IngestJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface IngestJobRepository extends JpaRepository<IngestJob, Long> {
+
+    long countByStatusIn(Collection<IngestJobStatus> statuses);
+
+    @Query("select j.id from IngestJob j where j.status = :status and j.nextAttemptAt <= :now order by j.id asc")
+    List<Long> findDueJobIds(@Param("status") IngestJobStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * PENDING 상태인 작업만 RUNNING으로 변경합니다. 여러 레플리카가 같은 작업을 가져가지 않도록 갱신 건수로 선점 여부를 판단합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update IngestJob j set j.status = com.example.report_service.entity.IngestJobStatus.RUNNING, j.startedAt = :now " +
+            "where j.id = :id and j.status = com.example.report_service.entity.IngestJobStatus.PENDING")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 실행 중인 작업의 시작 시각을 갱신하여, 오래 걸리는 작업이 멈춘 작업으로 오인되어 다른 워커에서 중복 실행되지 않게 합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update IngestJob j set j.startedAt = :now " +
+            "where j.id in :ids and j.status = com.example.report_service.entity.IngestJobStatus.RUNNING")
+    int heartbeat(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * RUNNING 상태에 멈춘 작업 중 이번 중단으로 최대 시도 횟수에 도달하는 작업을 FAILED로 종료합니다.
+     * 파드를 죽이는 페이로드가 레플리카를 옮겨 다니며 무한히 재시도되지 않게 합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update IngestJob j set j.status = com.example.report_service.entity.IngestJobStatus.FAILED, " +
+            "j.attempts = j.attempts + 1, j.lastError = :error " +
+            "where j.status = com.example.report_service.entity.IngestJobStatus.RUNNING and j.startedAt < :staleBefore " +
+            "and j.attempts + 1 >= :maxAttempts")
+    int failStale(@Param("staleBefore") LocalDateTime staleBefore, @Param("maxAttempts") int maxAttempts, @Param("error") String error);
+
+    /**
+     * 파드 재시작 등으로 RUNNING 상태에 멈춘 작업의 시도 횟수를 올리고 다시 PENDING으로 되돌립니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update IngestJob j set j.status = com.example.report_service.entity.IngestJobStatus.PENDING, " +
+            "j.attempts = j.attempts + 1, j.nextAttemptAt = :now " +
+            "where j.status = com.example.report_service.entity.IngestJobStatus.RUNNING and j.startedAt < :staleBefore")
+    int requeueStale(@Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
+
+    /**
+     * 보관 기간이 지난 완료 작업을 최대 limit건 삭제합니다. 한 번에 큰 범위를 지우며 락을 오래 잡지 않도록 나누어 호출합니다.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM ingest_jobs WHERE status = 'SUCCEEDED' AND updatedAt < :before ORDER BY id LIMIT :limit",
+            nativeQuery = true)
+    int deleteSucceededBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
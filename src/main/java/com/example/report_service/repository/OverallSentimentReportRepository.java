@@ -1,9 +1,11 @@
 package com.example.report_service.repository;
 
+import com.example.report_service.dto.internal.SentimentTotals;
 import com.example.report_service.entity.OverallSentimentReport;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -19,4 +21,37 @@ public interface OverallSentimentReportRepository extends JpaRepository<OverallS
 
     Page<OverallSentimentReport> findAllBySurveyId(Long surveyId, Pageable pageable);
 
+    @Query("SELECT o.surveyId FROM OverallSentimentReport o WHERE o.id = :id")
+    Optional<Long> findSurveyIdById(@Param("id") Long id);
+
+    @Query("SELECT o.id FROM OverallSentimentReport o WHERE o.surveyId = :surveyId AND o.questionId = :questionId")
+    Optional<Long> findIdBySurveyIdAndQuestionId(@Param("surveyId") Long surveyId, @Param("questionId") Long questionId);
+
+    /**
+     * (surveyId, questionId) 행이 없으면 증분 값으로 생성하고, 있으면 DB에서 원자적으로 증분을 더합니다.
+     * 영향받은 행 수는 신규 생성 시 1, 갱신 시 2입니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO overall_sentiment_reports " +
+            "(surveyId, questionId, " +
+            "totalResponses, positiveCount, negativeCount, neutralCount, mixedCount, " +
+            "sumPositive, sumNegative, sumNeutral, sumMixed, createdAt, updatedAt) " +
+            "VALUES (:surveyId, :questionId, " +
+            ":#{#totals.totalResponses}, :#{#totals.positiveCount}, :#{#totals.negativeCount}, :#{#totals.neutralCount}, :#{#totals.mixedCount}, " +
+            ":#{#totals.sumPositive}, :#{#totals.sumNegative}, :#{#totals.sumNeutral}, :#{#totals.sumMixed}, NOW(6), NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "totalResponses = totalResponses + :#{#totals.totalResponses}, " +
+            "positiveCount = positiveCount + :#{#totals.positiveCount}, " +
+            "negativeCount = negativeCount + :#{#totals.negativeCount}, " +
+            "neutralCount = neutralCount + :#{#totals.neutralCount}, " +
+            "mixedCount = mixedCount + :#{#totals.mixedCount}, " +
+            "sumPositive = sumPositive + :#{#totals.sumPositive}, " +
+            "sumNegative = sumNegative + :#{#totals.sumNegative}, " +
+            "sumNeutral = sumNeutral + :#{#totals.sumNeutral}, " +
+            "sumMixed = sumMixed + :#{#totals.sumMixed}, updatedAt = NOW(6)",
+            nativeQuery = true)
+    int upsertIncrement(@Param("surveyId") Long surveyId,
+                        @Param("questionId") Long questionId,
+                        @Param("totals") SentimentTotals totals);
+
 }
@@ -0,0 +1,46 @@
+package com.example.report_service.repository;
+
+import com.example.report_service.entity.ReportSketch;
+import com.example.report_service.entity.ReportSketchType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ReportSketchRepository extends JpaRepository<ReportSketch, Long> {
+
+    /**
+     * 빈 요약 행을 만듭니다. 다른 레플리카가 먼저 만든 경우 무시합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO report_sketches " +
+            "(surveyId, questionId, sketchType, dimension, data, createdAt, updatedAt) " +
+            "VALUES (:surveyId, :questionId, :sketchType, :dimension, '', NOW(6), NOW(6))",
+            nativeQuery = true)
+    void insertIgnore(@Param("surveyId") Long surveyId,
+                      @Param("questionId") Long questionId,
+                      @Param("sketchType") String sketchType,
+                      @Param("dimension") String dimension);
+
+    // 병합 중 다른 트랜잭션의 갱신이 유실되지 않도록 행을 잠그고 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ReportSketch s WHERE s.surveyId = :surveyId AND s.questionId = :questionId " +
+            "AND s.sketchType = :sketchType AND s.dimension = :dimension")
+    Optional<ReportSketch> findForUpdate(@Param("surveyId") Long surveyId,
+                                         @Param("questionId") Long questionId,
+                                         @Param("sketchType") ReportSketchType sketchType,
+                                         @Param("dimension") String dimension);
+
+    Optional<ReportSketch> findBySurveyIdAndQuestionIdAndSketchTypeAndDimension(Long surveyId, Long questionId,
+                                                                                ReportSketchType sketchType, String dimension);
+
+    List<ReportSketch> findAllBySurveyIdAndQuestionIdAndSketchType(Long surveyId, Long questionId, ReportSketchType sketchType);
+
+    List<ReportSketch> findAllBySurveyIdAndSketchType(Long surveyId, ReportSketchType sketchType);
+
+}
@@ -0,0 +1,30 @@
+package com.example.report_service.repository;
+
+import com.example.report_service.entity.ReportVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReportVersionRepository extends JpaRepository<ReportVersion, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO report_versions (surveyId, version, createdAt, updatedAt) " +
+            "VALUES (:surveyId, 1, NOW(6), NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1, updatedAt = NOW(6)",
+            nativeQuery = true)
+    int bumpVersion(@Param("surveyId") Long surveyId);
+
+    @Query("SELECT v.version FROM ReportVersion v WHERE v.surveyId = :surveyId")
+    Optional<Long> findVersionBySurveyId(@Param("surveyId") Long surveyId);
+
+    @Query("SELECT MAX(v.updatedAt) FROM ReportVersion v")
+    Optional<LocalDateTime> findLatestUpdatedAt();
+
+    List<ReportVersion> findAllByUpdatedAtAfter(LocalDateTime updatedAt);
+
+}
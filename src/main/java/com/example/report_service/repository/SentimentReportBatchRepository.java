@@ -0,0 +1,90 @@
+package com.example.report_service.repository;
+
+import com.example.report_service.entity.SentimentReport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 개별 감성 보고서를 JDBC 배치로 저장합니다.
+ * IDENTITY 전략에서는 Hibernate가 INSERT 배치를 사용하지 않으므로, 벌크 수집은 이 경로로 한 번의 왕복에 여러 행을 저장합니다
+ * (MySQL은 rewriteBatchedStatements=true일 때 다중 행 INSERT로 재작성).
+ * 생성된 ID는 각 엔티티에 기록하여 쓰기 지연 집계기가 ID로 전체 보고서에 연결할 수 있게 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SentimentReportBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO sentiment_reports " +
+            "(surveyId, responseId, questionId, userId, overall_sentiment_report_id, totalResponses, " +
+            "positiveCount, negativeCount, neutralCount, mixedCount, " +
+            "averagePositive, averageNegative, averageNeutral, averageMixed, createdAt, updatedAt) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<SentimentReport> reports) {
+        if (reports.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(reports.size());
+        for (SentimentReport report : reports) {
+            rows.add(new Object[]{
+                    report.getSurveyId(),
+                    report.getResponseId(),
+                    report.getQuestionId(),
+                    report.getUserId(),
+                    report.getOverallSentimentReport() != null ? report.getOverallSentimentReport().getId() : null,
+                    report.getTotalResponses(),
+                    report.getPositiveCount(),
+                    report.getNegativeCount(),
+                    report.getNeutralCount(),
+                    report.getMixedCount(),
+                    report.getAveragePositive(),
+                    report.getAverageNegative(),
+                    report.getAverageNeutral(),
+                    report.getAverageMixed(),
+                    now,
+                    now
+            });
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        new ArgumentPreparedStatementSetter(rows.get(i)).setValues(ps);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        // ID 없이 넘어가면 쓰기 지연 모드에서 개별 보고서가 전체 보고서에 연결되지 않으므로 청크 트랜잭션을 롤백
+        if (keys.size() != reports.size()) {
+            throw new IllegalStateException(
+                    "생성된 ID 수(" + keys.size() + ")가 저장한 개별 보고서 수(" + reports.size() + ")와 다릅니다.");
+        }
+        for (int i = 0; i < reports.size(); i++) {
+            reports.get(i).assignGeneratedId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+    }
+}
@@ -1,12 +1,25 @@
 package com.example.report_service.repository;
 
+import com.example.report_service.dto.internal.StoredReportKey;
+import com.example.report_service.dto.request.ResponseQuestionKey;
 import com.example.report_service.entity.SentimentReport;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SentimentReportRepository extends JpaRepository<SentimentReport, Long> {
@@ -15,4 +28,72 @@ public interface SentimentReportRepository extends JpaRepository<SentimentReport
 
     Page<SentimentReport> findAllBySurveyIdAndQuestionId(Long surveyId, Long questionId, Pageable pageable);
 
+    // uk_response_question 인덱스로 조회
+    List<SentimentReport> findAllByResponseIdIn(Collection<Long> responseIds);
+
+    // 키셋 페이지네이션 첫 페이지 (count 쿼리 없이 size + 1건 조회로 다음 페이지 여부 판단)
+    @Query("SELECT r FROM SentimentReport r " +
+            "WHERE r.surveyId = :surveyId AND r.questionId = :questionId " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<SentimentReport> findFirstSlice(@Param("surveyId") Long surveyId,
+                                          @Param("questionId") Long questionId,
+                                          Pageable pageable);
+
+    // 커서(createdAt, id) 이후 페이지
+    @Query("SELECT r FROM SentimentReport r " +
+            "WHERE r.surveyId = :surveyId AND r.questionId = :questionId " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<SentimentReport> findSliceAfter(@Param("surveyId") Long surveyId,
+                                          @Param("questionId") Long questionId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    // 쓰기 지연 모드에서 전체 보고서 없이 저장된 개별 보고서를 ID로 연결
+    // (기본 키로 해당 행만 잠그므로 범위 스캔의 next-key 잠금으로 같은 질문의 동시 INSERT를 막지 않음)
+    @Modifying
+    @Query(value = "UPDATE sentiment_reports SET overall_sentiment_report_id = :overallId WHERE id IN (:ids)",
+            nativeQuery = true)
+    int linkReports(@Param("overallId") Long overallId, @Param("ids") Collection<Long> ids);
+
+    // 저널 복구 시 커밋된 개별 보고서만 골라내기 위한 존재 확인
+    @Query("SELECT r.id FROM SentimentReport r WHERE r.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 내보내기용 전진 전용 스트림 (MySQL Connector/J는 fetch size가 Integer.MIN_VALUE일 때 행 단위 스트리밍)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT r FROM SentimentReport r WHERE r.surveyId = :surveyId ORDER BY r.questionId ASC, r.createdAt ASC, r.id ASC")
+    Stream<SentimentReport> streamAllBySurveyId(@Param("surveyId") Long surveyId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT r FROM SentimentReport r WHERE r.surveyId = :surveyId AND r.questionId = :questionId ORDER BY r.createdAt ASC, r.id ASC")
+    Stream<SentimentReport> streamAllBySurveyIdAndQuestionId(@Param("surveyId") Long surveyId,
+                                                             @Param("questionId") Long questionId);
+
+    // 중복 수집 Bloom 필터 초기화용 (응답 ID, 질문 ID) 전진 전용 스트림
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.example.report_service.dto.request.ResponseQuestionKey(r.responseId, r.questionId) FROM SentimentReport r")
+    Stream<ResponseQuestionKey> streamAllResponseQuestionKeys();
+
+    @Query("SELECT MAX(r.id) FROM SentimentReport r")
+    Optional<Long> findMaxId();
+
+    // 기본 키 범위 스캔으로 afterId 이후 저장된 키를 ID 순서로 조회
+    @Query("SELECT new com.example.report_service.dto.internal.StoredReportKey(r.id, r.responseId, r.questionId) " +
+            "FROM SentimentReport r WHERE r.id > :afterId ORDER BY r.id ASC")
+    List<StoredReportKey> findKeysAfter(@Param("afterId") Long afterId, Pageable pageable);
+
 }
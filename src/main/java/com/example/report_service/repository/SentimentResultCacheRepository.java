@@ -0,0 +1,26 @@
+package com.example.report_service.repository;
+
+import com.example.report_service.entity.SentimentResultCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SentimentResultCacheRepository extends JpaRepository<SentimentResultCacheEntry, String> {
+
+    /**
+     * 다른 레플리카가 같은 키를 먼저 저장한 경우 무시합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO sentiment_result_cache " +
+            "(contentHash, languageCode, sentiment, positive, negative, neutral, mixed, createdAt) " +
+            "VALUES (:contentHash, :languageCode, :sentiment, :positive, :negative, :neutral, :mixed, NOW())",
+            nativeQuery = true)
+    void insertIgnore(@Param("contentHash") String contentHash,
+                      @Param("languageCode") String languageCode,
+                      @Param("sentiment") String sentiment,
+                      @Param("positive") double positive,
+                      @Param("negative") double negative,
+                      @Param("neutral") double neutral,
+                      @Param("mixed") double mixed);
+}
@@ -0,0 +1,45 @@
+package com.example.report_service.repository;
+
+import com.example.report_service.dto.internal.SentimentTotals;
+import com.example.report_service.entity.SentimentTrendBucket;
+import com.example.report_service.entity.TrendGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SentimentTrendBucketRepository extends JpaRepository<SentimentTrendBucket, Long> {
+
+    List<SentimentTrendBucket> findAllBySurveyIdAndQuestionIdAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+            Long surveyId, Long questionId, TrendGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+    // (surveyId, questionId, granularity, bucketStart) 버킷에 증분을 원자적으로 더함 (없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO sentiment_trend_buckets " +
+            "(surveyId, questionId, granularity, bucketStart, " +
+            "totalResponses, positiveCount, negativeCount, neutralCount, mixedCount, " +
+            "sumPositive, sumNegative, sumNeutral, sumMixed, createdAt, updatedAt) " +
+            "VALUES (:surveyId, :questionId, :granularity, :bucketStart, " +
+            ":#{#totals.totalResponses}, :#{#totals.positiveCount}, :#{#totals.negativeCount}, :#{#totals.neutralCount}, :#{#totals.mixedCount}, " +
+            ":#{#totals.sumPositive}, :#{#totals.sumNegative}, :#{#totals.sumNeutral}, :#{#totals.sumMixed}, NOW(6), NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "totalResponses = totalResponses + :#{#totals.totalResponses}, " +
+            "positiveCount = positiveCount + :#{#totals.positiveCount}, " +
+            "negativeCount = negativeCount + :#{#totals.negativeCount}, " +
+            "neutralCount = neutralCount + :#{#totals.neutralCount}, " +
+            "mixedCount = mixedCount + :#{#totals.mixedCount}, " +
+            "sumPositive = sumPositive + :#{#totals.sumPositive}, " +
+            "sumNegative = sumNegative + :#{#totals.sumNegative}, " +
+            "sumNeutral = sumNeutral + :#{#totals.sumNeutral}, " +
+            "sumMixed = sumMixed + :#{#totals.sumMixed}, updatedAt = NOW(6)",
+            nativeQuery = true)
+    int upsertIncrement(@Param("surveyId") Long surveyId,
+                        @Param("questionId") Long questionId,
+                        @Param("granularity") String granularity,
+                        @Param("bucketStart") LocalDateTime bucketStart,
+                        @Param("totals") SentimentTotals totals);
+
+}
@@ -0,0 +1,69 @@
+package com.example.report_service.repository;
+
+import com.example.report_service.dto.internal.SentimentTotals;
+import com.example.report_service.entity.SurveySentimentReport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface SurveySentimentReportRepository extends JpaRepository<SurveySentimentReport, Long> {
+
+    Optional<SurveySentimentReport> findBySurveyId(Long surveyId);
+
+    // 설문 행에 증분과 신규 질문 수를 원자적으로 더함 (없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO survey_sentiment_reports " +
+            "(surveyId, " +
+            "totalResponses, positiveCount, negativeCount, neutralCount, mixedCount, " +
+            "sumPositive, sumNegative, sumNeutral, sumMixed, questionCount, createdAt, updatedAt) " +
+            "VALUES (:surveyId, " +
+            ":#{#totals.totalResponses}, :#{#totals.positiveCount}, :#{#totals.negativeCount}, :#{#totals.neutralCount}, :#{#totals.mixedCount}, " +
+            ":#{#totals.sumPositive}, :#{#totals.sumNegative}, :#{#totals.sumNeutral}, :#{#totals.sumMixed}, :newQuestions, NOW(6), NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "questionCount = questionCount + :newQuestions, " +
+            "totalResponses = totalResponses + :#{#totals.totalResponses}, " +
+            "positiveCount = positiveCount + :#{#totals.positiveCount}, " +
+            "negativeCount = negativeCount + :#{#totals.negativeCount}, " +
+            "neutralCount = neutralCount + :#{#totals.neutralCount}, " +
+            "mixedCount = mixedCount + :#{#totals.mixedCount}, " +
+            "sumPositive = sumPositive + :#{#totals.sumPositive}, " +
+            "sumNegative = sumNegative + :#{#totals.sumNegative}, " +
+            "sumNeutral = sumNeutral + :#{#totals.sumNeutral}, " +
+            "sumMixed = sumMixed + :#{#totals.sumMixed}, updatedAt = NOW(6)",
+            nativeQuery = true)
+    int upsertIncrement(@Param("surveyId") Long surveyId,
+                        @Param("newQuestions") int newQuestions,
+                        @Param("totals") SentimentTotals totals);
+
+    /**
+     * 질문별 전체 보고서를 설문별로 합쳐 설문 행을 다시 계산합니다. 없으면 생성하고 있으면 덮어쓰므로 여러 번 실행해도 결과가 같습니다.
+     * 원본 행을 잠그고 읽으므로 실행 중에 커밋되는 수집의 증분도 빠지거나 두 번 더해지지 않습니다.
+     *
+     * @return 영향받은 행 수 (생성 1, 변경 2, 변경 없음 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO survey_sentiment_reports " +
+            "(surveyId, " +
+            "totalResponses, positiveCount, negativeCount, neutralCount, mixedCount, " +
+            "sumPositive, sumNegative, sumNeutral, sumMixed, questionCount, createdAt, updatedAt) " +
+            "SELECT o.surveyId, " +
+            "SUM(o.totalResponses), SUM(o.positiveCount), SUM(o.negativeCount), SUM(o.neutralCount), SUM(o.mixedCount), " +
+            "SUM(o.sumPositive), SUM(o.sumNegative), SUM(o.sumNeutral), SUM(o.sumMixed), COUNT(*), NOW(6), NOW(6) " +
+            "FROM overall_sentiment_reports o GROUP BY o.surveyId " +
+            "ON DUPLICATE KEY UPDATE " +
+            "questionCount = VALUES(questionCount), " +
+            "totalResponses = VALUES(totalResponses), " +
+            "positiveCount = VALUES(positiveCount), " +
+            "negativeCount = VALUES(negativeCount), " +
+            "neutralCount = VALUES(neutralCount), " +
+            "mixedCount = VALUES(mixedCount), " +
+            "sumPositive = VALUES(sumPositive), " +
+            "sumNegative = VALUES(sumNegative), " +
+            "sumNeutral = VALUES(sumNeutral), " +
+            "sumMixed = VALUES(sumMixed), updatedAt = NOW(6)",
+            nativeQuery = true)
+    int rebuildFromOverallReports();
+}
@@ -0,0 +1,22 @@
+package com.example.report_service.repository;
+
+import com.example.report_service.entity.WriteBehindJournalState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface WriteBehindJournalStateRepository extends JpaRepository<WriteBehindJournalState, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO write_behind_journal_states (journalId, appliedSequence, createdAt, updatedAt) " +
+            "VALUES (:journalId, :sequence, NOW(6), NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE appliedSequence = GREATEST(appliedSequence, VALUES(appliedSequence)), updatedAt = NOW(6)",
+            nativeQuery = true)
+    int markApplied(@Param("journalId") String journalId, @Param("sequence") long sequence);
+
+    @Query("SELECT s.appliedSequence FROM WriteBehindJournalState s WHERE s.journalId = :journalId")
+    Optional<Long> findAppliedSequence(@Param("journalId") String journalId);
+}
@@ -1,49 +1,82 @@
 package com.example.report_service.service;
 
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.retry.PredefinedRetryPolicies;
+import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.services.comprehend.AmazonComprehend;
 import com.amazonaws.services.comprehend.AmazonComprehendClientBuilder;
+import com.amazonaws.services.comprehend.model.BatchDetectSentimentRequest;
+import com.amazonaws.services.comprehend.model.BatchDetectSentimentResult;
 import com.amazonaws.services.comprehend.model.DetectSentimentRequest;
 import com.amazonaws.services.comprehend.model.DetectSentimentResult;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @Slf4j
 public class AwsComprehendService {
 
     private final AmazonComprehend comprehendClient;
+    private final ComprehendRateLimiter rateLimiter;
 
     public AwsComprehendService(
+            ComprehendRateLimiter rateLimiter,
             @Value("${aws.region}") String region,
             @Value("${aws.credentials.access-key:}") String accessKey,
             @Value("${aws.credentials.secret-key:}") String secretKey
     ) {
+        this.rateLimiter = rateLimiter;
         if (accessKey != null && !accessKey.isEmpty() && secretKey != null && !secretKey.isEmpty()) {
             BasicAWSCredentials awsCreds = new BasicAWSCredentials(accessKey, secretKey);
             this.comprehendClient = AmazonComprehendClientBuilder.standard()
                                                                  .withRegion(region)
+                                                                 .withClientConfiguration(clientConfiguration())
                                                                  .withCredentials(new AWSStaticCredentialsProvider(awsCreds))
                                                                  .build();
             log.info("정적 자격 증명으로 AWS Comprehend 클라이언트가 생성되었습니다. region={}, accessKey=****", region);
         } else {
             this.comprehendClient = AmazonComprehendClientBuilder.standard()
                                                                  .withRegion(region)
+                                                                 .withClientConfiguration(clientConfiguration())
                                                                  .withCredentials(DefaultAWSCredentialsProviderChain.getInstance())
                                                                  .build();
             log.info("기본 자격 증명 공급자 체인으로 AWS Comprehend 클라이언트가 생성되었습니다. region={}", region);
         }
     }
 
+    /**
+     * 스로틀링 예외는 SDK가 재시도하지 않고 바로 ComprehendRateLimiter로 전달되도록 합니다.
+     * SDK 재시도가 겹치면 리미터가 스로틀을 늦게 감지하고 재시도 횟수가 곱절로 늘어납니다. 5xx·네트워크 오류는 기본 정책대로 재시도합니다.
+     */
+    private static ClientConfiguration clientConfiguration() {
+        RetryPolicy.RetryCondition retryUnlessThrottled = (request, exception, retriesAttempted) ->
+                !(exception instanceof AmazonServiceException serviceException && RetryUtils.isThrottlingException(serviceException))
+                        && PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION.shouldRetry(request, exception, retriesAttempted);
+        RetryPolicy retryPolicy = new RetryPolicy(retryUnlessThrottled,
+                PredefinedRetryPolicies.DEFAULT_BACKOFF_STRATEGY,
+                PredefinedRetryPolicies.DEFAULT_MAX_ERROR_RETRY,
+                false);
+        return new ClientConfiguration().withRetryPolicy(retryPolicy);
+    }
+
     public DetectSentimentResult analyzeText(String text) {
+        return analyzeText(text, "ko");
+    }
+
+    public DetectSentimentResult analyzeText(String text, String languageCode) {
         try {
             DetectSentimentRequest request = new DetectSentimentRequest()
                     .withText(text)
-                    .withLanguageCode("ko");
-            DetectSentimentResult result = comprehendClient.detectSentiment(request);
+                    .withLanguageCode(languageCode);
+            DetectSentimentResult result = rateLimiter.execute(() -> comprehendClient.detectSentiment(request));
             log.info("AWS Comprehend 분석 결과: 감성={}, 긍정점수={}, 부정점수={}",
                     result.getSentiment(),
                     result.getSentimentScore().getPositive(),
@@ -54,4 +87,25 @@ public class AwsComprehendService {
             throw e;
         }
     }
+
+    /**
+     * 최대 25건의 텍스트를 한 번의 BatchDetectSentiment 호출로 분석합니다.
+     * 개별 항목의 실패는 예외가 아닌 결과의 ErrorList로 반환됩니다.
+     */
+    public BatchDetectSentimentResult batchAnalyzeText(List<String> texts, String languageCode) {
+        try {
+            BatchDetectSentimentRequest request = new BatchDetectSentimentRequest()
+                    .withTextList(texts)
+                    .withLanguageCode(languageCode);
+            BatchDetectSentimentResult result = rateLimiter.execute(() -> comprehendClient.batchDetectSentiment(request));
+            log.info("AWS Comprehend 배치 분석 결과: 요청={}건, 성공={}건, 실패={}건",
+                    texts.size(),
+                    result.getResultList().size(),
+                    result.getErrorList().size());
+            return result;
+        } catch (Exception e) {
+            log.error("AWS Comprehend 배치 호출 중 오류가 발생했습니다. 요청 건수={}", texts.size(), e);
+            throw e;
+        }
+    }
 }
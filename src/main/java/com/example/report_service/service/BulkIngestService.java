@@ -0,0 +1,136 @@
+package com.example.report_service.service;
+
+import com.example.report_service.dto.internal.AnalyzedAnswer;
+import com.example.report_service.dto.internal.AnalyzedRequest;
+import com.example.report_service.dto.request.AggregateRequest;
+import com.example.report_service.dto.request.ResponseQuestionKey;
+import com.example.report_service.dto.response.BulkIngestResultDto;
+import com.example.report_service.entity.SentimentReport;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NDJSON 스트림으로 들어오는 AggregateRequest를 청크 단위로 분석하고 저장합니다.
+ * 스트림 전체를 메모리에 올리지 않으며, 청크마다 분석은 트랜잭션 밖에서 한 번에, 저장은 하나의 짧은 트랜잭션으로 수행합니다.
+ * 청크는 독립적으로 커밋되므로 중간에 실패하면 그 이전 청크까지는 저장된 상태로 남습니다.
+ */
+@Service
+@Slf4j
+public class BulkIngestService {
+
+    private final SentimentReportService sentimentReportService;
+    private final SentimentReportWriter sentimentReportWriter;
+    private final IngestDeduplicator ingestDeduplicator;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public BulkIngestService(
+            SentimentReportService sentimentReportService,
+            SentimentReportWriter sentimentReportWriter,
+            IngestDeduplicator ingestDeduplicator,
+            ObjectMapper objectMapper,
+            @Value("${report.ingest.bulk.chunk-size:500}") int chunkSize
+    ) {
+        this.sentimentReportService = sentimentReportService;
+        this.sentimentReportWriter = sentimentReportWriter;
+        this.ingestDeduplicator = ingestDeduplicator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    public BulkIngestResultDto ingest(InputStream inputStream) throws IOException {
+        long requestCount = 0;
+        long answerCount = 0;
+        long receivedAnswerCount = 0;
+        int chunkCount = 0;
+
+        try (MappingIterator<AggregateRequest> requests = objectMapper.readerFor(AggregateRequest.class).readValues(inputStream)) {
+            List<AggregateRequest> chunk = new ArrayList<>(chunkSize);
+            while (requests.hasNextValue()) {
+                chunk.add(requests.nextValue());
+                if (chunk.size() == chunkSize) {
+                    receivedAnswerCount += answersOf(chunk);
+                    answerCount += processChunk(chunk, ++chunkCount);
+                    requestCount += chunk.size();
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                receivedAnswerCount += answersOf(chunk);
+                answerCount += processChunk(chunk, ++chunkCount);
+                requestCount += chunk.size();
+            }
+        }
+
+        long duplicateCount = receivedAnswerCount - answerCount;
+        log.info("벌크 수집 완료 - 요청 {}건, 답변 {}건, 중복 생략 {}건, 청크 {}개", requestCount, answerCount, duplicateCount, chunkCount);
+        return new BulkIngestResultDto(requestCount, answerCount, duplicateCount, chunkCount);
+    }
+
+    private int processChunk(List<AggregateRequest> chunk, int chunkNumber) {
+        int answers = ingestChunk(chunk);
+        log.info("벌크 청크 {} 처리 완료 - 요청 {}건, 답변 {}건", chunkNumber, chunk.size(), answers);
+        return answers;
+    }
+
+    /**
+     * 요청 묶음을 한 번에 분석하고 하나의 트랜잭션으로 저장한 뒤 새로 저장한 답변 수를 반환합니다. 메시지 소비자의 배치 처리에도 사용합니다.
+     * 다른 레플리카가 같은 답변을 먼저 저장하여 유니크 제약을 위반하면, 저장된 답변을 DB에서 확인하여 제외한 뒤 재분석 없이 한 번 더 저장합니다.
+     */
+    public int ingestChunk(List<AggregateRequest> chunk) {
+        List<AnalyzedRequest> analyzedRequests = sentimentReportService.analyzeRequests(chunk);
+        if (!analyzedRequests.isEmpty()) {
+            try {
+                sentimentReportWriter.persistBatch(analyzedRequests);
+            } catch (DataIntegrityViolationException e) {
+                Map<ResponseQuestionKey, SentimentReport> stored = ingestDeduplicator.findStoredBypassingFilter(keysOf(analyzedRequests));
+                if (stored.isEmpty()) {
+                    throw e;
+                }
+                log.info("동시에 저장된 답변 {}건을 제외하고 청크를 다시 저장합니다.", stored.size());
+                ingestDeduplicator.recordDuplicates(stored.size());
+                ingestDeduplicator.remember(stored.keySet());
+                analyzedRequests = withoutStored(analyzedRequests, stored);
+                if (!analyzedRequests.isEmpty()) {
+                    sentimentReportWriter.persistBatch(analyzedRequests);
+                }
+            }
+            ingestDeduplicator.remember(keysOf(analyzedRequests));
+        }
+        return analyzedRequests.stream().mapToInt(request -> request.answers().size()).sum();
+    }
+
+    private List<AnalyzedRequest> withoutStored(List<AnalyzedRequest> analyzedRequests, Map<ResponseQuestionKey, SentimentReport> stored) {
+        List<AnalyzedRequest> remaining = new ArrayList<>(analyzedRequests.size());
+        for (AnalyzedRequest request : analyzedRequests) {
+            List<AnalyzedAnswer> answers = request.answers().stream()
+                    .filter(answer -> !stored.containsKey(new ResponseQuestionKey(request.responseId(), answer.questionId())))
+                    .toList();
+            if (!answers.isEmpty()) {
+                remaining.add(new AnalyzedRequest(request.surveyId(), request.responseId(), request.userId(), answers));
+            }
+        }
+        return remaining;
+    }
+
+    private List<ResponseQuestionKey> keysOf(List<AnalyzedRequest> analyzedRequests) {
+        return analyzedRequests.stream()
+                               .flatMap(request -> request.answers().stream()
+                                                          .map(answer -> new ResponseQuestionKey(request.responseId(), answer.questionId())))
+                               .toList();
+    }
+
+    private long answersOf(List<AggregateRequest> chunk) {
+        return chunk.stream().mapToLong(request -> request.answers().size()).sum();
+    }
+}
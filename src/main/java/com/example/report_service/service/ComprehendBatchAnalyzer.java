@@ -0,0 +1,178 @@
+package com.example.report_service.service;
+
+import com.amazonaws.services.comprehend.model.AmazonComprehendException;
+import com.amazonaws.services.comprehend.model.BatchDetectSentimentItemResult;
+import com.amazonaws.services.comprehend.model.BatchDetectSentimentResult;
+import com.amazonaws.services.comprehend.model.BatchItemError;
+import com.example.report_service.dto.response.AWSComprehendResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시에 처리 중인 모든 요청의 분석 대상 텍스트를 언어별로 모아 BatchDetectSentiment 한 번으로 분석합니다.
+ * 대기열이 가득 차거나(최대 25건) 대기 시간(linger)이 지나면 배치를 전송하고, 각 호출자의 Future를 자신의 결과로 완료합니다.
+ */
+@Service
+@Slf4j
+public class ComprehendBatchAnalyzer {
+
+    // BatchDetectSentiment API가 허용하는 최대 문서 수
+    private static final int MAX_BATCH_SIZE = 25;
+
+    private final AwsComprehendService awsComprehendService;
+    private final boolean enabled;
+    private final long lingerMillis;
+    private final int maxBatchSize;
+    private final Map<String, PendingBatch> pendingByLanguage = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService lingerScheduler;
+    private final ExecutorService sender;
+
+    public ComprehendBatchAnalyzer(
+            AwsComprehendService awsComprehendService,
+            @Value("${aws.comprehend.batch.enabled:false}") boolean enabled,
+            @Value("${aws.comprehend.batch.linger-ms:20}") long lingerMillis,
+            @Value("${aws.comprehend.batch.max-size:25}") int maxBatchSize,
+            @Value("${aws.comprehend.batch.sender-threads:4}") int senderThreads
+    ) {
+        this.awsComprehendService = awsComprehendService;
+        this.enabled = enabled;
+        this.lingerMillis = lingerMillis;
+        this.maxBatchSize = Math.max(1, Math.min(maxBatchSize, MAX_BATCH_SIZE));
+        this.lingerScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "comprehend-batch-linger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "comprehend-batch-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Comprehend 배치 분석기 초기화 - 활성화={}, linger={}ms, 최대 배치 크기={}", enabled, lingerMillis, this.maxBatchSize);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 텍스트를 언어별 대기열에 추가하고, 배치 응답이 도착하면 완료되는 Future를 반환합니다.
+     */
+    public CompletableFuture<AWSComprehendResult> submit(String text, String languageCode) {
+        CompletableFuture<AWSComprehendResult> future = new CompletableFuture<>();
+        List<PendingText> ready = null;
+
+        PendingBatch batch = pendingByLanguage.computeIfAbsent(languageCode, PendingBatch::new);
+        synchronized (batch) {
+            batch.items.add(new PendingText(text, future));
+            if (batch.items.size() >= maxBatchSize) {
+                ready = batch.drain();
+            } else if (batch.items.size() == 1) {
+                batch.lingerTask = lingerScheduler.schedule(() -> flush(batch), lingerMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (ready != null) {
+            dispatch(languageCode, ready);
+        }
+        return future;
+    }
+
+    private void flush(PendingBatch batch) {
+        List<PendingText> ready;
+        synchronized (batch) {
+            ready = batch.drain();
+        }
+        if (!ready.isEmpty()) {
+            dispatch(batch.languageCode, ready);
+        }
+    }
+
+    private void dispatch(String languageCode, List<PendingText> items) {
+        try {
+            sender.execute(() -> send(languageCode, items));
+        } catch (RuntimeException e) {
+            items.forEach(item -> item.future().completeExceptionally(e));
+        }
+    }
+
+    private void send(String languageCode, List<PendingText> items) {
+        List<String> texts = new ArrayList<>(items.size());
+        items.forEach(item -> texts.add(item.text()));
+
+        BatchDetectSentimentResult result;
+        try {
+            result = awsComprehendService.batchAnalyzeText(texts, languageCode);
+        } catch (Exception e) {
+            items.forEach(item -> item.future().completeExceptionally(e));
+            return;
+        }
+
+        for (BatchDetectSentimentItemResult itemResult : result.getResultList()) {
+            items.get(itemResult.getIndex()).future().complete(AWSComprehendResult.from(itemResult));
+        }
+        for (BatchItemError error : result.getErrorList()) {
+            log.warn("AWS Comprehend 배치 항목 분석 실패 - index={}, code={}, message={}",
+                    error.getIndex(), error.getErrorCode(), error.getErrorMessage());
+            AmazonComprehendException exception = new AmazonComprehendException(error.getErrorMessage());
+            exception.setErrorCode(error.getErrorCode());
+            items.get(error.getIndex()).future().completeExceptionally(exception);
+        }
+
+        // 응답에 포함되지 않은 항목은 호출자가 무한정 대기하지 않도록 실패 처리
+        items.stream()
+             .filter(item -> !item.future().isDone())
+             .forEach(item -> item.future().completeExceptionally(
+                     new AmazonComprehendException("배치 응답에 분석 결과가 포함되지 않았습니다.")));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pendingByLanguage.values().forEach(this::flush);
+        lingerScheduler.shutdownNow();
+        sender.shutdown();
+        try {
+            if (!sender.awaitTermination(10, TimeUnit.SECONDS)) {
+                sender.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            sender.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class PendingBatch {
+        private final String languageCode;
+        private final List<PendingText> items = new ArrayList<>();
+        private ScheduledFuture<?> lingerTask;
+
+        private PendingBatch(String languageCode) {
+            this.languageCode = languageCode;
+        }
+
+        private List<PendingText> drain() {
+            if (lingerTask != null) {
+                lingerTask.cancel(false);
+                lingerTask = null;
+            }
+            List<PendingText> drained = new ArrayList<>(items);
+            items.clear();
+            return drained;
+        }
+    }
+
+    private record PendingText(String text, CompletableFuture<AWSComprehendResult> future) {}
+}
@@ -0,0 +1,191 @@
+package com.example.report_service.service;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.services.comprehend.model.TooManyRequestsException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * AWS Comprehend 호출에 대한 클라이언트 측 속도 제한기입니다.
+ * 계정 TPS 할당량에 맞춘 토큰 버킷으로 호출 속도를 제한하고, 동시 호출 수는 AIMD 방식으로 조절합니다
+ * (스로틀링 시 곱셈 감소, 성공 시 덧셈 증가). 한도에 걸린 호출자는 즉시 실패하지 않고 데드라인까지 대기 후 재시도합니다.
+ */
+@Component
+@Slf4j
+public class ComprehendRateLimiter {
+
+    private final boolean enabled;
+    private final double tokensPerNano;
+    private final double burst;
+    private final double minLimit;
+    private final double maxLimit;
+    private final double backoffRatio;
+    private final long maxWaitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private double tokens;
+    private long lastRefillNanos;
+    private double limit;
+    private int inFlight;
+
+    private final AtomicLong throttleCount = new AtomicLong();
+    private final Timer waitTimer;
+
+    public ComprehendRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${aws.comprehend.rate-limit.enabled:true}") boolean enabled,
+            @Value("${aws.comprehend.rate-limit.tps:20}") double tps,
+            @Value("${aws.comprehend.rate-limit.burst:20}") double burst,
+            @Value("${aws.comprehend.rate-limit.min-concurrency:1}") int minConcurrency,
+            @Value("${aws.comprehend.rate-limit.max-concurrency:32}") int maxConcurrency,
+            @Value("${aws.comprehend.rate-limit.backoff-ratio:0.5}") double backoffRatio,
+            @Value("${aws.comprehend.rate-limit.max-wait-ms:10000}") long maxWaitMillis
+    ) {
+        this.enabled = enabled;
+        this.tokensPerNano = tps / TimeUnit.SECONDS.toNanos(1);
+        this.burst = Math.max(1, burst);
+        this.minLimit = Math.max(1, minConcurrency);
+        this.maxLimit = Math.max(this.minLimit, maxConcurrency);
+        this.backoffRatio = backoffRatio;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.tokens = this.burst;
+        this.lastRefillNanos = System.nanoTime();
+        this.limit = this.maxLimit;
+
+        Gauge.builder("comprehend.ratelimit.limit", this, ComprehendRateLimiter::currentLimit)
+             .description("현재 AIMD 동시 호출 한도")
+             .register(meterRegistry);
+        Gauge.builder("comprehend.ratelimit.inflight", this, ComprehendRateLimiter::currentInFlight)
+             .description("진행 중인 Comprehend 호출 수")
+             .register(meterRegistry);
+        FunctionCounter.builder("comprehend.ratelimit.throttled", throttleCount, AtomicLong::doubleValue)
+                       .description("Comprehend 스로틀링 응답 수")
+                       .register(meterRegistry);
+        this.waitTimer = Timer.builder("comprehend.ratelimit.wait")
+                              .description("속도 제한으로 호출 전 대기한 시간")
+                              .publishPercentiles(0.5, 0.95, 0.99)
+                              .register(meterRegistry);
+    }
+
+    /**
+     * 속도 제한을 적용하여 호출합니다. 스로틀링 응답을 받으면 한도를 낮추고 데드라인까지 재시도합니다.
+     */
+    public <T> T execute(Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (true) {
+            acquire(deadline);
+            try {
+                T result = call.get();
+                onSuccess();
+                return result;
+            } catch (AmazonServiceException e) {
+                if (!RetryUtils.isThrottlingException(e) || System.nanoTime() >= deadline) {
+                    throw e;
+                }
+                onThrottle();
+                log.warn("AWS Comprehend 스로틀링 발생 - 동시 호출 한도를 {}로 낮추고 재시도합니다.", String.format("%.1f", currentLimit()));
+            } finally {
+                release();
+            }
+        }
+    }
+
+    private void acquire(long deadline) {
+        long startedAt = System.nanoTime();
+        lock.lock();
+        try {
+            while (true) {
+                refill();
+                if (inFlight < (int) limit && tokens >= 1) {
+                    tokens -= 1;
+                    inFlight++;
+                    return;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TooManyRequestsException("Comprehend 호출 대기 시간이 초과되었습니다.");
+                }
+                long untilNextToken = tokens >= 1 ? remaining : (long) Math.ceil((1 - tokens) / tokensPerNano);
+                available.awaitNanos(Math.min(remaining, Math.max(untilNextToken, 1)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestsException("Comprehend 호출 대기 중 인터럽트가 발생했습니다.");
+        } finally {
+            lock.unlock();
+            waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSuccess() {
+        lock.lock();
+        try {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onThrottle() {
+        throttleCount.incrementAndGet();
+        lock.lock();
+        try {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            // 남은 토큰을 비워 다음 호출이 토큰 보충 주기만큼 쉬도록 함
+            tokens = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+
+    private double currentLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double currentInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.report_service.service;
+
+import com.example.report_service.dto.internal.StoredReportKey;
+import com.example.report_service.dto.request.ResponseQuestionKey;
+import com.example.report_service.entity.SentimentReport;
+import com.example.report_service.repository.SentimentReportRepository;
+import com.example.report_service.service.sketch.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 이미 저장된 (응답 ID, 질문 ID)를 찾아 재전송된 답변을 다시 분석·집계하지 않도록 합니다.
+ * 저장된 키를 담은 Bloom 필터가 "없음"이라고 답하면 DB 조회를 생략하고, "있을 수 있음"인 경우에만 uk_response_question 인덱스로 확인합니다.
+ * 필터는 기동 시 기존 키로 채우고 이후 커밋된 키를 추가하며, 다른 레플리카가 저장한 키는 sentiment_reports의 ID 워터마크 이후
+ * 행을 주기적으로 읽어 추가합니다. 그래서 다른 레플리카로 재전송된 요청도 Comprehend를 다시 호출하지 않습니다.
+ * 폴링 전의 짧은 구간에 도착한 재전송은 여전히 유니크 제약 위반으로 걸러집니다.
+ */
+@Component
+@Slf4j
+public class IngestDeduplicator {
+
+    private final SentimentReportRepository sentimentReportRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final BloomFilter bloomFilter;
+    private final int syncBatchSize;
+    private final long syncLookbackIds;
+    // 이 ID까지의 키는 필터에 반영됨 (기동 시 필터를 채우기 전에는 -1)
+    private volatile long watermark = -1;
+    // 기동 시 필터를 채우기 전에는 모든 키를 "있을 수 있음"으로 취급하여 DB에서 확인
+    private volatile boolean warmedUp;
+
+    private final Counter bloomNegatives;
+    private final Counter lookups;
+    private final Counter duplicates;
+
+    public IngestDeduplicator(
+            SentimentReportRepository sentimentReportRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${report.ingest.dedup.enabled:true}") boolean enabled,
+            @Value("${report.ingest.dedup.expected-keys:5000000}") long expectedKeys,
+            @Value("${report.ingest.dedup.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${report.ingest.dedup.sync-batch-size:5000}") int syncBatchSize,
+            @Value("${report.ingest.dedup.sync-lookback-ids:1000}") long syncLookbackIds
+    ) {
+        this.sentimentReportRepository = sentimentReportRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.bloomFilter = BloomFilter.create(expectedKeys, falsePositiveRate);
+        this.syncBatchSize = Math.max(1, syncBatchSize);
+        this.syncLookbackIds = Math.max(0, syncLookbackIds);
+
+        this.bloomNegatives = Counter.builder("report.ingest.dedup.bloom-negative")
+                                     .description("Bloom 필터로 DB 조회 없이 신규로 판정한 답변 수")
+                                     .register(meterRegistry);
+        this.lookups = Counter.builder("report.ingest.dedup.lookups")
+                              .description("Bloom 필터 양성으로 DB에서 확인한 답변 수")
+                              .register(meterRegistry);
+        this.duplicates = Counter.builder("report.ingest.dedup.duplicates")
+                                 .description("이미 저장되어 분석·집계를 생략한 답변 수")
+                                 .register(meterRegistry);
+        Gauge.builder("report.ingest.dedup.expected-fpp", bloomFilter, BloomFilter::expectedFpp)
+             .description("현재 Bloom 필터 채움 비율로 추정한 오탐률")
+             .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        // 스트리밍 중에 저장된 키는 워터마크 이후이므로 다음 동기화에서 추가됨
+        long maxId = sentimentReportRepository.findMaxId().orElse(0L);
+        long loaded = readOnlyTransaction.execute(status -> {
+            try (Stream<ResponseQuestionKey> keys = sentimentReportRepository.streamAllResponseQuestionKeys()) {
+                return keys.mapToLong(key -> {
+                    bloomFilter.put(key.responseId(), key.questionId());
+                    return 1;
+                }).sum();
+            }
+        });
+        watermark = maxId;
+        warmedUp = true;
+        log.info("중복 수집 Bloom 필터 초기화 완료 - 키 {}건, {}ms, 추정 오탐률 {}",
+                loaded, System.currentTimeMillis() - startedAt, String.format("%.4f", bloomFilter.expectedFpp()));
+    }
+
+    /**
+     * 워터마크 이후 저장된 키(다른 레플리카가 저장한 키 포함)를 ID 순서로 읽어 필터에 추가합니다.
+     * ID는 INSERT 시점에 할당되고 커밋은 그보다 늦을 수 있으므로, 워터마크보다 lookback만큼 앞에서부터 다시 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${report.ingest.dedup.sync-interval-ms:1000}")
+    public void syncStoredKeys() {
+        if (!enabled || !warmedUp) {
+            return;
+        }
+        try {
+            long from = Math.max(0, watermark - syncLookbackIds);
+            long latest = watermark;
+            List<StoredReportKey> keys;
+            do {
+                keys = sentimentReportRepository.findKeysAfter(from, PageRequest.of(0, syncBatchSize));
+                for (StoredReportKey key : keys) {
+                    bloomFilter.put(key.responseId(), key.questionId());
+                    from = key.id();
+                }
+                latest = Math.max(latest, from);
+            } while (keys.size() == syncBatchSize);
+            watermark = latest;
+        } catch (RuntimeException e) {
+            log.warn("중복 수집 Bloom 필터 동기화 실패 - 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    /**
+     * 주어진 키 중 이미 저장된 키의 개별 보고서를 반환합니다. Bloom 필터가 없다고 판정한 키는 조회하지 않습니다.
+     */
+    public Map<ResponseQuestionKey, SentimentReport> findStored(Collection<ResponseQuestionKey> keys) {
+        if (!enabled) {
+            return Map.of();
+        }
+        Set<ResponseQuestionKey> candidates = keys.stream()
+                                                  .filter(key -> !warmedUp || bloomFilter.mightContain(key.responseId(), key.questionId()))
+                                                  .collect(Collectors.toSet());
+        bloomNegatives.increment(keys.size() - candidates.size());
+        return lookup(candidates);
+    }
+
+    /**
+     * Bloom 필터를 거치지 않고 DB에서 직접 확인합니다. 다른 레플리카와 동시에 저장하여 유니크 제약을 위반한 뒤 재시도할 때 사용합니다.
+     */
+    public Map<ResponseQuestionKey, SentimentReport> findStoredBypassingFilter(Collection<ResponseQuestionKey> keys) {
+        return enabled ? lookup(Set.copyOf(keys)) : Map.of();
+    }
+
+    public void recordDuplicates(int count) {
+        duplicates.increment(count);
+    }
+
+    /**
+     * 커밋된 키를 Bloom 필터에 추가합니다. 저장 트랜잭션이 끝난 뒤 호출해야 롤백된 키가 필터에 남지 않습니다.
+     */
+    public void remember(Collection<ResponseQuestionKey> keys) {
+        if (enabled) {
+            keys.forEach(key -> bloomFilter.put(key.responseId(), key.questionId()));
+        }
+    }
+
+    private Map<ResponseQuestionKey, SentimentReport> lookup(Set<ResponseQuestionKey> candidates) {
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+        lookups.increment(candidates.size());
+        Set<Long> responseIds = candidates.stream().map(ResponseQuestionKey::responseId).collect(Collectors.toSet());
+        Map<ResponseQuestionKey, SentimentReport> stored = new HashMap<>();
+        for (SentimentReport report : sentimentReportRepository.findAllByResponseIdIn(responseIds)) {
+            ResponseQuestionKey key = new ResponseQuestionKey(report.getResponseId(), report.getQuestionId());
+            if (candidates.contains(key)) {
+                stored.put(key, report);
+            }
+        }
+        return stored;
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.report_service.service;
+
+import com.example.global.exception.type.NotFoundException;
+import com.example.report_service.dto.request.AggregateRequest;
+import com.example.report_service.dto.response.IngestJobDto;
+import com.example.report_service.entity.IngestJob;
+import com.example.report_service.entity.IngestJobStatus;
+import com.example.report_service.exception.ReportExceptionType;
+import com.example.report_service.repository.IngestJobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 비동기 수집 모드에서 AggregateRequest를 작업 테이블에 저장하고, 작업의 선점·완료·재시도 상태를 관리합니다.
+ * 작업은 DB에 영속화되므로 파드가 재시작되어도 유실되지 않습니다.
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class IngestJobService {
+
+    private static final List<IngestJobStatus> IN_FLIGHT = List.of(IngestJobStatus.PENDING, IngestJobStatus.RUNNING);
+
+    private final IngestJobRepository ingestJobRepository;
+    private final SentimentReportService sentimentReportService;
+    private final ObjectMapper objectMapper;
+    private final boolean asyncEnabled;
+    private final long maxQueueSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration staleTimeout;
+    private final Duration succeededRetention;
+    private final int purgeBatchSize;
+
+    public IngestJobService(
+            IngestJobRepository ingestJobRepository,
+            SentimentReportService sentimentReportService,
+            ObjectMapper objectMapper,
+            @Value("${report.ingest.async.enabled:false}") boolean asyncEnabled,
+            @Value("${report.ingest.async.max-queue-size:10000}") long maxQueueSize,
+            @Value("${report.ingest.async.max-attempts:5}") int maxAttempts,
+            @Value("${report.ingest.async.retry-backoff-ms:2000}") long retryBackoffMillis,
+            @Value("${report.ingest.async.stale-timeout-ms:300000}") long staleTimeoutMillis,
+            @Value("${report.ingest.async.succeeded-retention-hours:24}") long succeededRetentionHours,
+            @Value("${report.ingest.async.purge-batch-size:1000}") int purgeBatchSize
+    ) {
+        this.ingestJobRepository = ingestJobRepository;
+        this.sentimentReportService = sentimentReportService;
+        this.objectMapper = objectMapper;
+        this.asyncEnabled = asyncEnabled;
+        this.maxQueueSize = maxQueueSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMillis);
+        this.staleTimeout = Duration.ofMillis(staleTimeoutMillis);
+        this.succeededRetention = Duration.ofHours(succeededRetentionHours);
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    /**
+     * 대기 중이거나 실행 중인 작업 수가 큐 한도에 도달했는지 확인합니다.
+     */
+    public boolean isQueueFull() {
+        return ingestJobRepository.countByStatusIn(IN_FLIGHT) >= maxQueueSize;
+    }
+
+    @Transactional
+    public IngestJobDto enqueue(AggregateRequest aggregateRequest) {
+        sentimentReportService.validateAggregateRequest(aggregateRequest);
+
+        IngestJob job = IngestJob.builder()
+                                 .surveyId(aggregateRequest.surveyId())
+                                 .responseId(aggregateRequest.responseId())
+                                 .payload(writePayload(aggregateRequest))
+                                 .build();
+        IngestJob saved = ingestJobRepository.save(job);
+        log.info("비동기 분석 작업 등록 완료 - 작업 ID: {}, 설문 ID: {}, 응답 ID: {}", saved.getId(), saved.getSurveyId(), saved.getResponseId());
+        return IngestJobDto.from(saved);
+    }
+
+    public IngestJobDto getJob(Long jobId) {
+        return IngestJobDto.from(findJob(jobId));
+    }
+
+    /**
+     * 실행 시각이 도래한 작업을 최대 limit건까지 선점하여 ID 목록을 반환합니다.
+     */
+    @Transactional
+    public List<Long> claimDueJobs(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> candidates = ingestJobRepository.findDueJobIds(IngestJobStatus.PENDING, now, PageRequest.of(0, limit));
+        List<Long> claimed = new ArrayList<>(candidates.size());
+        for (Long jobId : candidates) {
+            if (ingestJobRepository.claim(jobId, now) == 1) {
+                claimed.add(jobId);
+            }
+        }
+        return claimed;
+    }
+
+    public AggregateRequest readPayload(Long jobId) {
+        try {
+            return objectMapper.readValue(findJob(jobId).getPayload(), AggregateRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("작업 페이로드를 역직렬화할 수 없습니다. 작업 ID: " + jobId, e);
+        }
+    }
+
+    @Transactional
+    public void markSucceeded(Long jobId) {
+        findJob(jobId).markSucceeded();
+        log.info("비동기 분석 작업 완료 - 작업 ID: {}", jobId);
+    }
+
+    /**
+     * 실패한 작업을 지수 백오프로 재시도 대기시키거나, 최대 시도 횟수를 넘으면 FAILED로 종료합니다.
+     */
+    @Transactional
+    public void markFailed(Long jobId, Throwable error) {
+        IngestJob job = findJob(jobId);
+        LocalDateTime retryAt = LocalDateTime.now().plus(retryBackoff.multipliedBy(1L << Math.min(job.getAttempts(), 10)));
+        job.markAttemptFailed(error.toString(), maxAttempts, retryAt);
+        log.warn("비동기 분석 작업 실패 - 작업 ID: {}, 시도 횟수: {}, 상태: {}", jobId, job.getAttempts(), job.getStatus(), error);
+    }
+
+    /**
+     * 실행 도중 파드가 종료되어 RUNNING 상태로 남은 작업을 재시도 대상으로 되돌립니다.
+     * 중단도 한 번의 시도로 세며, 최대 시도 횟수에 도달한 작업은 FAILED로 종료합니다.
+     */
+    @Transactional
+    public int requeueStaleJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(staleTimeout);
+        int failed = ingestJobRepository.failStale(staleBefore, maxAttempts, "작업 실행 중 워커가 중단되었습니다.");
+        if (failed > 0) {
+            log.error("중단이 반복되어 최대 시도 횟수에 도달한 비동기 분석 작업 {}건을 실패 처리했습니다.", failed);
+        }
+        int requeued = ingestJobRepository.requeueStale(staleBefore, now);
+        if (requeued > 0) {
+            log.warn("중단된 비동기 분석 작업 {}건을 재등록했습니다.", requeued);
+        }
+        return requeued;
+    }
+
+    /**
+     * 이 워커에서 실행 중인 작업의 시작 시각을 갱신합니다.
+     */
+    @Transactional
+    public void heartbeat(Collection<Long> jobIds) {
+        if (!jobIds.isEmpty()) {
+            ingestJobRepository.heartbeat(jobIds, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 SUCCEEDED 작업을 한 배치 삭제하고 삭제 건수를 반환합니다.
+     * 배치마다 트랜잭션을 나누도록 호출 측에서 반환값이 배치 크기보다 작아질 때까지 반복합니다.
+     */
+    @Transactional
+    public int purgeSucceededJobs() {
+        return ingestJobRepository.deleteSucceededBefore(LocalDateTime.now().minus(succeededRetention), purgeBatchSize);
+    }
+
+    public int getPurgeBatchSize() {
+        return purgeBatchSize;
+    }
+
+    private IngestJob findJob(Long jobId) {
+        return ingestJobRepository.findById(jobId)
+                                  .orElseThrow(() -> {
+                                      log.warn("분석 작업 ID [{}]를 찾을 수 없습니다", jobId);
+                                      return new NotFoundException(ReportExceptionType.INGEST_JOB_NOT_FOUND);
+                                  });
+    }
+
+    private String writePayload(AggregateRequest aggregateRequest) {
+        try {
+            return objectMapper.writeValueAsString(aggregateRequest);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("AggregateRequest를 직렬화할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.report_service.service;
+
+import com.example.report_service.dto.request.AggregateRequest;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작업 테이블을 주기적으로 폴링하여 고정 크기 워커 풀로 비동기 분석 작업을 처리합니다.
+ * 풀에 남은 자리만큼만 작업을 선점하므로 처리량을 넘는 작업은 DB 대기열에 남아 있습니다.
+ * 실행 중인 작업은 heartbeat-interval-ms마다 시작 시각을 갱신하므로, 이 값은 stale-timeout-ms보다 충분히 작아야 합니다.
+ */
+@Component
+@Slf4j
+public class IngestJobWorker {
+
+    private final IngestJobService ingestJobService;
+    private final SentimentReportService sentimentReportService;
+    private final Semaphore slots;
+    private final ExecutorService workers;
+    private final Set<Long> runningJobIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean running = true;
+
+    public IngestJobWorker(
+            IngestJobService ingestJobService,
+            SentimentReportService sentimentReportService,
+            @Value("${report.ingest.async.workers:4}") int workerCount
+    ) {
+        this.ingestJobService = ingestJobService;
+        this.sentimentReportService = sentimentReportService;
+        this.slots = new Semaphore(workerCount);
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount,
+                runnable -> new Thread(runnable, "ingest-worker-" + sequence.incrementAndGet()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        if (ingestJobService.isAsyncEnabled()) {
+            ingestJobService.requeueStaleJobs();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${report.ingest.async.poll-interval-ms:500}")
+    public void poll() {
+        if (!ingestJobService.isAsyncEnabled() || !running) {
+            return;
+        }
+        int available = slots.availablePermits();
+        if (available == 0) {
+            return;
+        }
+
+        List<Long> jobIds = ingestJobService.claimDueJobs(available);
+        for (Long jobId : jobIds) {
+            slots.acquireUninterruptibly();
+            workers.execute(() -> {
+                try {
+                    process(jobId);
+                } finally {
+                    slots.release();
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${report.ingest.async.stale-check-interval-ms:60000}")
+    public void requeueStale() {
+        if (ingestJobService.isAsyncEnabled() && running) {
+            ingestJobService.requeueStaleJobs();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${report.ingest.async.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        if (!ingestJobService.isAsyncEnabled() || runningJobIds.isEmpty()) {
+            return;
+        }
+        try {
+            ingestJobService.heartbeat(List.copyOf(runningJobIds));
+        } catch (RuntimeException e) {
+            log.warn("실행 중인 비동기 분석 작업의 시작 시각 갱신에 실패했습니다. 작업 {}건", runningJobIds.size(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${report.ingest.async.purge-interval-ms:600000}")
+    public void purgeSucceeded() {
+        if (!ingestJobService.isAsyncEnabled() || !running) {
+            return;
+        }
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = ingestJobService.purgeSucceededJobs();
+            purged += deleted;
+        } while (deleted >= ingestJobService.getPurgeBatchSize() && running);
+        if (purged > 0) {
+            log.info("보관 기간이 지난 완료 작업 {}건을 삭제했습니다.", purged);
+        }
+    }
+
+    private void process(Long jobId) {
+        runningJobIds.add(jobId);
+        try {
+            AggregateRequest aggregateRequest = ingestJobService.readPayload(jobId);
+            sentimentReportService.aggregateAndGenerateReport(aggregateRequest);
+            ingestJobService.markSucceeded(jobId);
+        } catch (Exception e) {
+            ingestJobService.markFailed(jobId, e);
+        } finally {
+            runningJobIds.remove(jobId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("종료 대기 시간 내에 끝나지 않은 비동기 분석 작업은 재시작 후 재처리됩니다.");
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
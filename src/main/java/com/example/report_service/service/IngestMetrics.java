@@ -0,0 +1,113 @@
+package com.example.report_service.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 수집 경로의 단계별 지연 시간과 처리량을 기록합니다.
+ * 각 단계는 Observation으로 감싸 타이머(report.ingest.stage)와 트레이싱 스팬을 함께 생성하며,
+ * 스팬과 메트릭에는 카디널리티를 제한하기 위해 설문 ID 대신 설문 ID 버킷을 태그로 사용합니다.
+ */
+@Component
+public class IngestMetrics {
+
+    public static final String STAGE_VALIDATE = "validate";
+    public static final String STAGE_ANALYZE = "analyze";
+    public static final String STAGE_PERSIST_REPORT = "persist_report";
+    public static final String STAGE_REGENERATE_OVERALL = "regenerate_overall";
+    public static final String STAGE_LINK_CHILDREN = "link_children";
+    public static final String STAGE_UPDATE_TRENDS = "update_trends";
+    public static final String STAGE_UPDATE_SURVEY = "update_survey";
+    public static final String STAGE_UPDATE_SKETCHES = "update_sketches";
+
+    private final ObservationRegistry observationRegistry;
+    private final int surveyBuckets;
+    private final Timer analyzePerAnswer;
+    private final Counter requests;
+    private final Counter answers;
+    private final Counter questions;
+
+    public IngestMetrics(
+            MeterRegistry meterRegistry,
+            ObservationRegistry observationRegistry,
+            @Value("${report.metrics.survey-buckets:16}") int surveyBuckets
+    ) {
+        this.observationRegistry = observationRegistry;
+        this.surveyBuckets = Math.max(1, surveyBuckets);
+        this.analyzePerAnswer = Timer.builder("report.ingest.analyze.per-answer")
+                                     .description("요청 내 답변 한 건당 분석 시간")
+                                     .publishPercentiles(0.5, 0.95, 0.99)
+                                     .publishPercentileHistogram()
+                                     .register(meterRegistry);
+        this.requests = Counter.builder("report.ingest.requests")
+                               .description("처리한 AggregateRequest 수")
+                               .register(meterRegistry);
+        this.answers = Counter.builder("report.ingest.answers")
+                              .description("처리한 답변 수")
+                              .register(meterRegistry);
+        this.questions = Counter.builder("report.ingest.questions")
+                                .description("전체 보고서를 갱신한 질문 수")
+                                .register(meterRegistry);
+    }
+
+    public <T> T observe(String stage, Long surveyId, Supplier<T> body) {
+        return stageObservation(stage, surveyId).observe(body);
+    }
+
+    public void observe(String stage, Long surveyId, Runnable body) {
+        stageObservation(stage, surveyId).observe(body);
+    }
+
+    /**
+     * 분석 단계 소요 시간을 답변 수로 나누어 답변당 분석 시간으로 기록합니다. 배치/병렬 분석 시에는 상각된 값입니다.
+     */
+    public void recordAnalysis(Duration elapsed, int answerCount) {
+        if (answerCount > 0) {
+            analyzePerAnswer.record(elapsed.dividedBy(answerCount));
+        }
+    }
+
+    /**
+     * 저장된 요청·답변·질문 수를 기록합니다. 트랜잭션 안에서 호출하면 커밋된 뒤에만 기록하므로,
+     * 잠금 충돌 재시도나 중복 제출로 롤백된 뒤 다시 저장한 시도는 한 번만 셉니다.
+     */
+    public void recordProcessed(int requestCount, int answerCount, int questionCount) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            incrementProcessed(requestCount, answerCount, questionCount);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                incrementProcessed(requestCount, answerCount, questionCount);
+            }
+        });
+    }
+
+    private void incrementProcessed(int requestCount, int answerCount, int questionCount) {
+        requests.increment(requestCount);
+        answers.increment(answerCount);
+        questions.increment(questionCount);
+    }
+
+    private Observation stageObservation(String stage, Long surveyId) {
+        return Observation.createNotStarted("report.ingest.stage", observationRegistry)
+                          .lowCardinalityKeyValue("stage", stage)
+                          .lowCardinalityKeyValue("survey.bucket", surveyBucket(surveyId))
+                          .highCardinalityKeyValue("survey.id", String.valueOf(surveyId));
+    }
+
+    private String surveyBucket(Long surveyId) {
+        return surveyId == null ? "none" : String.valueOf(Math.floorMod(surveyId, surveyBuckets));
+    }
+}
@@ -0,0 +1,506 @@
+package com.example.report_service.service;
+
+import com.example.report_service.dto.internal.SentimentTotals;
+import com.example.report_service.dto.request.SurveyQuestionKey;
+import com.example.report_service.entity.TrendGranularity;
+import com.example.report_service.repository.OverallSentimentReportRepository;
+import com.example.report_service.repository.SentimentReportRepository;
+import com.example.report_service.repository.SentimentTrendBucketRepository;
+import com.example.report_service.repository.SurveySentimentReportRepository;
+import com.example.report_service.repository.WriteBehindJournalStateRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 질문별 전체 보고서, 추이 롤업, 설문 단위 통계의 증분을 메모리에 모았다가 키마다 한 번의 upsert로 반영하는 쓰기 지연 집계기입니다.
+ * 증분은 키별 LongAdder/DoubleAdder에 잠금 없이 합쳐지며, 일정 주기(flush-interval-ms) 또는 키별 증분 수(max-deltas-per-key)에
+ * 도달하면 플러시합니다. 저널 모드에서는 증분을 커밋 직전에 로컬 파일에 기록하므로 비정상 종료 후에도 재시작 시 복구되며,
+ * 반영한 세그먼트 번호를 플러시 트랜잭션 안에서 함께 기록하므로 재시작 시 같은 세그먼트를 두 번 반영하지 않습니다.
+ * 비활성화(기본값)되어 있으면 작성기는 요청마다 바로 upsert합니다.
+ */
+@Component
+@Slf4j
+public class OverallWriteBehindAggregator {
+
+    // 개별 보고서 연결 UPDATE와 존재 확인 조회 한 번에 넣는 ID 수
+    private static final int ID_CHUNK_SIZE = 1000;
+    private static final Comparator<SurveyQuestionKey> KEY_ORDER =
+            Comparator.comparing(SurveyQuestionKey::surveyId).thenComparing(SurveyQuestionKey::questionId);
+    private static final Comparator<TrendBucketKey> TREND_KEY_ORDER =
+            Comparator.comparing(TrendBucketKey::surveyId)
+                      .thenComparing(TrendBucketKey::questionId)
+                      .thenComparing(TrendBucketKey::granularity)
+                      .thenComparing(TrendBucketKey::bucketStart);
+
+    private final OverallSentimentReportRepository overallReportRepository;
+    private final SurveySentimentReportRepository surveyReportRepository;
+    private final SentimentReportRepository sentimentReportRepository;
+    private final SentimentTrendBucketRepository trendBucketRepository;
+    private final ReportVersionTracker reportVersionTracker;
+    private final WriteBehindJournalStateRepository journalStateRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxDeltasPerKey;
+    private final String journalId;
+    private final WriteBehindJournal journal;
+
+    private final ConcurrentHashMap<SurveyQuestionKey, PendingDelta> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<TrendBucketKey, PendingDelta> pendingTrends = new ConcurrentHashMap<>();
+    // 저널 파일 추가를 직렬화하는 잠금 (저널 모드에서만 사용)
+    private final ReentrantLock journalLock = new ReentrantLock();
+    // 저널 기록부터 메모리 합산까지(커밋 전후)를 읽기 잠금으로, 세그먼트 교체를 쓰기 잠금으로 보호하여
+    // 닫힌 세그먼트의 증분이 모두 메모리에 합쳐진 뒤에만 플러시가 가져가도록 함 (저널 모드에서만 사용)
+    private final ReentrantReadWriteLock segmentLock = new ReentrantReadWriteLock(true);
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final ExecutorService flushExecutor;
+    private final Timer flushTimer;
+
+    public OverallWriteBehindAggregator(
+            OverallSentimentReportRepository overallReportRepository,
+            SurveySentimentReportRepository surveyReportRepository,
+            SentimentReportRepository sentimentReportRepository,
+            SentimentTrendBucketRepository trendBucketRepository,
+            ReportVersionTracker reportVersionTracker,
+            WriteBehindJournalStateRepository journalStateRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${report.write-behind.enabled:false}") boolean enabled,
+            @Value("${report.write-behind.max-deltas-per-key:500}") int maxDeltasPerKey,
+            @Value("${report.write-behind.journal.enabled:false}") boolean journalEnabled,
+            @Value("${report.write-behind.journal.path:}") String journalPath,
+            @Value("${report.write-behind.journal.fsync:true}") boolean fsync,
+            @Value("${report.write-behind.journal.id:}") String journalId
+    ) {
+        this.overallReportRepository = overallReportRepository;
+        this.surveyReportRepository = surveyReportRepository;
+        this.sentimentReportRepository = sentimentReportRepository;
+        this.trendBucketRepository = trendBucketRepository;
+        this.reportVersionTracker = reportVersionTracker;
+        this.journalStateRepository = journalStateRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxDeltasPerKey = Math.max(1, maxDeltasPerKey);
+        this.journalId = journalId;
+        this.flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-behind-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flushTimer = Timer.builder("report.write-behind.flush")
+                               .description("쓰기 지연 증분을 DB에 반영하는 데 걸린 시간")
+                               .register(meterRegistry);
+        Gauge.builder("report.write-behind.pending", pending, Map::size)
+             .description("플러시 대기 중인 (설문, 질문) 키 수")
+             .register(meterRegistry);
+        Gauge.builder("report.write-behind.pending.trends", pendingTrends, Map::size)
+             .description("플러시 대기 중인 추이 버킷 키 수")
+             .register(meterRegistry);
+
+        if (enabled && journalEnabled) {
+            // 임시 디렉터리나 재시작마다 바뀌는 호스트 이름을 쓰면 재시작 후 세그먼트를 찾지 못해 복구가 조용히 무력화됨
+            if (journalPath.isBlank() || journalId.isBlank()) {
+                throw new IllegalStateException("쓰기 지연 저널을 사용하려면 재시작 후에도 유지되는 "
+                        + "report.write-behind.journal.path와 report.write-behind.journal.id를 명시해야 합니다.");
+            }
+            this.journal = new WriteBehindJournal(Path.of(journalPath), fsync);
+            recover();
+        } else {
+            this.journal = null;
+        }
+        if (enabled) {
+            log.info("전체 보고서 쓰기 지연 집계 활성화 - 키별 최대 증분 수={}, 저널={}", this.maxDeltasPerKey, journal != null);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 증분을 합칩니다. 롤백된 개별 보고서의 증분이 집계에 섞이지 않도록 합니다.
+     * 저널 모드에서는 트랜잭션의 증분을 커밋 직전에 한 번에 저널에 기록하므로, 커밋 직후 종료되어도 증분을 잃지 않습니다.
+     * childIds는 증분에 포함된 새 개별 보고서의 ID이며, 플러시할 때 이 ID로 전체 보고서에 연결합니다.
+     * occurredAt은 증분이 속한 추이 버킷을 정하는 시각으로, 증분의 개별 보고서는 모두 같은 시간 버킷에 속해야 합니다.
+     */
+    public void addOnCommit(Long surveyId, Long questionId, LocalDateTime occurredAt, SentimentTotals totals, List<Long> childIds) {
+        JournaledDelta delta = new JournaledDelta(new SurveyQuestionKey(surveyId, questionId), occurredAt, totals,
+                childIds.stream().filter(Objects::nonNull).toList());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(delta);
+            return;
+        }
+        transactionDeltas().deltas.add(delta);
+    }
+
+    private TransactionDeltas transactionDeltas() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof TransactionDeltas transactionDeltas) {
+                return transactionDeltas;
+            }
+        }
+        TransactionDeltas transactionDeltas = new TransactionDeltas();
+        TransactionSynchronizationManager.registerSynchronization(transactionDeltas);
+        return transactionDeltas;
+    }
+
+    private void add(JournaledDelta delta) {
+        if (journal == null) {
+            merge(delta);
+            return;
+        }
+        segmentLock.readLock().lock();
+        try {
+            appendToJournal(List.of(delta));
+            merge(delta);
+        } finally {
+            segmentLock.readLock().unlock();
+        }
+    }
+
+    private void appendToJournal(List<JournaledDelta> deltas) {
+        journalLock.lock();
+        try {
+            deltas.forEach(delta -> journal.append(delta.key(), delta.occurredAt(), delta.totals(), delta.childIds()));
+            journal.force();
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    /**
+     * DB에 반영된 번호보다 큰 세그먼트의 증분을 복구합니다. 저널에 기록된 뒤 커밋이 실패한 트랜잭션의 증분은
+     * 개별 보고서가 저장되지 않았으므로, 개별 보고서가 존재하는 증분만 합칩니다.
+     */
+    private void recover() {
+        long appliedSequence = journalStateRepository.findAppliedSequence(journalId).orElse(0L);
+        List<JournaledDelta> recovered = new ArrayList<>();
+        journal.recover(appliedSequence,
+                (key, occurredAt, totals, childIds) -> recovered.add(new JournaledDelta(key, occurredAt, totals, childIds)));
+
+        List<Long> firstChildIds = recovered.stream()
+                                            .filter(delta -> !delta.childIds().isEmpty())
+                                            .map(delta -> delta.childIds().get(0))
+                                            .toList();
+        Set<Long> committed = new HashSet<>();
+        for (int from = 0; from < firstChildIds.size(); from += ID_CHUNK_SIZE) {
+            committed.addAll(sentimentReportRepository.findExistingIds(
+                    firstChildIds.subList(from, Math.min(from + ID_CHUNK_SIZE, firstChildIds.size()))));
+        }
+        int skipped = 0;
+        for (JournaledDelta delta : recovered) {
+            if (!delta.childIds().isEmpty() && !committed.contains(delta.childIds().get(0))) {
+                skipped++;
+                continue;
+            }
+            merge(delta);
+        }
+        if (skipped > 0) {
+            log.warn("쓰기 지연 저널에서 커밋되지 않은 트랜잭션의 증분 {}건을 건너뛰었습니다.", skipped);
+        }
+    }
+
+    private void merge(JournaledDelta delta) {
+        merge(pending, delta.key(), delta.totals(), delta.childIds());
+        for (TrendGranularity granularity : TrendGranularity.values()) {
+            TrendBucketKey trendKey = new TrendBucketKey(delta.key().surveyId(), delta.key().questionId(),
+                    granularity, granularity.bucketStartOf(delta.occurredAt()));
+            merge(pendingTrends, trendKey, delta.totals(), List.of());
+        }
+    }
+
+    private <K> void merge(ConcurrentHashMap<K, PendingDelta> target, K key, SentimentTotals totals, List<Long> childIds) {
+        while (true) {
+            PendingDelta delta = target.computeIfAbsent(key, k -> new PendingDelta());
+            // 플러시가 가져간(봉인된) 항목이면 맵에서 이미 제거되었으므로 새 항목으로 재시도
+            if (delta.tryEnter()) {
+                long deltas;
+                try {
+                    deltas = delta.add(totals, childIds);
+                } finally {
+                    delta.exit();
+                }
+                if (deltas >= maxDeltasPerKey) {
+                    requestFlush();
+                }
+                return;
+            }
+        }
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${report.write-behind.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        if (enabled) {
+            flush();
+        }
+    }
+
+    /**
+     * 모인 증분을 키마다 한 번의 upsert로 반영합니다. 실패하면 증분을 다시 메모리에 합쳐 다음 플러시에서 재시도합니다.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            long closedSegment = -1;
+            Map<SurveyQuestionKey, DetachedDelta> batch;
+            Map<TrendBucketKey, DetachedDelta> trendBatch;
+            if (journal != null) {
+                segmentLock.writeLock().lock();
+                try {
+                    closedSegment = journal.rotate();
+                    batch = detachAll(pending, KEY_ORDER);
+                    trendBatch = detachAll(pendingTrends, TREND_KEY_ORDER);
+                } finally {
+                    segmentLock.writeLock().unlock();
+                }
+            } else {
+                batch = detachAll(pending, KEY_ORDER);
+                trendBatch = detachAll(pendingTrends, TREND_KEY_ORDER);
+            }
+
+            if (!batch.isEmpty() || !trendBatch.isEmpty()) {
+                long appliedSegment = closedSegment;
+                try {
+                    flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                        apply(batch);
+                        applyTrends(trendBatch);
+                        // 증분과 같은 트랜잭션에 기록하여 세그먼트 삭제 전에 종료되어도 재시작 시 다시 반영하지 않음
+                        if (journal != null) {
+                            journalStateRepository.markApplied(journalId, appliedSegment);
+                        }
+                    }));
+                    log.debug("쓰기 지연 증분 반영 완료 - {}개 키, 추이 {}개 키", batch.size(), trendBatch.size());
+                } catch (RuntimeException e) {
+                    log.error("쓰기 지연 증분 반영 실패 - {}개 키, 추이 {}개 키를 다음 플러시에서 재시도합니다.",
+                            batch.size(), trendBatch.size(), e);
+                    batch.forEach((key, delta) -> merge(pending, key, delta.totals(), delta.childIds()));
+                    trendBatch.forEach((key, delta) -> merge(pendingTrends, key, delta.totals(), delta.childIds()));
+                    return;
+                }
+            }
+            if (journal != null) {
+                journal.deleteUpTo(closedSegment);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 증분을 모두 떼어 키 순서대로 반환합니다. 다른 레플리카의 플러시와 같은 순서로 잠가 교착 상태를 피합니다.
+     */
+    private <K> Map<K, DetachedDelta> detachAll(ConcurrentHashMap<K, PendingDelta> source, Comparator<K> order) {
+        Map<K, DetachedDelta> batch = new TreeMap<>(order);
+        for (Map.Entry<K, PendingDelta> entry : source.entrySet()) {
+            PendingDelta delta = entry.getValue();
+            if (source.remove(entry.getKey(), delta)) {
+                delta.seal();
+                batch.put(entry.getKey(), new DetachedDelta(delta.toTotals(), delta.childIds()));
+            }
+        }
+        return batch;
+    }
+
+    private void apply(Map<SurveyQuestionKey, DetachedDelta> batch) {
+        Map<Long, SentimentTotals> totalsBySurvey = new TreeMap<>();
+        Map<Long, Integer> newQuestionsBySurvey = new HashMap<>();
+        batch.forEach((key, delta) -> {
+            SentimentTotals totals = delta.totals();
+            boolean created = overallReportRepository.upsertIncrement(key.surveyId(), key.questionId(), totals) == 1;
+            Long overallId = overallReportRepository.findIdBySurveyIdAndQuestionId(key.surveyId(), key.questionId()).orElseThrow();
+            // 쓰기 지연 중 저장된 개별 보고서들을 ID로 전체 보고서에 연결
+            List<Long> childIds = delta.childIds();
+            for (int from = 0; from < childIds.size(); from += ID_CHUNK_SIZE) {
+                sentimentReportRepository.linkReports(overallId, childIds.subList(from, Math.min(from + ID_CHUNK_SIZE, childIds.size())));
+            }
+
+            totalsBySurvey.merge(key.surveyId(), totals, SentimentTotals::plus);
+            newQuestionsBySurvey.merge(key.surveyId(), created ? 1 : 0, Integer::sum);
+        });
+        totalsBySurvey.forEach((surveyId, totals) -> {
+            surveyReportRepository.upsertIncrement(surveyId, newQuestionsBySurvey.get(surveyId), totals);
+            reportVersionTracker.bump(surveyId);
+        });
+    }
+
+    /**
+     * 추이 버킷 증분을 (설문 ID, 질문 ID, 단위, 버킷 시작) 순서로 버킷마다 한 번씩 누적합니다.
+     */
+    private void applyTrends(Map<TrendBucketKey, DetachedDelta> trendBatch) {
+        Set<Long> surveyIds = new HashSet<>();
+        trendBatch.forEach((key, delta) -> {
+            trendBucketRepository.upsertIncrement(key.surveyId(), key.questionId(), key.granularity().name(), key.bucketStart(), delta.totals());
+            surveyIds.add(key.surveyId());
+        });
+        surveyIds.forEach(reportVersionTracker::bump);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (enabled) {
+            log.info("종료 전 쓰기 지연 증분을 반영합니다. 대기 중인 키 {}개, 추이 {}개", pending.size(), pendingTrends.size());
+            flush();
+        }
+        flushExecutor.shutdown();
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private record DetachedDelta(SentimentTotals totals, List<Long> childIds) {}
+
+    private record JournaledDelta(SurveyQuestionKey key, LocalDateTime occurredAt, SentimentTotals totals, List<Long> childIds) {}
+
+    private record TrendBucketKey(Long surveyId, Long questionId, TrendGranularity granularity, LocalDateTime bucketStart) {}
+
+    /**
+     * 트랜잭션 하나의 증분입니다. 커밋 직전에 저널에 한 번에 기록(fsync 1회)하고 커밋된 뒤 메모리에 합칩니다.
+     * 기록부터 합산까지 세그먼트 읽기 잠금을 잡아 그 사이에 세그먼트가 교체되지 않도록 합니다.
+     */
+    private final class TransactionDeltas implements TransactionSynchronization {
+
+        private final List<JournaledDelta> deltas = new ArrayList<>();
+        private boolean segmentLocked;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (journal == null || deltas.isEmpty()) {
+                return;
+            }
+            segmentLock.readLock().lock();
+            segmentLocked = true;
+            appendToJournal(deltas);
+        }
+
+        @Override
+        public void afterCommit() {
+            deltas.forEach(OverallWriteBehindAggregator.this::merge);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (segmentLocked) {
+                segmentLock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 키 하나의 미반영 증분입니다. 작성자는 tryEnter/exit 사이에서만 값을 더하고,
+     * 플러시는 맵에서 제거한 뒤 seal로 새 작성자를 막고 진행 중인 작성자가 끝나기를 기다린 후 값을 읽습니다.
+     */
+    private static final class PendingDelta {
+
+        private static final int SEALED = 1 << 30;
+
+        private final AtomicInteger state = new AtomicInteger();
+        private final LongAdder deltas = new LongAdder();
+        private final LongAdder totalResponses = new LongAdder();
+        private final LongAdder positiveCount = new LongAdder();
+        private final LongAdder negativeCount = new LongAdder();
+        private final LongAdder neutralCount = new LongAdder();
+        private final LongAdder mixedCount = new LongAdder();
+        private final DoubleAdder sumPositive = new DoubleAdder();
+        private final DoubleAdder sumNegative = new DoubleAdder();
+        private final DoubleAdder sumNeutral = new DoubleAdder();
+        private final DoubleAdder sumMixed = new DoubleAdder();
+        private final ConcurrentLinkedQueue<Long> childIds = new ConcurrentLinkedQueue<>();
+
+        boolean tryEnter() {
+            while (true) {
+                int current = state.get();
+                if ((current & SEALED) != 0) {
+                    return false;
+                }
+                if (state.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void exit() {
+            state.decrementAndGet();
+        }
+
+        void seal() {
+            state.getAndUpdate(current -> current | SEALED);
+            while ((state.get() & ~SEALED) != 0) {
+                Thread.onSpinWait();
+            }
+        }
+
+        long add(SentimentTotals totals, List<Long> newChildIds) {
+            totalResponses.add(totals.getTotalResponses());
+            positiveCount.add(totals.getPositiveCount());
+            negativeCount.add(totals.getNegativeCount());
+            neutralCount.add(totals.getNeutralCount());
+            mixedCount.add(totals.getMixedCount());
+            sumPositive.add(totals.getSumPositive());
+            sumNegative.add(totals.getSumNegative());
+            sumNeutral.add(totals.getSumNeutral());
+            sumMixed.add(totals.getSumMixed());
+            childIds.addAll(newChildIds);
+            deltas.increment();
+            return deltas.sum();
+        }
+
+        List<Long> childIds() {
+            return new ArrayList<>(childIds);
+        }
+
+        SentimentTotals toTotals() {
+            return new SentimentTotals(
+                    totalResponses.intValue(),
+                    positiveCount.intValue(),
+                    negativeCount.intValue(),
+                    neutralCount.intValue(),
+                    mixedCount.intValue(),
+                    sumPositive.sum(),
+                    sumNegative.sum(),
+                    sumNeutral.sum(),
+                    sumMixed.sum()
+            );
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.report_service.service;
+
+import com.example.report_service.dto.internal.CacheableResult;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 보고서 조회 응답을 설문별 보고서 버전을 포함한 키로 캐시합니다.
+ * 수집으로 버전이 바뀌면 이전 키는 더 이상 조회되지 않으므로 별도 삭제 없이 무효화되며, ETag도 같은 버전으로 만듭니다.
+ * 캐시할 수 없는 결과(설문 서비스 장애 시의 기본 메타데이터 포함)는 호출자에게만 반환하고 캐시에 남기지 않습니다.
+ */
+@Component
+public class ReportReadCache {
+
+    private final ReportVersionTracker reportVersionTracker;
+    private final Cache<CacheKey, CacheableResult<?>> responses;
+    // 전체 보고서 ID → 설문 ID (변하지 않는 관계)
+    private final Cache<Long, Long> overallSurveyIds;
+
+    public ReportReadCache(
+            ReportVersionTracker reportVersionTracker,
+            MeterRegistry meterRegistry,
+            @Value("${report.cache.read.max-size:10000}") long maxSize,
+            @Value("${report.cache.read.ttl-minutes:10}") long ttlMinutes
+    ) {
+        this.reportVersionTracker = reportVersionTracker;
+        this.responses = Caffeine.newBuilder()
+                                 .maximumSize(maxSize)
+                                 .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                                 .recordStats()
+                                 .build();
+        this.overallSurveyIds = Caffeine.newBuilder()
+                                        .maximumSize(maxSize)
+                                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "report-read");
+    }
+
+    /**
+     * 현재 버전의 캐시 값을 반환하고, 없으면 loader로 읽어 캐시합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CacheableResult<T> get(String kind, Long surveyId, Object argument, Supplier<CacheableResult<T>> loader) {
+        CacheKey key = new CacheKey(kind, surveyId, argument, reportVersionTracker.currentVersion(surveyId));
+        CacheableResult<T> result = (CacheableResult<T>) responses.get(key, k -> loader.get());
+        if (!result.cacheable()) {
+            responses.asMap().remove(key, result);
+        }
+        return result;
+    }
+
+    public String etag(String kind, Long surveyId, Object argument) {
+        return "\"" + kind + "-" + surveyId + "-" + argument + "-v" + reportVersionTracker.currentVersion(surveyId) + "\"";
+    }
+
+    public Long surveyIdOfOverall(Long overallReportId, Function<Long, Long> loader) {
+        return overallSurveyIds.get(overallReportId, loader);
+    }
+
+    private record CacheKey(
+            String kind,
+            Long surveyId,
+            Object argument,
+            long version
+    ) {}
+}
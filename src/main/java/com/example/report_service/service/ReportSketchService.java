@@ -0,0 +1,424 @@
+package com.example.report_service.service;
+
+import com.example.report_service.dto.internal.AnalyzedAnswer;
+import com.example.report_service.dto.internal.AnalyzedRequest;
+import com.example.report_service.dto.response.ScoreDimensionDistributionDto;
+import com.example.report_service.dto.response.ScoreDistributionDto;
+import com.example.report_service.dto.response.ScoreHistogramBinDto;
+import com.example.report_service.dto.response.SentimentScore;
+import com.example.report_service.dto.response.TermCountDto;
+import com.example.report_service.dto.response.TopTermsDto;
+import com.example.report_service.entity.ReportSketch;
+import com.example.report_service.entity.ReportSketchType;
+import com.example.report_service.repository.ReportSketchRepository;
+import com.example.report_service.service.sketch.AnswerTermTokenizer;
+import com.example.report_service.service.sketch.HyperLogLog;
+import com.example.report_service.service.sketch.ScoreDigests;
+import com.example.report_service.service.sketch.SpaceSavingSketch;
+import com.tdunning.math.stats.TDigest;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 질문별·설문별 확률적 요약(report_sketches)을 수집 시 갱신하고 조회합니다.
+ * 요청의 답변으로 작은 요약(증분)을 만든 뒤 커밋되면 메모리에서 키별로 병합해 두고, 주기적으로(flush-interval-ms)
+ * 키마다 한 번만 저장된 요약 행을 잠그고 병합합니다. 요약은 병합 가능하므로 여러 요청의 증분을 먼저 합쳐도 결과가 같으며,
+ * 수집 트랜잭션은 요약 행을 잠그지 않습니다. 조회 값은 최대 flush-interval-ms만큼 늦게 반영되고, 비정상 종료 시
+ * 반영되지 않은 증분은 유실됩니다(요약은 근사치이며 개별 보고서와 집계 통계에는 영향이 없음).
+ * 고유 응답자 수는 캐시되는 보고서 응답에 포함되므로, 이를 바꾼 플러시는 해당 설문의 보고서 버전을 올립니다.
+ */
+@Service
+@Slf4j
+public class ReportSketchService {
+
+    private static final String ALL_SENTIMENTS = "ALL";
+    private static final List<String> SCORE_DIMENSIONS = List.of("MIXED", "NEGATIVE", "NEUTRAL", "POSITIVE");
+    private static final double[] PERCENTILES = {0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99};
+    private static final int MAX_HISTOGRAM_BINS = 100;
+
+    private final ReportSketchRepository reportSketchRepository;
+    private final ReportVersionTracker reportVersionTracker;
+    private final AnswerTermTokenizer termTokenizer;
+    private final TransactionTemplate transactionTemplate;
+    private final int topTermsCapacity;
+    private final int distinctUsersPrecision;
+    private final double scoreDigestCompression;
+
+    private final ConcurrentHashMap<SketchKey, SketchDelta> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Timer flushTimer;
+
+    public ReportSketchService(
+            ReportSketchRepository reportSketchRepository,
+            ReportVersionTracker reportVersionTracker,
+            AnswerTermTokenizer termTokenizer,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${report.sketch.top-terms.capacity:64}") int topTermsCapacity,
+            @Value("${report.sketch.distinct-users.precision:12}") int distinctUsersPrecision,
+            @Value("${report.sketch.score-digest.compression:100}") double scoreDigestCompression
+    ) {
+        this.reportSketchRepository = reportSketchRepository;
+        this.reportVersionTracker = reportVersionTracker;
+        this.termTokenizer = termTokenizer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.topTermsCapacity = topTermsCapacity;
+        this.distinctUsersPrecision = distinctUsersPrecision;
+        this.scoreDigestCompression = scoreDigestCompression;
+        this.flushTimer = Timer.builder("report.sketch.flush")
+                               .description("요약 증분을 DB에 반영하는 데 걸린 시간")
+                               .register(meterRegistry);
+        Gauge.builder("report.sketch.pending", pending, Map::size)
+             .description("반영 대기 중인 요약 키 수")
+             .register(meterRegistry);
+    }
+
+    /**
+     * 같은 설문의 분석된 요청들로 요약 증분을 만들고, 현재 트랜잭션이 커밋되면 메모리의 대기 증분에 병합합니다.
+     * 롤백된 요청의 답변은 요약에 반영되지 않습니다.
+     */
+    public void record(Long surveyId, List<AnalyzedRequest> analyzedRequests) {
+        Map<SketchKey, SketchDelta> deltas = new HashMap<>();
+        for (AnalyzedRequest request : analyzedRequests) {
+            for (AnalyzedAnswer answer : request.answers()) {
+                String sentiment = answer.result().getSentiment().toUpperCase();
+                TopTermsDelta topTerms = (TopTermsDelta) deltas.computeIfAbsent(
+                        new SketchKey(ReportSketchType.TOP_TERMS, surveyId, answer.questionId(), sentiment),
+                        key -> new TopTermsDelta(new SpaceSavingSketch(topTermsCapacity)));
+                termTokenizer.terms(answer.text()).forEach(topTerms.sketch::add);
+
+                SentimentScore score = answer.result().getSentimentScore();
+                addScore(deltas, surveyId, answer.questionId(), "MIXED", score.getMixed());
+                addScore(deltas, surveyId, answer.questionId(), "NEGATIVE", score.getNegative());
+                addScore(deltas, surveyId, answer.questionId(), "NEUTRAL", score.getNeutral());
+                addScore(deltas, surveyId, answer.questionId(), "POSITIVE", score.getPositive());
+
+                if (request.userId() != null) {
+                    addUser(deltas, surveyId, answer.questionId(), request.userId());
+                    addUser(deltas, surveyId, ReportSketch.SURVEY_SCOPE, request.userId());
+                }
+            }
+        }
+        deltas.values().removeIf(SketchDelta::isEmpty);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deltas.forEach(this::merge);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deltas.forEach(ReportSketchService.this::merge);
+            }
+        });
+    }
+
+    private void addScore(Map<SketchKey, SketchDelta> deltas, Long surveyId, Long questionId, String dimension, double score) {
+        ScoreDigestDelta digest = (ScoreDigestDelta) deltas.computeIfAbsent(
+                new SketchKey(ReportSketchType.SCORE_DIGEST, surveyId, questionId, dimension),
+                key -> new ScoreDigestDelta(ScoreDigests.create(scoreDigestCompression)));
+        digest.digest.add(score);
+    }
+
+    private void addUser(Map<SketchKey, SketchDelta> deltas, Long surveyId, Long questionId, Long userId) {
+        DistinctUsersDelta users = (DistinctUsersDelta) deltas.computeIfAbsent(
+                new SketchKey(ReportSketchType.DISTINCT_USERS, surveyId, questionId, ALL_SENTIMENTS),
+                key -> new DistinctUsersDelta(new HyperLogLog(distinctUsersPrecision)));
+        users.hyperLogLog.add(userId);
+    }
+
+    // compute는 키별로 원자적이며, 플러시가 맵에서 제거한 증분은 더 이상 변경되지 않음
+    private void merge(SketchKey key, SketchDelta delta) {
+        pending.compute(key, (k, existing) -> {
+            if (existing == null) {
+                return delta;
+            }
+            existing.merge(delta);
+            return existing;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${report.sketch.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 대기 증분을 설문별 트랜잭션으로 반영합니다. 교착 상태를 피하기 위해 요약 행은 항상 (요약 종류, 질문 ID, 기준) 순서로 잠그며,
+     * 실패한 설문의 증분은 다시 메모리에 병합하여 다음 플러시에서 재시도합니다.
+     * 고유 사용자 요약이 바뀐 설문은 같은 트랜잭션에서 보고서 버전을 올려, 커밋 전에 캐시된 응답이 새 버전으로 남지 않게 합니다.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Map<SketchKey, SketchDelta>> bySurvey = new TreeMap<>();
+            for (SketchKey key : pending.keySet()) {
+                SketchDelta delta = pending.remove(key);
+                if (delta != null) {
+                    bySurvey.computeIfAbsent(key.surveyId(), id -> new TreeMap<>()).put(key, delta);
+                }
+            }
+            bySurvey.forEach((surveyId, deltas) -> {
+                try {
+                    flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> flushSurvey(surveyId, deltas)));
+                    log.debug("요약 증분 반영 완료 - 설문 ID: {}, {}개 요약", surveyId, deltas.size());
+                } catch (RuntimeException e) {
+                    log.error("요약 증분 반영 실패 - 설문 ID: {}, {}개 요약을 다음 플러시에서 재시도합니다.", surveyId, deltas.size(), e);
+                    deltas.forEach(this::merge);
+                }
+            });
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushSurvey(Long surveyId, Map<SketchKey, SketchDelta> deltas) {
+        boolean respondentsChanged = false;
+        for (Map.Entry<SketchKey, SketchDelta> entry : deltas.entrySet()) {
+            boolean changed = mergeInto(entry.getKey(), entry.getValue());
+            respondentsChanged |= changed && entry.getKey().type() == ReportSketchType.DISTINCT_USERS;
+        }
+        if (respondentsChanged) {
+            // 버전 갱신은 커밋 후로 미뤄지므로, 새 버전을 본 조회는 반영된 고유 응답자 수를 읽음
+            reportVersionTracker.bump(surveyId);
+        }
+    }
+
+    /**
+     * 요약 행을 잠근 뒤 증분을 병합한 직렬화 값으로 교체합니다. 값이 바뀌지 않으면 행을 다시 쓰지 않고 false를 반환합니다.
+     */
+    private boolean mergeInto(SketchKey key, SketchDelta delta) {
+        reportSketchRepository.insertIgnore(key.surveyId(), key.questionId(), key.type().name(), key.dimension());
+        ReportSketch row = reportSketchRepository.findForUpdate(key.surveyId(), key.questionId(), key.type(), key.dimension()).orElseThrow();
+        byte[] merged = delta.applyTo(row.getData());
+        if (merged == null) {
+            return false;
+        }
+        row.replaceData(merged);
+        log.debug("요약 갱신 - 설문 ID: {}, 질문 ID: {}, 종류: {}, 기준: {}", key.surveyId(), key.questionId(), key.type(), key.dimension());
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("종료 전 요약 증분을 반영합니다. 대기 중인 요약 {}개", pending.size());
+        flush();
+    }
+
+    /**
+     * 질문의 상위 키워드를 반환합니다. 감성을 지정하지 않으면 모든 감성의 요약을 병합합니다.
+     */
+    @Transactional(readOnly = true)
+    public TopTermsDto getTopTerms(Long surveyId, Long questionId, String sentiment, int limit) {
+        String dimension = sentiment == null || sentiment.isBlank() ? null : sentiment.toUpperCase();
+        SpaceSavingSketch merged = new SpaceSavingSketch(topTermsCapacity);
+        for (ReportSketch row : reportSketchRepository.findAllBySurveyIdAndQuestionIdAndSketchType(surveyId, questionId, ReportSketchType.TOP_TERMS)) {
+            if (dimension == null || dimension.equals(row.getDimension())) {
+                merged.merge(SpaceSavingSketch.deserialize(row.getData(), topTermsCapacity));
+            }
+        }
+        List<TermCountDto> terms = merged.top(Math.min(Math.max(limit, 1), topTermsCapacity)).stream()
+                                         .map(TermCountDto::from)
+                                         .toList();
+        return new TopTermsDto(surveyId, questionId, dimension == null ? ALL_SENTIMENTS : dimension, merged.getTotalWeight(), terms);
+    }
+
+    /**
+     * 질문(questionId가 ReportSketch.SURVEY_SCOPE이면 설문 전체)에 답변한 고유 사용자 수의 추정치를 반환합니다.
+     * 상대 표준 오차는 약 1.04 / sqrt(2^precision)입니다.
+     */
+    @Transactional(readOnly = true)
+    public long getDistinctRespondents(Long surveyId, Long questionId) {
+        return reportSketchRepository.findBySurveyIdAndQuestionIdAndSketchTypeAndDimension(
+                                             surveyId, questionId, ReportSketchType.DISTINCT_USERS, ALL_SENTIMENTS)
+                                     .map(row -> HyperLogLog.deserialize(row.getData(), distinctUsersPrecision).estimate())
+                                     .orElse(0L);
+    }
+
+    /**
+     * 질문(questionId가 null이면 설문의 모든 질문을 병합)의 감성 점수별 분위수와 [0, 1] 구간 고정 폭 히스토그램을 반환합니다.
+     * 저장된 요약만 읽으므로 조회 비용은 답변 수와 무관합니다.
+     */
+    @Transactional(readOnly = true)
+    public ScoreDistributionDto getScoreDistribution(Long surveyId, Long questionId, int bins) {
+        List<ReportSketch> rows = questionId == null
+                ? reportSketchRepository.findAllBySurveyIdAndSketchType(surveyId, ReportSketchType.SCORE_DIGEST)
+                : reportSketchRepository.findAllBySurveyIdAndQuestionIdAndSketchType(surveyId, questionId, ReportSketchType.SCORE_DIGEST);
+
+        Map<String, TDigest> merged = new LinkedHashMap<>();
+        SCORE_DIMENSIONS.forEach(dimension -> merged.put(dimension, ScoreDigests.create(scoreDigestCompression)));
+        for (ReportSketch row : rows) {
+            TDigest target = merged.get(row.getDimension());
+            if (target != null) {
+                target.add(ScoreDigests.deserialize(row.getData(), scoreDigestCompression));
+            }
+        }
+
+        int binCount = Math.min(Math.max(bins, 1), MAX_HISTOGRAM_BINS);
+        List<ScoreDimensionDistributionDto> dimensions = new ArrayList<>(merged.size());
+        merged.forEach((dimension, digest) -> dimensions.add(toDistribution(dimension, digest, binCount)));
+        return new ScoreDistributionDto(surveyId, questionId, dimensions);
+    }
+
+    private ScoreDimensionDistributionDto toDistribution(String dimension, TDigest digest, int binCount) {
+        long count = digest.size();
+        if (count == 0) {
+            return new ScoreDimensionDistributionDto(dimension, 0, 0.0, 0.0, Map.of(), List.of());
+        }
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (double q : PERCENTILES) {
+            percentiles.put("p" + Math.round(q * 100), digest.quantile(q));
+        }
+
+        List<ScoreHistogramBinDto> histogram = new ArrayList<>(binCount);
+        double width = 1.0 / binCount;
+        long previousCumulative = 0;
+        for (int i = 0; i < binCount; i++) {
+            double lower = i * width;
+            double upper = i == binCount - 1 ? 1.0 : (i + 1) * width;
+            // 누적 건수의 차로 구간 건수를 구하므로 구간 합계는 항상 전체 건수와 같음
+            long cumulative = i == binCount - 1 ? count : Math.round(digest.cdf(upper) * count);
+            histogram.add(new ScoreHistogramBinDto(lower, upper, cumulative - previousCumulative));
+            previousCumulative = cumulative;
+        }
+        return new ScoreDimensionDistributionDto(dimension, count, digest.getMin(), digest.getMax(), percentiles, histogram);
+    }
+
+    /**
+     * 요약 행 하나를 가리키는 키입니다. 잠금 순서(요약 종류, 질문 ID, 기준)대로 정렬됩니다.
+     */
+    private record SketchKey(
+            ReportSketchType type,
+            Long surveyId,
+            Long questionId,
+            String dimension
+    ) implements Comparable<SketchKey> {
+
+        private static final Comparator<SketchKey> LOCK_ORDER = Comparator.comparing(SketchKey::type)
+                                                                          .thenComparing(SketchKey::surveyId)
+                                                                          .thenComparing(SketchKey::questionId)
+                                                                          .thenComparing(SketchKey::dimension);
+
+        @Override
+        public int compareTo(SketchKey other) {
+            return LOCK_ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * 아직 반영되지 않은 요약 증분입니다. 같은 키의 증분끼리 병합하고, 저장된 직렬화 값에 병합한 새 값을 만듭니다.
+     */
+    private interface SketchDelta {
+
+        boolean isEmpty();
+
+        void merge(SketchDelta other);
+
+        /**
+         * 저장된 값에 증분을 병합한 직렬화 값을 반환합니다. 변경이 없으면 null을 반환합니다.
+         */
+        byte[] applyTo(byte[] stored);
+    }
+
+    private final class TopTermsDelta implements SketchDelta {
+
+        private final SpaceSavingSketch sketch;
+
+        private TopTermsDelta(SpaceSavingSketch sketch) {
+            this.sketch = sketch;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return sketch.isEmpty();
+        }
+
+        @Override
+        public void merge(SketchDelta other) {
+            sketch.merge(((TopTermsDelta) other).sketch);
+        }
+
+        @Override
+        public byte[] applyTo(byte[] stored) {
+            SpaceSavingSketch merged = SpaceSavingSketch.deserialize(stored, topTermsCapacity);
+            merged.merge(sketch);
+            return merged.serialize();
+        }
+    }
+
+    private final class DistinctUsersDelta implements SketchDelta {
+
+        private final HyperLogLog hyperLogLog;
+
+        private DistinctUsersDelta(HyperLogLog hyperLogLog) {
+            this.hyperLogLog = hyperLogLog;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return hyperLogLog.isEmpty();
+        }
+
+        @Override
+        public void merge(SketchDelta other) {
+            hyperLogLog.merge(((DistinctUsersDelta) other).hyperLogLog);
+        }
+
+        @Override
+        public byte[] applyTo(byte[] stored) {
+            HyperLogLog merged = HyperLogLog.deserialize(stored, distinctUsersPrecision);
+            // 이미 본 사용자뿐이면 레지스터가 바뀌지 않으므로 행을 다시 쓰지 않음
+            return merged.merge(hyperLogLog) ? merged.serialize() : null;
+        }
+    }
+
+    private final class ScoreDigestDelta implements SketchDelta {
+
+        private final TDigest digest;
+
+        private ScoreDigestDelta(TDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return digest.size() == 0;
+        }
+
+        @Override
+        public void merge(SketchDelta other) {
+            digest.add(((ScoreDigestDelta) other).digest);
+        }
+
+        @Override
+        public byte[] applyTo(byte[] stored) {
+            TDigest merged = ScoreDigests.deserialize(stored, scoreDigestCompression);
+            merged.add(digest);
+            return ScoreDigests.serialize(merged);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.report_service.service;
+
+import com.example.report_service.entity.ReportVersion;
+import com.example.report_service.repository.ReportVersionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 설문별 보고서 버전을 관리합니다. 버전은 수집 트랜잭션이 커밋된 뒤 별도의 짧은 트랜잭션으로 올리므로, updatedAt이 데이터 커밋보다
+ * 앞서 기록되어 폴링에서 누락되는 일이 없고 수집 트랜잭션 동안 설문별 버전 행을 잠그지 않습니다.
+ * 로컬에 알고 있는 버전은 메모리에 보관하여 조회 시 DB를 읽지 않으며, 다른 레플리카의 변경은 report_versions 테이블을 주기적으로 폴링하여 반영합니다.
+ */
+@Component
+@Slf4j
+public class ReportVersionTracker {
+
+    // 버전 갱신 문장의 실행 시각(updatedAt)과 커밋 시각의 차이로 변경을 놓치지 않도록 폴링 구간을 겹치게 함
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(2);
+
+    private final ReportVersionRepository reportVersionRepository;
+    private final TransactionTemplate bumpTransaction;
+    private final Cache<Long, Long> versions;
+    private volatile LocalDateTime pollWatermark;
+
+    public ReportVersionTracker(
+            ReportVersionRepository reportVersionRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${report.cache.version.max-size:100000}") long maxSize
+    ) {
+        this.reportVersionRepository = reportVersionRepository;
+        this.bumpTransaction = new TransactionTemplate(transactionManager);
+        this.bumpTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.versions = Caffeine.newBuilder()
+                                .maximumSize(maxSize)
+                                .build();
+    }
+
+    /**
+     * 설문의 보고서 버전을 올립니다. 트랜잭션 안에서 호출하면 커밋된 뒤 한 번에 올리고(롤백되면 올리지 않음),
+     * 트랜잭션 밖에서 호출하면 바로 올립니다. 어느 경우든 로컬 버전도 무효화합니다.
+     */
+    public void bump(Long surveyId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bumpNow(List.of(surveyId));
+            return;
+        }
+        pendingBumps().surveyIds.add(surveyId);
+    }
+
+    private PendingBumps pendingBumps() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingBumps pendingBumps) {
+                return pendingBumps;
+            }
+        }
+        PendingBumps pendingBumps = new PendingBumps();
+        TransactionSynchronizationManager.registerSynchronization(pendingBumps);
+        return pendingBumps;
+    }
+
+    /**
+     * 설문 ID 순서로 버전을 올려 동시에 여러 설문을 올리는 트랜잭션끼리 교착 상태에 빠지지 않도록 합니다.
+     * 실패해도 이미 커밋된 데이터에는 영향이 없으므로 경고만 남기고, 다음 수집이 버전을 다시 올립니다.
+     */
+    private void bumpNow(Collection<Long> surveyIds) {
+        try {
+            bumpTransaction.executeWithoutResult(status -> surveyIds.forEach(reportVersionRepository::bumpVersion));
+        } catch (RuntimeException e) {
+            log.warn("보고서 버전 갱신 실패 - 설문 ID: {}", surveyIds, e);
+        } finally {
+            surveyIds.forEach(versions::invalidate);
+        }
+    }
+
+    /**
+     * 설문의 현재 보고서 버전을 반환합니다. 로컬에 없을 때만 DB에서 읽습니다.
+     */
+    public long currentVersion(Long surveyId) {
+        return versions.get(surveyId, id -> reportVersionRepository.findVersionBySurveyId(id).orElse(0L));
+    }
+
+    @Scheduled(fixedDelayString = "${report.cache.version.poll-interval-ms:1000}")
+    public void pollRemoteChanges() {
+        if (pollWatermark == null) {
+            pollWatermark = reportVersionRepository.findLatestUpdatedAt().orElse(LocalDateTime.of(1970, 1, 1, 0, 0));
+            return;
+        }
+
+        List<ReportVersion> changed = reportVersionRepository.findAllByUpdatedAtAfter(pollWatermark.minus(POLL_OVERLAP));
+        LocalDateTime watermark = pollWatermark;
+        for (ReportVersion reportVersion : changed) {
+            // 로컬에 알고 있는 설문만 갱신 (나머지는 조회 시 DB에서 읽음)
+            versions.asMap().computeIfPresent(reportVersion.getSurveyId(),
+                    (id, known) -> Math.max(known, reportVersion.getVersion()));
+            if (reportVersion.getUpdatedAt().isAfter(watermark)) {
+                watermark = reportVersion.getUpdatedAt();
+            }
+        }
+        pollWatermark = watermark;
+        if (!changed.isEmpty()) {
+            log.debug("다른 레플리카의 보고서 버전 변경 {}건 반영", changed.size());
+        }
+    }
+
+    /**
+     * 트랜잭션 하나에서 버전을 올릴 설문 ID를 모았다가 커밋된 뒤 한 번에 올립니다.
+     */
+    private final class PendingBumps implements TransactionSynchronization {
+
+        private final Set<Long> surveyIds = new TreeSet<>();
+
+        @Override
+        public void afterCommit() {
+            bumpNow(surveyIds);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.report_service.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 답변별 감성 분석 호출을 전용 스레드 풀에서 병렬로 실행합니다.
+ * 전체 동시 실행 수는 스레드 풀 크기로, 요청 하나의 동시 실행 수는 요청별 세마포어로 제한하며 결과는 입력 순서를 유지합니다.
+ */
+@Component
+@Slf4j
+public class SentimentAnalysisExecutor {
+
+    public enum ErrorMode {
+        // 첫 실패 이후 남은 작업을 제출하지 않고 취소
+        FAIL_FAST,
+        // 모든 작업을 끝까지 실행한 뒤 실패를 모아서 전달
+        COLLECT_ALL
+    }
+
+    private final ExecutorService executor;
+    private final int perRequestConcurrency;
+    private final ErrorMode errorMode;
+
+    public SentimentAnalysisExecutor(
+            @Value("${report.analysis.parallel.global-concurrency:16}") int globalConcurrency,
+            @Value("${report.analysis.parallel.per-request-concurrency:8}") int perRequestConcurrency,
+            @Value("${report.analysis.parallel.error-mode:FAIL_FAST}") ErrorMode errorMode
+    ) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(globalConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "sentiment-analysis-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.perRequestConcurrency = Math.max(1, perRequestConcurrency);
+        this.errorMode = errorMode;
+        log.info("감성 분석 병렬 실행기 초기화 - 전체 동시성={}, 요청별 동시성={}, 오류 모드={}",
+                globalConcurrency, this.perRequestConcurrency, errorMode);
+    }
+
+    /**
+     * 입력마다 task를 병렬 실행하고 결과를 입력 순서대로 반환합니다.
+     * 실패가 있으면 입력 순서상 가장 앞선 실패를 던지고, 나머지 실패는 suppressed로 첨부합니다.
+     */
+    public <T, R> List<R> map(List<T> inputs, Function<T, R> task) {
+        if (inputs.size() <= 1) {
+            return inputs.stream().map(task).toList();
+        }
+
+        Semaphore permits = new Semaphore(perRequestConcurrency);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        List<CompletableFuture<R>> futures = new ArrayList<>(inputs.size());
+
+        for (T input : inputs) {
+            if (errorMode == ErrorMode.FAIL_FAST && failed.get()) {
+                break;
+            }
+            acquire(permits);
+            CompletableFuture<R> future = CompletableFuture.supplyAsync(() -> task.apply(input), executor);
+            future.whenComplete((result, error) -> {
+                permits.release();
+                if (error != null) {
+                    failed.set(true);
+                }
+            });
+            futures.add(future);
+        }
+
+        List<R> results = new ArrayList<>(inputs.size());
+        RuntimeException failure = null;
+        for (CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException | CancellationException e) {
+                RuntimeException cause = unwrap(e);
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+                if (errorMode == ErrorMode.FAIL_FAST) {
+                    futures.forEach(remaining -> remaining.cancel(true));
+                    break;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    private void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("감성 분석 대기 중 인터럽트가 발생했습니다.");
+        }
+    }
+
+    private RuntimeException unwrap(RuntimeException e) {
+        if (e instanceof CompletionException && e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return e;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
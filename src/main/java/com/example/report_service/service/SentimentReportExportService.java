@@ -0,0 +1,107 @@
+package com.example.report_service.service;
+
+import com.example.report_service.client.service.QuestionMetadataResolver;
+import com.example.report_service.dto.request.SurveyQuestionKey;
+import com.example.report_service.dto.response.QuestionWithSurveyDto;
+import com.example.report_service.dto.response.SentimentReportExportRow;
+import com.example.report_service.entity.SentimentReport;
+import com.example.report_service.repository.SentimentReportRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 설문(또는 질문)의 개별 감성 보고서 전체를 NDJSON/CSV로 응답 스트림에 바로 기록합니다.
+ * 전진 전용 커서로 한 행씩 읽고 기록한 행은 영속성 컨텍스트에서 분리하므로, 행 수와 관계없이 힙 사용량이 일정합니다.
+ */
+@Service
+@Slf4j
+public class SentimentReportExportService {
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    private final SentimentReportRepository sentimentReportRepository;
+    private final QuestionMetadataResolver questionMetadataResolver;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int flushEveryRows;
+
+    public SentimentReportExportService(
+            SentimentReportRepository sentimentReportRepository,
+            QuestionMetadataResolver questionMetadataResolver,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${report.export.flush-every-rows:1000}") int flushEveryRows
+    ) {
+        this.sentimentReportRepository = sentimentReportRepository;
+        this.questionMetadataResolver = questionMetadataResolver;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.flushEveryRows = Math.max(1, flushEveryRows);
+    }
+
+    /**
+     * 보고서를 지정한 형식으로 출력 스트림에 기록하고 기록한 행 수를 반환합니다. questionId가 없으면 설문 전체를 내보냅니다.
+     * 스트리밍 응답 스레드에서 호출되므로 커서를 유지할 읽기 전용 트랜잭션을 직접 엽니다.
+     */
+    public long export(Long surveyId, Long questionId, Format format, OutputStream outputStream) {
+        log.info("감성 보고서 내보내기 시작 - 설문 ID: {}, 질문 ID: {}, 형식: {}", surveyId, questionId, format);
+        Long written = readOnlyTransaction.execute(status -> {
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            // 스트림 하나에서 질문별 메타데이터는 한 번만 해석
+            Map<SurveyQuestionKey, QuestionWithSurveyDto> metadata = new HashMap<>();
+
+            try (Stream<SentimentReport> reports = questionId == null
+                    ? sentimentReportRepository.streamAllBySurveyId(surveyId)
+                    : sentimentReportRepository.streamAllBySurveyIdAndQuestionId(surveyId, questionId)) {
+                if (format == Format.CSV) {
+                    writer.write(SentimentReportExportRow.CSV_HEADER);
+                    writer.newLine();
+                }
+
+                long count = 0;
+                for (SentimentReport report : (Iterable<SentimentReport>) reports::iterator) {
+                    QuestionWithSurveyDto questionWithSurveyDto = metadata.computeIfAbsent(
+                            new SurveyQuestionKey(report.getSurveyId(), report.getQuestionId()),
+                            key -> questionMetadataResolver.resolve(key.surveyId(), key.questionId())
+                    );
+                    SentimentReportExportRow row = SentimentReportExportRow.from(report, questionWithSurveyDto);
+                    entityManager.detach(report);
+
+                    writer.write(format == Format.CSV ? row.toCsvLine() : objectMapper.writeValueAsString(row));
+                    writer.newLine();
+                    if (++count % flushEveryRows == 0) {
+                        writer.flush();
+                    }
+                }
+                writer.flush();
+                return count;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("감성 보고서 내보내기 완료 - 설문 ID: {}, 질문 ID: {}, {}건", surveyId, questionId, written);
+        return written == null ? 0 : written;
+    }
+}
@@ -1,203 +1,297 @@
 package com.example.report_service.service;
 
-import com.amazonaws.services.comprehend.model.DetectSentimentResult;
 import com.example.global.exception.type.NotFoundException;
-import com.example.report_service.client.service.SurveyClientService;
-import com.example.report_service.dto.internal.OverallStats;
-import com.example.report_service.dto.internal.SentimentStats;
+import com.example.report_service.client.service.QuestionMetadataResolver;
+import com.example.report_service.dto.internal.AnalyzedAnswer;
+import com.example.report_service.dto.internal.AnalyzedRequest;
+import com.example.report_service.dto.internal.CacheableResult;
+import com.example.report_service.dto.internal.SentimentReportCursor;
 import com.example.report_service.dto.request.AggregateRequest;
 import com.example.report_service.dto.request.QuestionAnswerRequest;
+import com.example.report_service.dto.request.ResponseQuestionKey;
+import com.example.report_service.dto.request.SurveyQuestionKey;
 import com.example.report_service.dto.response.*;
 import com.example.report_service.entity.OverallSentimentReport;
+import com.example.report_service.entity.ReportSketch;
 import com.example.report_service.entity.SentimentReport;
+import com.example.report_service.entity.SurveySentimentReport;
+import com.example.report_service.entity.TrendGranularity;
 import com.example.report_service.exception.ReportExceptionType;
 import com.example.report_service.repository.OverallSentimentReportRepository;
 import com.example.report_service.repository.SentimentReportRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.report_service.repository.SentimentTrendBucketRepository;
+import com.example.report_service.repository.SurveySentimentReportRepository;
+import com.example.report_service.service.analyzer.SentimentAnalyzer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
 public class SentimentReportService {
 
+    private static final String LANGUAGE_CODE = "ko";
+    private static final int MAX_SLICE_SIZE = 100;
+    private static final int DEFAULT_TREND_BUCKETS = 30;
+
     private final SentimentReportRepository sentimentReportRepository;
     private final OverallSentimentReportRepository overallReportRepository;
-    private final AwsComprehendService awsComprehendService;
-    private final SurveyClientService surveyClientService;
+    private final SentimentTrendBucketRepository trendBucketRepository;
+    private final SurveySentimentReportRepository surveyReportRepository;
+    private final SentimentAnalyzer sentimentAnalyzer;
+    private final QuestionMetadataResolver questionMetadataResolver;
+    private final SentimentReportWriter sentimentReportWriter;
+    private final ReportSketchService reportSketchService;
+    private final IngestDeduplicator ingestDeduplicator;
+    private final MeterRegistry meterRegistry;
+    private final IngestMetrics ingestMetrics;
+    private final Timer transactionTimer;
+
+    public SentimentReportService(SentimentReportRepository sentimentReportRepository,
+                                  OverallSentimentReportRepository overallReportRepository,
+                                  SentimentTrendBucketRepository trendBucketRepository,
+                                  SurveySentimentReportRepository surveyReportRepository,
+                                  SentimentAnalyzer sentimentAnalyzer,
+                                  QuestionMetadataResolver questionMetadataResolver,
+                                  SentimentReportWriter sentimentReportWriter,
+                                  ReportSketchService reportSketchService,
+                                  IngestDeduplicator ingestDeduplicator,
+                                  MeterRegistry meterRegistry,
+                                  IngestMetrics ingestMetrics) {
+        this.sentimentReportRepository = sentimentReportRepository;
+        this.overallReportRepository = overallReportRepository;
+        this.trendBucketRepository = trendBucketRepository;
+        this.surveyReportRepository = surveyReportRepository;
+        this.sentimentAnalyzer = sentimentAnalyzer;
+        this.questionMetadataResolver = questionMetadataResolver;
+        this.sentimentReportWriter = sentimentReportWriter;
+        this.reportSketchService = reportSketchService;
+        this.ingestDeduplicator = ingestDeduplicator;
+        this.meterRegistry = meterRegistry;
+        this.ingestMetrics = ingestMetrics;
+        // 저장 단계 트랜잭션(= DB 커넥션 점유) 시간
+        this.transactionTimer = Timer.builder("report.ingest.transaction")
+                                     .description("감성 보고서 저장 트랜잭션의 DB 커넥션 점유 시간")
+                                     .publishPercentiles(0.5, 0.95, 0.99)
+                                     .register(meterRegistry);
+    }
 
-    @Transactional
-    public void aggregateAndGenerateReport(AggregateRequest aggregateRequest) {
+    /**
+     * 감성 분석(원격 호출)은 트랜잭션 밖에서 수행하고, 분석이 끝난 결과만 짧은 쓰기 트랜잭션으로 저장합니다.
+     * Comprehend 응답을 기다리는 동안 DB 커넥션과 잠금을 점유하지 않습니다.
+     * 이미 저장된 (응답 ID, 질문 ID)의 답변은 다시 분석·집계하지 않고 저장된 보고서를 그대로 반환합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SentimentReportDetailDto> aggregateAndGenerateReport(AggregateRequest aggregateRequest) {
         Long surveyId = aggregateRequest.surveyId();
         Long responseId = aggregateRequest.responseId();
         Long userId = aggregateRequest.userId();
 
         log.info("감성 보고서 집계 시작 - 설문 ID: {}, 응답 ID: {}, 사용자 ID: {}", surveyId, responseId, userId);
 
-        Set<Long> processedQuestionIds = processAggregateRequest(aggregateRequest, surveyId, responseId, userId);
-        log.info("처리된 질문 ID 집합: {}", processedQuestionIds);
+        Map<ResponseQuestionKey, SentimentReport> stored = ingestDeduplicator.findStored(keysOf(aggregateRequest));
+        AggregateRequest pendingRequest = withoutStored(aggregateRequest, stored.keySet());
+        ingestDeduplicator.recordDuplicates(aggregateRequest.answers().size() - pendingRequest.answers().size());
+        if (pendingRequest.answers().isEmpty()) {
+            log.info("이미 처리된 응답입니다 - 설문 ID: {}, 응답 ID: {}, 저장된 보고서 {}건 반환", surveyId, responseId, stored.size());
+            return toDetailDtos(stored.values());
+        }
+
+        List<AnalyzedAnswer> analyzedAnswers = processAggregateRequest(pendingRequest);
+        log.info("감성 분석 완료 - 설문 ID: {}, 응답 ID: {}, 답변 {}건 (중복 {}건 생략)", surveyId, responseId, analyzedAnswers.size(), stored.size());
 
-        processedQuestionIds.forEach(questionId -> {
-            log.info("설문 ID [{}], 질문 ID [{}]에 대해 전체 감성 보고서 생성/갱신 시작", surveyId, questionId);
-            generateOverallReportForQuestion(surveyId, questionId);
-            log.info("설문 ID [{}], 질문 ID [{}]에 대해 전체 감성 보고서 생성/갱신 완료", surveyId, questionId);
-        });
+        List<SentimentReport> reports = new ArrayList<>(stored.values());
+        reports.addAll(persistIdempotently(surveyId, responseId, userId, analyzedAnswers));
+        return toDetailDtos(reports);
     }
 
     /**
-     * AggregateRequest 내의 모든 QuestionAnswerRequest를 처리하여 개별 감성 보고서를 생성하고,
-     * 처리한 질문 ID 집합을 반환합니다.
+     * 분석 결과를 저장합니다. 다른 레플리카나 동시 재전송이 같은 키를 먼저 저장하여 유니크 제약을 위반하면,
+     * 저장된 키를 DB에서 확인하여 제외한 뒤 재분석 없이 한 번 더 저장합니다.
      */
-    private Set<Long> processAggregateRequest(AggregateRequest aggregateRequest, Long surveyId, Long responseId, Long userId) {
-        Set<Long> processedQuestionIds = new HashSet<>();
-
-        aggregateRequest.answers().forEach(answer -> {
-            log.debug("질문 ID [{}]에 대한 답변 처리 시작", answer.questionId());
-            validateAnswerText(answer);
-            processAnswer(surveyId, responseId, userId, answer);
-            processedQuestionIds.add(answer.questionId());
-            log.debug("질문 ID [{}] 처리 완료", answer.questionId());
-        });
-
-        return processedQuestionIds;
+    private List<SentimentReport> persistIdempotently(Long surveyId, Long responseId, Long userId, List<AnalyzedAnswer> analyzedAnswers) {
+        try {
+            List<SentimentReport> saved = persistTimed(surveyId, responseId, userId, analyzedAnswers);
+            ingestDeduplicator.remember(keysOf(responseId, analyzedAnswers));
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            Map<ResponseQuestionKey, SentimentReport> stored =
+                    ingestDeduplicator.findStoredBypassingFilter(keysOf(responseId, analyzedAnswers));
+            if (stored.isEmpty()) {
+                throw e;
+            }
+            log.info("동시에 저장된 답변 {}건을 제외하고 다시 저장합니다 - 설문 ID: {}, 응답 ID: {}", stored.size(), surveyId, responseId);
+            ingestDeduplicator.recordDuplicates(stored.size());
+            ingestDeduplicator.remember(stored.keySet());
+
+            List<AnalyzedAnswer> remaining = analyzedAnswers.stream()
+                                                            .filter(answer -> !stored.containsKey(new ResponseQuestionKey(responseId, answer.questionId())))
+                                                            .toList();
+            List<SentimentReport> reports = new ArrayList<>(stored.values());
+            if (!remaining.isEmpty()) {
+                reports.addAll(persistTimed(surveyId, responseId, userId, remaining));
+                ingestDeduplicator.remember(keysOf(responseId, remaining));
+            }
+            return reports;
+        }
     }
 
-    private void validateAnswerText(QuestionAnswerRequest answer) {
-        String text = answer.text();
-        if (text == null || text.trim().isEmpty()) {
-            log.warn("빈 답변 텍스트 발견 - 질문 ID: {}", answer.questionId());
-            throw new NotFoundException(ReportExceptionType.TEXTS_IS_EMPTY);
+    private List<SentimentReport> persistTimed(Long surveyId, Long responseId, Long userId, List<AnalyzedAnswer> analyzedAnswers) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return sentimentReportWriter.persist(surveyId, responseId, userId, analyzedAnswers);
+        } finally {
+            sample.stop(transactionTimer);
         }
     }
 
     /**
-     * 하나의 QuestionAnswerRequest에 대해 텍스트 감성 분석을 수행하고 개별 감성 보고서를 저장합니다.
+     * AggregateRequest 내의 모든 QuestionAnswerRequest를 검증하고 감성 분석하여 답변 순서대로 반환합니다.
      */
-    private void processAnswer(Long surveyId, Long responseId, Long userId, QuestionAnswerRequest answer) {
-        String text = answer.text();
-        log.debug("질문 ID [{}]에 대한 감성 분석 시작", answer.questionId());
+    private List<AnalyzedAnswer> processAggregateRequest(AggregateRequest aggregateRequest) {
+        List<QuestionAnswerRequest> answers = aggregateRequest.answers();
 
-        // 텍스트 감성 분석 수행
-        SentimentStats stats = analyzeText(text);
-        if (stats.getTotal() == 0) {
-            log.warn("감성 분석 결과 총합이 0입니다. 질문 ID: {}", answer.questionId());
-            throw new NotFoundException(ReportExceptionType.TEXTS_IS_EMPTY);
-        }
+        Long surveyId = aggregateRequest.surveyId();
 
-        // 평균 값 계산
-        double avgPositive = stats.getAvgPositive();
-        double avgNegative = stats.getAvgNegative();
-        double avgNeutral  = stats.getAvgNeutral();
-        double avgMixed    = stats.getAvgMixed();
-
-        // 개별 감성 보고서 엔티티 생성 및 저장
-        SentimentReport report = SentimentReport.builder()
-                                                .surveyId(surveyId)
-                                                .questionId(answer.questionId())
-                                                .responseId(responseId)
-                                                .userId(userId)
-                                                .totalResponses(stats.getTotal())
-                                                .positiveCount(stats.getPositiveCount())
-                                                .negativeCount(stats.getNegativeCount())
-                                                .neutralCount(stats.getNeutralCount())
-                                                .mixedCount(stats.getMixedCount())
-                                                .averagePositive(avgPositive)
-                                                .averageNegative(avgNegative)
-                                                .averageNeutral(avgNeutral)
-                                                .averageMixed(avgMixed)
-                                                .build();
-
-        sentimentReportRepository.save(report);
-        log.info("개별 감성 보고서 저장 완료 - 질문 ID: {}, 응답 ID: {}", answer.questionId(), responseId);
+        ingestMetrics.observe(IngestMetrics.STAGE_VALIDATE, surveyId, () -> validateAggregateRequest(aggregateRequest));
+        long analyzeStartedAt = System.nanoTime();
+        List<AWSComprehendResult> results = ingestMetrics.observe(IngestMetrics.STAGE_ANALYZE, surveyId, () -> analyzeAnswers(answers));
+        ingestMetrics.recordAnalysis(Duration.ofNanos(System.nanoTime() - analyzeStartedAt), answers.size());
+
+        List<AnalyzedAnswer> analyzedAnswers = new ArrayList<>(answers.size());
+        for (int i = 0; i < answers.size(); i++) {
+            QuestionAnswerRequest answer = answers.get(i);
+            analyzedAnswers.add(new AnalyzedAnswer(answer.questionId(), answer.text(), results.get(i)));
+        }
+        return analyzedAnswers;
     }
 
     /**
-     * 특정 설문 및 질문에 대해 개별 보고서들을 조회한 후, 전체 통계 보고서를 생성하거나 업데이트합니다.
+     * 여러 요청을 검증한 뒤 모든 답변을 한 번에 분석기로 보내고, 결과를 요청별로 나누어 반환합니다.
+     * 벌크 수집의 청크 단위로 사용하며, 청크 전체를 한 번에 분석하므로 캐시 중복 제거와 배치 호출의 효과가 커집니다.
+     * 이미 저장된 답변과 청크 안에서 반복된 답변은 분석 전에 제외하며, 남은 답변이 없는 요청은 결과에서 빠집니다.
      */
-    private void generateOverallReportForQuestion(Long surveyId, Long questionId) {
-        List<SentimentReport> reports = sentimentReportRepository.findAllBySurveyIdAndQuestionId(surveyId, questionId);
-        if (reports.isEmpty()) {
-            log.warn("설문 ID [{}]의 질문 ID [{}]에 해당하는 개별 보고서가 존재하지 않습니다", surveyId, questionId);
-            throw new NotFoundException(ReportExceptionType.REPORT_NOT_FOUND);
+    public List<AnalyzedRequest> analyzeRequests(List<AggregateRequest> chunk) {
+        ingestMetrics.observe(IngestMetrics.STAGE_VALIDATE, null, () -> chunk.forEach(this::validateAggregateRequest));
+
+        Map<ResponseQuestionKey, SentimentReport> stored = ingestDeduplicator.findStored(
+                chunk.stream().flatMap(request -> keysOf(request).stream()).toList()
+        );
+        Set<ResponseQuestionKey> seen = new HashSet<>(stored.keySet());
+        List<AggregateRequest> aggregateRequests = new ArrayList<>(chunk.size());
+        for (AggregateRequest request : chunk) {
+            AggregateRequest pendingRequest = withoutStored(request, seen);
+            keysOf(pendingRequest).forEach(seen::add);
+            if (!pendingRequest.answers().isEmpty()) {
+                aggregateRequests.add(pendingRequest);
+            }
+        }
+        ingestDeduplicator.recordDuplicates(chunk.stream().mapToInt(request -> request.answers().size()).sum()
+                - aggregateRequests.stream().mapToInt(request -> request.answers().size()).sum());
+        if (aggregateRequests.isEmpty()) {
+            return List.of();
         }
 
-        log.debug("설문 ID [{}], 질문 ID [{}]에 대한 개별 보고서 총 {}건 조회됨", surveyId, questionId, reports.size());
-        // 개별 보고서들을 기반으로 전체 통계(가중 평균 등)를 계산
-        OverallStats stats = OverallStats.fromReports(reports);
-        log.debug("집계 통계 계산 완료 - 총 응답 수: {}, 긍정: {}, 부정: {} 등", stats.getTotalResponses(), stats.getPositiveCount(), stats.getNegativeCount());
-
-        OverallSentimentReport overallReport;
-        if (overallReportRepository.existsBySurveyIdAndQuestionId(surveyId, questionId)) {
-            overallReport = overallReportRepository.findBySurveyIdAndQuestionId(surveyId, questionId)
-                                                   .orElseThrow(() -> {
-                                                       log.warn("전체 감성 보고서를 찾을 수 없습니다 - 설문 ID: {}, 질문 ID: {}", surveyId, questionId);
-                                                       return new NotFoundException(ReportExceptionType.OVERALL_REPORT_NOT_FOUND);
-                                                   });
-            overallReport.updateStats(
-                    stats.getTotalResponses(),
-                    stats.getPositiveCount(),
-                    stats.getNegativeCount(),
-                    stats.getNeutralCount(),
-                    stats.getMixedCount(),
-                    stats.getOverallPositive(),
-                    stats.getOverallNegative(),
-                    stats.getOverallNeutral(),
-                    stats.getOverallMixed()
-            );
-            overallReport = overallReportRepository.save(overallReport);
-            log.info("전체 감성 보고서 업데이트 완료 - 설문 ID: {}, 질문 ID: {}", surveyId, questionId);
-        } else {
-            overallReport = OverallSentimentReport.builder()
-                                                  .surveyId(surveyId)
-                                                  .questionId(questionId)
-                                                  .totalResponses(stats.getTotalResponses())
-                                                  .positiveCount(stats.getPositiveCount())
-                                                  .negativeCount(stats.getNegativeCount())
-                                                  .neutralCount(stats.getNeutralCount())
-                                                  .mixedCount(stats.getMixedCount())
-                                                  .averagePositive(stats.getOverallPositive())
-                                                  .averageNegative(stats.getOverallNegative())
-                                                  .averageNeutral(stats.getOverallNeutral())
-                                                  .averageMixed(stats.getOverallMixed())
-                                                  .build();
-            overallReport = overallReportRepository.save(overallReport);
-            log.info("전체 감성 보고서 생성 완료 - 설문 ID: {}, 질문 ID: {}", surveyId, questionId);
+        List<QuestionAnswerRequest> answers = aggregateRequests.stream()
+                                                               .flatMap(request -> request.answers().stream())
+                                                               .toList();
+        long analyzeStartedAt = System.nanoTime();
+        List<AWSComprehendResult> results = ingestMetrics.observe(IngestMetrics.STAGE_ANALYZE, null, () -> analyzeAnswers(answers));
+        ingestMetrics.recordAnalysis(Duration.ofNanos(System.nanoTime() - analyzeStartedAt), answers.size());
+
+        List<AnalyzedRequest> analyzedRequests = new ArrayList<>(aggregateRequests.size());
+        int offset = 0;
+        for (AggregateRequest request : aggregateRequests) {
+            List<AnalyzedAnswer> analyzedAnswers = new ArrayList<>(request.answers().size());
+            for (QuestionAnswerRequest answer : request.answers()) {
+                analyzedAnswers.add(new AnalyzedAnswer(answer.questionId(), answer.text(), results.get(offset++)));
+            }
+            analyzedRequests.add(new AnalyzedRequest(request.surveyId(), request.responseId(), request.userId(), analyzedAnswers));
         }
+        return analyzedRequests;
+    }
 
-        // 개별 보고서와의 연관관계 동기화
-        for (SentimentReport child : reports) {
-            child.addOverallSentimentReportAndSentimentReport(overallReport);
+    /**
+     * 요청에서 이미 저장된 키의 답변과 같은 질문에 대한 반복 답변을 제외합니다.
+     */
+    private AggregateRequest withoutStored(AggregateRequest aggregateRequest, Set<ResponseQuestionKey> storedKeys) {
+        Set<Long> questionIds = new HashSet<>();
+        List<QuestionAnswerRequest> pending = new ArrayList<>(aggregateRequest.answers().size());
+        for (QuestionAnswerRequest answer : aggregateRequest.answers()) {
+            ResponseQuestionKey key = new ResponseQuestionKey(aggregateRequest.responseId(), answer.questionId());
+            if (storedKeys.contains(key) || !questionIds.add(answer.questionId())) {
+                continue;
+            }
+            pending.add(answer);
         }
-        sentimentReportRepository.saveAll(reports);
-        log.debug("전체 감성 보고서와 개별 보고서 간 연관관계 동기화 완료 - 설문 ID: {}, 질문 ID: {}", surveyId, questionId);
+        if (pending.size() == aggregateRequest.answers().size()) {
+            return aggregateRequest;
+        }
+        return new AggregateRequest(aggregateRequest.surveyId(), aggregateRequest.responseId(), aggregateRequest.userId(), pending);
+    }
+
+    private List<ResponseQuestionKey> keysOf(AggregateRequest aggregateRequest) {
+        return aggregateRequest.answers().stream()
+                               .map(answer -> new ResponseQuestionKey(aggregateRequest.responseId(), answer.questionId()))
+                               .toList();
+    }
+
+    private List<ResponseQuestionKey> keysOf(Long responseId, List<AnalyzedAnswer> analyzedAnswers) {
+        return analyzedAnswers.stream()
+                              .map(answer -> new ResponseQuestionKey(responseId, answer.questionId()))
+                              .toList();
+    }
+
+    private List<SentimentReportDetailDto> toDetailDtos(Collection<SentimentReport> reports) {
+        return reports.stream()
+                      .sorted(Comparator.comparing(SentimentReport::getQuestionId))
+                      .map(SentimentReportDetailDto::from)
+                      .toList();
     }
 
     /**
-     * 텍스트를 기반으로 AWS Comprehend 또는 유사한 서비스를 호출하여 감성 분석 결과를 누적한 통계 데이터를 반환합니다.
+     * 분석 전에 요청의 모든 답변 텍스트가 비어있지 않은지 검증합니다.
      */
-    private SentimentStats analyzeText(String text) {
-        SentimentStats stats = new SentimentStats();
-        if (text != null && !text.trim().isEmpty()) {
-            log.debug("AWS 감성 분석 호출 시작");
-            DetectSentimentResult dsr = awsComprehendService.analyzeText(text);
-            AWSComprehendResult result = AWSComprehendResult.from(dsr);
-            stats.accumulate(result);
-            log.debug("AWS 감성 분석 결과 누적 완료");
-        } else {
-            log.warn("감성 분석을 위한 텍스트가 비어있습니다.");
+    public void validateAggregateRequest(AggregateRequest aggregateRequest) {
+        aggregateRequest.answers().forEach(this::validateAnswerText);
+    }
+
+    private void validateAnswerText(QuestionAnswerRequest answer) {
+        String text = answer.text();
+        if (text == null || text.trim().isEmpty()) {
+            log.warn("빈 답변 텍스트 발견 - 질문 ID: {}", answer.questionId());
+            throw new NotFoundException(ReportExceptionType.TEXTS_IS_EMPTY);
         }
-        return stats;
+    }
+
+    /**
+     * 답변 텍스트들의 감성 분석 결과를 답변 순서대로 반환합니다.
+     */
+    private List<AWSComprehendResult> analyzeAnswers(List<QuestionAnswerRequest> answers) {
+        List<String> texts = answers.stream()
+                                    .map(QuestionAnswerRequest::text)
+                                    .toList();
+        return sentimentAnalyzer.analyzeAll(texts, LANGUAGE_CODE);
     }
 
     public SentimentReportDto getAllSentimentReportBySurveyAndQuestion(Long surveyId, Long questionId, int page) {
@@ -205,7 +299,7 @@ public class SentimentReportService {
         Pageable pageable = PageRequest.of(page, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<SentimentReport> sentimentReports = sentimentReportRepository.findAllBySurveyIdAndQuestionId(surveyId, questionId, pageable);
 
-        QuestionWithSurveyDto questionWithSurveyDto = surveyClientService.getQuestionWithSurvey(surveyId, questionId);
+        QuestionWithSurveyDto questionWithSurveyDto = questionMetadataResolver.resolve(surveyId, questionId);
         log.debug("설문/질문 관련 정보 조회 완료: {}", questionWithSurveyDto);
 
         if (sentimentReports.isEmpty()) {
@@ -218,6 +312,63 @@ public class SentimentReportService {
         return new SentimentReportDto(questionWithSurveyDto, reportItems);
     }
 
+    /**
+     * 키셋(createdAt, id) 방식으로 질문별 개별 감성 보고서를 최신순으로 조회합니다.
+     * 커서가 없으면 첫 페이지를 반환하며, 조회 깊이와 관계없이 인덱스 범위 스캔 한 번으로 처리되고 count 쿼리를 실행하지 않습니다.
+     */
+    public SentimentReportSliceDto getSentimentReportSliceBySurveyAndQuestion(Long surveyId, Long questionId, String cursor, int size) {
+        log.info("설문 ID [{}], 질문 ID [{}]에 대한 개별 감성 보고서 키셋 조회 시작 (커서 {}, 크기 {})", surveyId, questionId, cursor, size);
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_SLICE_SIZE));
+        boolean firstPage = cursor == null || cursor.isBlank();
+
+        Slice<SentimentReport> sentimentReports;
+        if (firstPage) {
+            sentimentReports = sentimentReportRepository.findFirstSlice(surveyId, questionId, pageable);
+        } else {
+            SentimentReportCursor position = SentimentReportCursor.decode(cursor);
+            sentimentReports = sentimentReportRepository.findSliceAfter(
+                    surveyId, questionId, position.createdAt(), position.id(), pageable);
+        }
+
+        if (firstPage && sentimentReports.isEmpty()) {
+            log.warn("설문 ID [{}], 질문 ID [{}]에 해당하는 감성 보고서가 없습니다", surveyId, questionId);
+            throw new NotFoundException(ReportExceptionType.OVERALL_SENTIMENT_IS_EMPTY);
+        }
+
+        QuestionWithSurveyDto questionWithSurveyDto = questionMetadataResolver.resolve(surveyId, questionId);
+
+        List<SentimentReport> content = sentimentReports.getContent();
+        String nextCursor = sentimentReports.hasNext()
+                ? SentimentReportCursor.of(content.get(content.size() - 1)).encode()
+                : null;
+        List<SentimentReportDetailDto> reportItems = content.stream()
+                                                            .map(SentimentReportDetailDto::from)
+                                                            .toList();
+        log.info("{}건의 감성 보고서 반환 (다음 페이지 존재: {})", reportItems.size(), sentimentReports.hasNext());
+        return new SentimentReportSliceDto(questionWithSurveyDto, reportItems, sentimentReports.hasNext(), nextCursor);
+    }
+
+    /**
+     * 미리 집계된 시간/일 버킷 롤업으로 질문의 감성 추이를 조회합니다. 기간을 지정하지 않으면 최근 기본 버킷 수만큼 조회합니다.
+     */
+    public SentimentTrendDto getSentimentTrend(Long surveyId, Long questionId, TrendGranularity granularity,
+                                               LocalDateTime from, LocalDateTime to) {
+        LocalDateTime rangeTo = granularity.bucketStartOf(to != null ? to : LocalDateTime.now());
+        LocalDateTime rangeFrom = granularity.bucketStartOf(from != null ? from : granularity.minus(rangeTo, DEFAULT_TREND_BUCKETS - 1));
+        log.info("설문 ID [{}], 질문 ID [{}]의 감성 추이 조회 시작 - 단위: {}, 기간: {} ~ {}", surveyId, questionId, granularity, rangeFrom, rangeTo);
+
+        List<SentimentTrendPointDto> points = trendBucketRepository
+                .findAllBySurveyIdAndQuestionIdAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+                        surveyId, questionId, granularity, rangeFrom, rangeTo)
+                .stream()
+                .map(SentimentTrendPointDto::from)
+                .toList();
+
+        QuestionWithSurveyDto questionWithSurveyDto = questionMetadataResolver.resolve(surveyId, questionId);
+        log.info("감성 추이 {}개 버킷 반환", points.size());
+        return new SentimentTrendDto(questionWithSurveyDto, granularity, rangeFrom, rangeTo, points);
+    }
+
     public SentimentReportSingleDto getSentimentReport(Long sentimentId) {
         log.info("단일 감성 보고서 조회 시작 - 감성 보고서 ID: {}", sentimentId);
         SentimentReport sentimentReport = sentimentReportRepository.findById(sentimentId)
@@ -226,7 +377,7 @@ public class SentimentReportService {
                                                                        return new NotFoundException(ReportExceptionType.REPORT_NOT_FOUND);
                                                                    });
 
-        QuestionWithSurveyDto questionWithSurveyDto = surveyClientService.getQuestionWithSurvey(
+        QuestionWithSurveyDto questionWithSurveyDto = questionMetadataResolver.resolve(
                 sentimentReport.getSurveyId(),
                 sentimentReport.getQuestionId()
         );
@@ -234,7 +385,7 @@ public class SentimentReportService {
         return SentimentReportSingleDto.from(sentimentReport, questionWithSurveyDto);
     }
 
-    public Page<OverallSentimentReportSummaryDto> getAllOverallReportBySurvey(Long surveyId, int page) {
+    public CacheableResult<Page<OverallSentimentReportSummaryDto>> getAllOverallReportBySurvey(Long surveyId, int page) {
         log.info("설문 ID [{}]에 대한 전체 감성 보고서 목록 조회 시작 (페이지 {})", surveyId, page);
         Pageable pageable = PageRequest.of(page, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<OverallSentimentReport> overallSentimentReports = overallReportRepository.findAllBySurveyId(surveyId, pageable);
@@ -244,9 +395,14 @@ public class SentimentReportService {
             throw new NotFoundException(ReportExceptionType.OVERALL_SENTIMENT_IS_EMPTY);
         }
 
+        // 페이지에 포함된 질문들의 메타데이터를 한 번에 해석
+        Map<SurveyQuestionKey, QuestionWithSurveyDto> questionWithSurveyDtos = questionMetadataResolver.resolveAll(
+                overallSentimentReports.map(entity -> new SurveyQuestionKey(entity.getSurveyId(), entity.getQuestionId())).getContent()
+        );
+
         Page<OverallSentimentReportSummaryDto> summaryDtos = overallSentimentReports.map(entity -> {
-            QuestionWithSurveyDto questionWithSurveyDto = surveyClientService.getQuestionWithSurvey(
-                    entity.getSurveyId(), entity.getQuestionId()
+            QuestionWithSurveyDto questionWithSurveyDto = questionWithSurveyDtos.get(
+                    new SurveyQuestionKey(entity.getSurveyId(), entity.getQuestionId())
             );
             return OverallSentimentReportSummaryDto.from(
                     entity.getId(),
@@ -256,20 +412,48 @@ public class SentimentReportService {
             );
         });
         log.info("설문 ID [{}]의 전체 감성 보고서 {}건 조회 완료", surveyId, summaryDtos.getTotalElements());
-        return summaryDtos;
+        boolean cacheable = questionWithSurveyDtos.values().stream().noneMatch(QuestionMetadataResolver::isFallback);
+        return new CacheableResult<>(summaryDtos, cacheable);
+    }
+
+    /**
+     * 설문의 모든 질문을 합친 설문 단위 감성 통계를 조회합니다. 미리 집계된 한 행만 읽습니다.
+     */
+    public SurveySentimentReportDto getSurveyReport(Long surveyId) {
+        log.info("설문 단위 감성 보고서 조회 시작 - 설문 ID: {}", surveyId);
+        SurveySentimentReport surveySentimentReport = surveyReportRepository.findBySurveyId(surveyId)
+                                                                            .orElseThrow(() -> {
+                                                                                log.warn("설문 ID [{}]의 설문 단위 감성 보고서가 없습니다", surveyId);
+                                                                                return new NotFoundException(ReportExceptionType.OVERALL_SENTIMENT_IS_EMPTY);
+                                                                            });
+        long distinctRespondents = reportSketchService.getDistinctRespondents(surveyId, ReportSketch.SURVEY_SCOPE);
+        return SurveySentimentReportDto.from(surveySentimentReport, distinctRespondents);
     }
 
-    public OverallSentimentReportDto getOverallReportById(Long overallReportId) {
+    /**
+     * 전체 보고서가 속한 설문 ID를 반환합니다. 조회 캐시의 버전 확인에 사용합니다.
+     */
+    public Long getSurveyIdOfOverallReport(Long overallReportId) {
+        return overallReportRepository.findSurveyIdById(overallReportId)
+                                      .orElseThrow(() -> new NotFoundException(ReportExceptionType.OVERALL_REPORT_NOT_FOUND));
+    }
+
+    public CacheableResult<OverallSentimentReportDto> getOverallReportById(Long overallReportId) {
         log.info("전체 감성 보고서 단건 조회 시작 - 전체 보고서 ID: {}", overallReportId);
         OverallSentimentReport overallSentimentReport = overallReportRepository.findById(overallReportId)
                                                                                .orElseThrow(() -> {
                                                                                    log.warn("전체 감성 보고서 ID [{}]를 찾을 수 없습니다", overallReportId);
                                                                                    return new NotFoundException(ReportExceptionType.OVERALL_REPORT_NOT_FOUND);
                                                                                });
-        QuestionWithSurveyDto questionWithSurveyDto = surveyClientService.getQuestionWithSurvey(
+        QuestionWithSurveyDto questionWithSurveyDto = questionMetadataResolver.resolve(
+                overallSentimentReport.getSurveyId(), overallSentimentReport.getQuestionId()
+        );
+        long distinctRespondents = reportSketchService.getDistinctRespondents(
                 overallSentimentReport.getSurveyId(), overallSentimentReport.getQuestionId()
         );
         log.info("전체 감성 보고서 단건 조회 완료 - 전체 보고서 ID: {}", overallReportId);
-        return OverallSentimentReportDto.from(overallSentimentReport, questionWithSurveyDto.title(), questionWithSurveyDto.questionText());
+        OverallSentimentReportDto overallSentimentReportDto = OverallSentimentReportDto.from(overallSentimentReport,
+                questionWithSurveyDto.title(), questionWithSurveyDto.questionText(), distinctRespondents);
+        return new CacheableResult<>(overallSentimentReportDto, !QuestionMetadataResolver.isFallback(questionWithSurveyDto));
     }
 }
\ No newline at end of file
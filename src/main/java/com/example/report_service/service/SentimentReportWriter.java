@@ -0,0 +1,278 @@
+package com.example.report_service.service;
+
+import com.example.report_service.dto.internal.AnalyzedAnswer;
+import com.example.report_service.dto.internal.AnalyzedRequest;
+import com.example.report_service.dto.internal.SentimentStats;
+import com.example.report_service.dto.internal.SentimentTotals;
+import com.example.report_service.entity.OverallSentimentReport;
+import com.example.report_service.entity.SentimentReport;
+import com.example.report_service.entity.TrendGranularity;
+import com.example.report_service.repository.OverallSentimentReportRepository;
+import com.example.report_service.repository.SentimentReportBatchRepository;
+import com.example.report_service.repository.SentimentReportRepository;
+import com.example.report_service.repository.SentimentTrendBucketRepository;
+import com.example.report_service.repository.SurveySentimentReportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * 감성 분석이 끝난 답변들을 하나의 짧은 쓰기 트랜잭션으로 저장합니다.
+ * 원격 호출 없이 개별 보고서 저장과 전체 보고서 증분 갱신만 수행합니다.
+ * 집계 테이블 upsert는 항상 (설문 ID, 질문 ID) 순서로 실행하여 트랜잭션끼리 서로 반대 순서로 행을 잠그지 않도록 하고,
+ * 그래도 교착 상태나 잠금 대기 시간 초과로 롤백되면 한 번 더 시도합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SentimentReportWriter {
+
+    private final SentimentReportRepository sentimentReportRepository;
+    private final SentimentReportBatchRepository sentimentReportBatchRepository;
+    private final OverallSentimentReportRepository overallReportRepository;
+    private final SentimentTrendBucketRepository trendBucketRepository;
+    private final SurveySentimentReportRepository surveyReportRepository;
+    private final OverallWriteBehindAggregator writeBehindAggregator;
+    private final ReportVersionTracker reportVersionTracker;
+    private final ReportSketchService reportSketchService;
+    private final SentimentSearchIndexer searchIndexer;
+    private final IngestMetrics ingestMetrics;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 응답 한 건의 분석 결과를 저장하고 저장된 개별 보고서를 반환합니다.
+     * (응답 ID, 질문 ID)가 이미 저장되어 있으면 유니크 제약 위반(DataIntegrityViolationException)으로 전체가 롤백됩니다.
+     */
+    public List<SentimentReport> persist(Long surveyId, Long responseId, Long userId, List<AnalyzedAnswer> analyzedAnswers) {
+        return inTransactionRetryingOnLockFailure(() -> persistInTransaction(surveyId, responseId, userId, analyzedAnswers));
+    }
+
+    private List<SentimentReport> persistInTransaction(Long surveyId, Long responseId, Long userId, List<AnalyzedAnswer> analyzedAnswers) {
+        Map<Long, List<SentimentReport>> reportsByQuestion = ingestMetrics.observe(IngestMetrics.STAGE_PERSIST_REPORT, surveyId, () -> {
+            Map<Long, List<SentimentReport>> saved = new TreeMap<>();
+            for (AnalyzedAnswer answer : analyzedAnswers) {
+                SentimentReport report = saveReport(surveyId, responseId, userId, answer);
+                saved.computeIfAbsent(answer.questionId(), id -> new ArrayList<>()).add(report);
+            }
+            return saved;
+        });
+        log.info("처리된 질문 ID 집합: {}", reportsByQuestion.keySet());
+
+        applyAggregates(surveyId, reportsByQuestion);
+        updateSketches(surveyId, List.of(new AnalyzedRequest(surveyId, responseId, userId, analyzedAnswers)));
+        searchIndexer.indexAfterCommit(surveyId, responseId, userId, analyzedAnswers);
+        ingestMetrics.recordProcessed(1, analyzedAnswers.size(), reportsByQuestion.size());
+        return reportsByQuestion.values().stream()
+                                .flatMap(List::stream)
+                                .toList();
+    }
+
+    /**
+     * 벌크 수집 청크를 하나의 트랜잭션으로 저장합니다.
+     * 개별 보고서는 JDBC 배치 INSERT로 저장하고, 전체 보고서·추이 롤업·설문 단위 통계는 청크 내 (설문, 질문)마다 한 번만 갱신합니다.
+     */
+    public void persistBatch(List<AnalyzedRequest> analyzedRequests) {
+        inTransactionRetryingOnLockFailure(() -> {
+            persistBatchInTransaction(analyzedRequests);
+            return null;
+        });
+    }
+
+    private void persistBatchInTransaction(List<AnalyzedRequest> analyzedRequests) {
+        Map<Long, Map<Long, List<SentimentReport>>> reportsBySurvey = new TreeMap<>();
+        Map<Long, List<AnalyzedRequest>> requestsBySurvey = new TreeMap<>();
+        List<SentimentReport> allReports = new ArrayList<>();
+        int questionCount = 0;
+        for (AnalyzedRequest request : analyzedRequests) {
+            requestsBySurvey.computeIfAbsent(request.surveyId(), id -> new ArrayList<>()).add(request);
+            Map<Long, List<SentimentReport>> reportsByQuestion =
+                    reportsBySurvey.computeIfAbsent(request.surveyId(), id -> new TreeMap<>());
+            for (AnalyzedAnswer answer : request.answers()) {
+                SentimentReport report = buildReport(request.surveyId(), request.responseId(), request.userId(), answer);
+                reportsByQuestion.computeIfAbsent(answer.questionId(), id -> new ArrayList<>()).add(report);
+                allReports.add(report);
+            }
+            questionCount += (int) request.answers().stream().map(AnalyzedAnswer::questionId).distinct().count();
+        }
+        ingestMetrics.recordProcessed(analyzedRequests.size(), allReports.size(), questionCount);
+
+        if (writeBehindAggregator.isEnabled()) {
+            // 쓰기 지연 모드는 외래 키 없이 먼저 저장하고, 생성된 ID를 증분과 함께 넘겨 플러시 때 ID로 연결
+            ingestMetrics.observe(IngestMetrics.STAGE_PERSIST_REPORT, null, () -> sentimentReportBatchRepository.insertAll(allReports));
+            reportsBySurvey.forEach(this::applyAggregates);
+        } else {
+            // 전체 보고서를 먼저 갱신하여 개별 보고서 INSERT에 사용할 외래 키를 확정
+            reportsBySurvey.forEach(this::applyAggregates);
+            ingestMetrics.observe(IngestMetrics.STAGE_PERSIST_REPORT, null, () -> sentimentReportBatchRepository.insertAll(allReports));
+        }
+        requestsBySurvey.forEach(this::updateSketches);
+        analyzedRequests.forEach(request ->
+                searchIndexer.indexAfterCommit(request.surveyId(), request.responseId(), request.userId(), request.answers()));
+        log.info("벌크 청크 저장 완료 - 요청 {}건, 개별 보고서 {}건, 설문 {}개", analyzedRequests.size(), allReports.size(), reportsBySurvey.size());
+    }
+
+    /**
+     * 작업을 하나의 트랜잭션으로 실행하고, 교착 상태의 희생자가 되거나 잠금 대기 시간을 넘겨 롤백되면 한 번 재시도합니다.
+     * 롤백으로 커밋 후 작업(쓰기 지연 증분, 색인 등)도 함께 버려지므로 재시도해도 중복 반영되지 않습니다.
+     */
+    private <T> T inTransactionRetryingOnLockFailure(Supplier<T> work) {
+        try {
+            return transactionTemplate.execute(status -> work.get());
+        } catch (PessimisticLockingFailureException e) {
+            log.warn("잠금 충돌로 저장 트랜잭션이 롤백되어 한 번 재시도합니다. - {}", e.getMessage());
+            return transactionTemplate.execute(status -> work.get());
+        }
+    }
+
+    /**
+     * 새 개별 보고서들을 질문별 전체 보고서, 추이 롤업, 설문 단위 통계에 반영합니다.
+     * 쓰기 지연 모드에서는 전체 보고서, 추이 롤업, 설문 단위 통계의 증분을 새 개별 보고서 ID와 함께 커밋 시 집계기에 넘기고,
+     * 집계기가 주기적으로 한 번에 반영하며 개별 보고서를 ID로 연결합니다. 이 경우 개별 보고서는 이미 저장되어 ID가 있어야 합니다.
+     */
+    private void applyAggregates(Long surveyId, Map<Long, List<SentimentReport>> reportsByQuestion) {
+        if (writeBehindAggregator.isEnabled()) {
+            LocalDateTime now = LocalDateTime.now();
+            reportsByQuestion.forEach((questionId, newReports) -> {
+                // 가장 작은 추이 단위(시간) 버킷별로 나누어 넘기면 집계기가 모든 단위의 버킷을 정할 수 있음
+                Map<LocalDateTime, List<SentimentReport>> reportsByHour = new TreeMap<>();
+                for (SentimentReport report : newReports) {
+                    LocalDateTime createdAt = report.getCreatedAt() != null ? report.getCreatedAt() : now;
+                    reportsByHour.computeIfAbsent(TrendGranularity.HOUR.bucketStartOf(createdAt), hour -> new ArrayList<>()).add(report);
+                }
+                reportsByHour.forEach((hour, reports) -> {
+                    List<Long> childIds = reports.stream()
+                                                 .map(SentimentReport::getId)
+                                                 .toList();
+                    writeBehindAggregator.addOnCommit(surveyId, questionId, hour, SentimentTotals.of(reports), childIds);
+                });
+            });
+            return;
+        }
+
+        int newQuestions = 0;
+        for (Map.Entry<Long, List<SentimentReport>> entry : reportsByQuestion.entrySet()) {
+            Long questionId = entry.getKey();
+            List<SentimentReport> newReports = entry.getValue();
+            log.info("설문 ID [{}], 질문 ID [{}]에 대해 전체 감성 보고서 생성/갱신 시작", surveyId, questionId);
+            if (generateOverallReportForQuestion(surveyId, questionId, newReports)) {
+                newQuestions++;
+            }
+            updateTrendBuckets(surveyId, questionId, newReports);
+            log.info("설문 ID [{}], 질문 ID [{}]에 대해 전체 감성 보고서 생성/갱신 완료", surveyId, questionId);
+        }
+        updateSurveyReport(surveyId, reportsByQuestion, newQuestions);
+        reportVersionTracker.bump(surveyId);
+    }
+
+    /**
+     * 답변 한 건의 감성 분석 결과로 개별 감성 보고서를 생성하여 저장합니다.
+     */
+    private SentimentReport saveReport(Long surveyId, Long responseId, Long userId, AnalyzedAnswer answer) {
+        SentimentReport saved = sentimentReportRepository.save(buildReport(surveyId, responseId, userId, answer));
+        log.info("개별 감성 보고서 저장 완료 - 질문 ID: {}, 응답 ID: {}", answer.questionId(), responseId);
+        return saved;
+    }
+
+    private SentimentReport buildReport(Long surveyId, Long responseId, Long userId, AnalyzedAnswer answer) {
+        SentimentStats stats = new SentimentStats();
+        stats.accumulate(answer.result());
+
+        // 평균 값 계산
+        double avgPositive = stats.getAvgPositive();
+        double avgNegative = stats.getAvgNegative();
+        double avgNeutral  = stats.getAvgNeutral();
+        double avgMixed    = stats.getAvgMixed();
+
+        // 개별 감성 보고서 엔티티 생성
+        return SentimentReport.builder()
+                              .surveyId(surveyId)
+                              .questionId(answer.questionId())
+                              .responseId(responseId)
+                              .userId(userId)
+                              .totalResponses(stats.getTotal())
+                              .positiveCount(stats.getPositiveCount())
+                              .negativeCount(stats.getNegativeCount())
+                              .neutralCount(stats.getNeutralCount())
+                              .mixedCount(stats.getMixedCount())
+                              .averagePositive(avgPositive)
+                              .averageNegative(avgNegative)
+                              .averageNeutral(avgNeutral)
+                              .averageMixed(avgMixed)
+                              .build();
+    }
+
+    /**
+     * 새로 생성된 개별 보고서들의 값만 전체 통계 보고서의 누적 합계에 반영합니다.
+     * 증분은 단일 INSERT ... ON DUPLICATE KEY UPDATE 문으로 DB에서 더하므로, 여러 레플리카가 같은 질문을 동시에 갱신해도
+     * 중복 행이나 갱신 유실이 없고 애플리케이션 수준의 읽기-수정-쓰기나 재시도가 필요 없습니다.
+     *
+     * @return 전체 보고서가 새로 생성되었으면 true
+     */
+    private boolean generateOverallReportForQuestion(Long surveyId, Long questionId, List<SentimentReport> newReports) {
+        SentimentTotals totals = SentimentTotals.of(newReports);
+        boolean created = ingestMetrics.observe(IngestMetrics.STAGE_REGENERATE_OVERALL, surveyId,
+                () -> overallReportRepository.upsertIncrement(surveyId, questionId, totals) == 1);
+        if (created) {
+            log.info("전체 감성 보고서 신규 생성 - 설문 ID: {}, 질문 ID: {}", surveyId, questionId);
+        }
+
+        // 새 개별 보고서와 전체 보고서의 연관관계 설정 (프록시 참조만 사용하므로 전체 보고서 행을 읽지 않음)
+        ingestMetrics.observe(IngestMetrics.STAGE_LINK_CHILDREN, surveyId, () -> {
+            Long overallId = overallReportRepository.findIdBySurveyIdAndQuestionId(surveyId, questionId).orElseThrow();
+            OverallSentimentReport overallReport = overallReportRepository.getReferenceById(overallId);
+            newReports.forEach(child -> child.linkOverallSentimentReport(overallReport));
+        });
+
+        log.debug("집계 통계 증분 반영 - 응답 수: +{}, 긍정: +{}, 부정: +{} 등",
+                totals.getTotalResponses(), totals.getPositiveCount(), totals.getNegativeCount());
+        log.info("전체 감성 보고서 갱신 완료 - 설문 ID: {}, 질문 ID: {}, 반영된 개별 보고서 {}건", surveyId, questionId, newReports.size());
+        return created;
+    }
+
+    /**
+     * 요청의 모든 새 개별 보고서를 설문 단위 통계에 원자적으로 누적합니다. 요청당 한 문장만 실행합니다.
+     */
+    private void updateSurveyReport(Long surveyId, Map<Long, List<SentimentReport>> reportsByQuestion, int newQuestions) {
+        SentimentTotals totals = new SentimentTotals();
+        reportsByQuestion.values().forEach(reports -> reports.forEach(totals::add));
+        ingestMetrics.observe(IngestMetrics.STAGE_UPDATE_SURVEY, surveyId,
+                () -> surveyReportRepository.upsertIncrement(surveyId, newQuestions, totals));
+        log.debug("설문 단위 감성 보고서 갱신 완료 - 설문 ID: {}, 신규 질문 {}개", surveyId, newQuestions);
+    }
+
+    /**
+     * 답변 원문에서 뽑은 키워드와 응답자 ID를 질문·설문별 요약(상위 키워드, 고유 응답자 수)에 병합합니다.
+     */
+    private void updateSketches(Long surveyId, List<AnalyzedRequest> analyzedRequests) {
+        ingestMetrics.observe(IngestMetrics.STAGE_UPDATE_SKETCHES, surveyId,
+                () -> reportSketchService.record(surveyId, analyzedRequests));
+    }
+
+    /**
+     * 새 개별 보고서들을 생성 시각이 속한 시간/일 버킷의 추이 롤업에 원자적으로 누적합니다.
+     */
+    private void updateTrendBuckets(Long surveyId, Long questionId, List<SentimentReport> newReports) {
+        ingestMetrics.observe(IngestMetrics.STAGE_UPDATE_TRENDS, surveyId, () -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (TrendGranularity granularity : TrendGranularity.values()) {
+                Map<LocalDateTime, SentimentTotals> totalsByBucket = new TreeMap<>();
+                for (SentimentReport report : newReports) {
+                    LocalDateTime createdAt = report.getCreatedAt() != null ? report.getCreatedAt() : now;
+                    totalsByBucket.computeIfAbsent(granularity.bucketStartOf(createdAt), start -> new SentimentTotals()).add(report);
+                }
+                totalsByBucket.forEach((bucketStart, totals) ->
+                        trendBucketRepository.upsertIncrement(surveyId, questionId, granularity.name(), bucketStart, totals));
+            }
+        });
+        log.debug("감성 추이 롤업 갱신 완료 - 설문 ID: {}, 질문 ID: {}", surveyId, questionId);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.report_service.service;
+
+import com.example.report_service.dto.response.AWSComprehendResult;
+import com.example.report_service.dto.response.SentimentScore;
+import com.example.report_service.entity.SentimentResultCacheEntry;
+import com.example.report_service.repository.SentimentResultCacheRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 정규화된 텍스트와 언어 코드의 해시로 감성 분석 결과를 캐싱합니다.
+ * 크기/TTL 제한이 있는 인메모리 캐시를 먼저 조회하고, 없으면 레플리카 간에 공유되는 DB 테이블을 조회합니다.
+ */
+@Service
+@Slf4j
+public class SentimentResultCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SentimentResultCacheRepository cacheRepository;
+    private final boolean enabled;
+    private final Cache<String, AWSComprehendResult> localCache;
+    private final Counter persistentHits;
+    private final Counter persistentMisses;
+
+    public SentimentResultCache(
+            SentimentResultCacheRepository cacheRepository,
+            MeterRegistry meterRegistry,
+            @Value("${report.sentiment-cache.enabled:true}") boolean enabled,
+            @Value("${report.sentiment-cache.max-size:100000}") long maxSize,
+            @Value("${report.sentiment-cache.ttl-minutes:1440}") long ttlMinutes
+    ) {
+        this.cacheRepository = cacheRepository;
+        this.enabled = enabled;
+        this.localCache = Caffeine.newBuilder()
+                                  .maximumSize(maxSize)
+                                  .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                                  .recordStats()
+                                  .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "sentiment-result-local");
+        this.persistentHits = Counter.builder("sentiment.result.cache.persistent")
+                                     .tag("result", "hit")
+                                     .register(meterRegistry);
+        this.persistentMisses = Counter.builder("sentiment.result.cache.persistent")
+                                       .tag("result", "miss")
+                                       .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 저장된 결과를 원문 텍스트 기준으로 반환합니다. 캐시에 없는 텍스트는 결과 맵에 포함되지 않습니다.
+     */
+    public Map<String, AWSComprehendResult> getAll(Collection<String> texts, String languageCode) {
+        Map<String, AWSComprehendResult> found = new LinkedHashMap<>();
+        if (!enabled) {
+            return found;
+        }
+
+        Map<String, String> missingKeys = new LinkedHashMap<>();
+        for (String text : texts) {
+            String key = keyOf(text, languageCode);
+            AWSComprehendResult cached = localCache.getIfPresent(key);
+            if (cached != null) {
+                found.put(text, cached);
+            } else {
+                missingKeys.put(text, key);
+            }
+        }
+        if (missingKeys.isEmpty()) {
+            return found;
+        }
+
+        Map<String, AWSComprehendResult> persisted = new LinkedHashMap<>();
+        cacheRepository.findAllById(missingKeys.values())
+                       .forEach(entry -> persisted.put(entry.getContentHash(), toResult(entry)));
+        missingKeys.forEach((text, key) -> {
+            AWSComprehendResult result = persisted.get(key);
+            if (result != null) {
+                localCache.put(key, result);
+                found.put(text, result);
+                persistentHits.increment();
+            } else {
+                persistentMisses.increment();
+            }
+        });
+        log.debug("감성 분석 결과 캐시 조회 - 요청 {}건, 적중 {}건", texts.size(), found.size());
+        return found;
+    }
+
+    /**
+     * 새로 분석한 결과를 인메모리 캐시와 DB 테이블에 저장합니다. 분석 단계에서 호출되므로 자체 트랜잭션으로 짧게 저장합니다.
+     */
+    @Transactional
+    public void putAll(Map<String, AWSComprehendResult> results, String languageCode) {
+        if (!enabled) {
+            return;
+        }
+        results.forEach((text, result) -> {
+            String key = keyOf(text, languageCode);
+            localCache.put(key, result);
+            SentimentScore score = result.getSentimentScore();
+            cacheRepository.insertIgnore(key, languageCode, result.getSentiment(),
+                    score.getPositive(), score.getNegative(), score.getNeutral(), score.getMixed());
+        });
+    }
+
+    /**
+     * 공백을 하나로 합치고 유니코드 정규화·소문자화한 텍스트에 언어 코드를 더해 SHA-256 해시를 계산합니다.
+     */
+    static String keyOf(String text, String languageCode) {
+        String normalized = WHITESPACE.matcher(Normalizer.normalize(text, Normalizer.Form.NFC).trim())
+                                      .replaceAll(" ")
+                                      .toLowerCase(Locale.ROOT);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(languageCode.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private AWSComprehendResult toResult(SentimentResultCacheEntry entry) {
+        return new AWSComprehendResult(
+                entry.getSentiment(),
+                new SentimentScore(entry.getPositive(), entry.getNegative(), entry.getNeutral(), entry.getMixed())
+        );
+    }
+}
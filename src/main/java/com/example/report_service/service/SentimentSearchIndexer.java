@@ -0,0 +1,230 @@
+package com.example.report_service.service;
+
+import com.example.report_service.document.SentimentReportDocument;
+import com.example.report_service.dto.internal.AnalyzedAnswer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감성 보고서를 Elasticsearch에 비동기 일괄 색인합니다.
+ * 커밋된 답변만 제한된 크기의 큐에 넣고, 전용 스레드가 batch-size 또는 linger-ms 단위로 묶어 bulk 요청을 보냅니다.
+ * 큐가 가득 차면 max-block-ms까지 기다린 뒤 문서를 버리고(수집 경로를 막지 않음), 실패한 bulk 요청은 지수 백오프로 재시도합니다.
+ */
+@Component
+@Slf4j
+public class SentimentSearchIndexer {
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final boolean enabled;
+    private final boolean indexAnswerText;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final long maxBlockMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final BlockingQueue<SentimentReportDocument> queue;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    private final Counter indexed;
+    private final Counter dropped;
+    private final Counter failed;
+
+    public SentimentSearchIndexer(
+            ElasticsearchOperations elasticsearchOperations,
+            MeterRegistry meterRegistry,
+            @Value("${report.search.enabled:false}") boolean enabled,
+            @Value("${report.search.index-answer-text:true}") boolean indexAnswerText,
+            @Value("${report.search.indexer.queue-capacity:10000}") int queueCapacity,
+            @Value("${report.search.indexer.batch-size:500}") int batchSize,
+            @Value("${report.search.indexer.linger-ms:1000}") long lingerMillis,
+            @Value("${report.search.indexer.max-block-ms:50}") long maxBlockMillis,
+            @Value("${report.search.indexer.max-attempts:5}") int maxAttempts,
+            @Value("${report.search.indexer.retry-backoff-ms:500}") long retryBackoffMillis
+    ) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.enabled = enabled;
+        this.indexAnswerText = indexAnswerText;
+        this.batchSize = Math.max(1, batchSize);
+        this.lingerMillis = lingerMillis;
+        this.maxBlockMillis = maxBlockMillis;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+
+        this.indexed = Counter.builder("report.search.indexer.indexed")
+                              .description("Elasticsearch에 색인된 문서 수")
+                              .register(meterRegistry);
+        this.dropped = Counter.builder("report.search.indexer.dropped")
+                              .description("큐가 가득 차 버린 문서 수")
+                              .register(meterRegistry);
+        this.failed = Counter.builder("report.search.indexer.failed")
+                             .description("재시도 후에도 색인하지 못한 문서 수")
+                             .register(meterRegistry);
+        Gauge.builder("report.search.indexer.queue", queue, BlockingQueue::size)
+             .description("색인 대기 중인 문서 수")
+             .register(meterRegistry);
+
+        this.worker = new Thread(this::run, "search-indexer");
+        this.worker.setDaemon(true);
+        if (enabled) {
+            this.worker.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexIfMissing() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            IndexOperations indexOps = elasticsearchOperations.indexOps(SentimentReportDocument.class);
+            if (!indexOps.exists()) {
+                indexOps.createWithMapping();
+                log.info("Elasticsearch 인덱스 생성 - {}", SentimentReportDocument.INDEX_NAME);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Elasticsearch 인덱스 확인 실패 - 첫 bulk 요청 시 동적 매핑으로 생성됩니다.", e);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 응답의 답변들을 색인 큐에 넣습니다.
+     */
+    public void indexAfterCommit(Long surveyId, Long responseId, Long userId, List<AnalyzedAnswer> analyzedAnswers) {
+        if (!enabled) {
+            return;
+        }
+        List<SentimentReportDocument> documents = toDocuments(surveyId, responseId, userId, analyzedAnswers);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            documents.forEach(this::offer);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                documents.forEach(SentimentSearchIndexer.this::offer);
+            }
+        });
+    }
+
+    private List<SentimentReportDocument> toDocuments(Long surveyId, Long responseId, Long userId, List<AnalyzedAnswer> analyzedAnswers) {
+        LocalDateTime now = LocalDateTime.now();
+        List<SentimentReportDocument> documents = new ArrayList<>(analyzedAnswers.size());
+        for (AnalyzedAnswer answer : analyzedAnswers) {
+            documents.add(SentimentReportDocument.builder()
+                                                 .surveyId(surveyId)
+                                                 .questionId(answer.questionId())
+                                                 .responseId(responseId)
+                                                 .userId(userId)
+                                                 .sentiment(answer.result().getSentiment().toUpperCase())
+                                                 .positive(answer.result().getSentimentScore().getPositive())
+                                                 .negative(answer.result().getSentimentScore().getNegative())
+                                                 .neutral(answer.result().getSentimentScore().getNeutral())
+                                                 .mixed(answer.result().getSentimentScore().getMixed())
+                                                 .answerText(indexAnswerText ? answer.text() : null)
+                                                 .createdAt(now)
+                                                 .build());
+        }
+        return documents;
+    }
+
+    private void offer(SentimentReportDocument document) {
+        try {
+            if (!queue.offer(document, maxBlockMillis, TimeUnit.MILLISECONDS)) {
+                dropped.increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+        }
+    }
+
+    private void run() {
+        List<SentimentReportDocument> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    SentimentReportDocument document = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (document == null) {
+                        break;
+                    }
+                    batch.add(document);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                bulkIndex(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void bulkIndex(List<SentimentReportDocument> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                elasticsearchOperations.save(batch);
+                indexed.increment(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    failed.increment(batch.size());
+                    log.error("Elasticsearch 일괄 색인 실패 - 문서 {}건을 버립니다.", batch.size(), e);
+                    return;
+                }
+                long backoff = retryBackoffMillis * (1L << Math.min(attempt - 1, 10));
+                log.warn("Elasticsearch 일괄 색인 실패 ({}회차) - {}ms 후 재시도", attempt, backoff);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    failed.increment(batch.size());
+                    return;
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("종료 시 색인하지 못한 문서 {}건이 남아 있습니다.", queue.size());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.report_service.service;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.CalendarInterval;
+import co.elastic.clients.elasticsearch._types.aggregations.DateHistogramBucket;
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.example.global.exception.type.NotFoundException;
+import com.example.report_service.document.SentimentReportDocument;
+import com.example.report_service.dto.response.SentimentAggregationDto;
+import com.example.report_service.dto.response.SentimentHistogramBucketDto;
+import com.example.report_service.dto.response.SentimentSearchHitDto;
+import com.example.report_service.dto.response.SentimentSearchResultDto;
+import com.example.report_service.entity.TrendGranularity;
+import com.example.report_service.exception.ReportExceptionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Elasticsearch 색인을 대상으로 답변 전문 검색과 감성 분포 집계를 수행합니다.
+ * 집계는 문서를 가져오지 않고(size 0) 감성별 terms 집계와 기간별 date_histogram 집계만 요청합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SentimentSearchService {
+
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final String SENTIMENTS_AGGREGATION = "sentiments";
+    private static final String HISTOGRAM_AGGREGATION = "histogram";
+    // SentimentReportDocument.createdAt 필드 형식(date_hour_minute_second_millis)과 동일
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS");
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final SentimentSearchIndexer searchIndexer;
+
+    public SentimentSearchResultDto search(Long surveyId, Long questionId, String keyword, String sentiment, int page, int size) {
+        requireEnabled();
+        int pageSize = Math.min(Math.max(size, 1), MAX_SEARCH_SIZE);
+        Query query = Query.of(q -> q.bool(b -> {
+            filterBy(b, surveyId, questionId, sentiment, null, null);
+            if (keyword != null && !keyword.isBlank()) {
+                b.must(m -> m.match(t -> t.field("answerText").query(keyword).operator(Operator.And)));
+            }
+            return b;
+        }));
+
+        NativeQuery nativeQuery = NativeQuery.builder()
+                                             .withQuery(query)
+                                             .withPageable(PageRequest.of(Math.max(page, 0), pageSize))
+                                             .withTrackTotalHits(true)
+                                             .build();
+        SearchHits<SentimentReportDocument> searchHits = elasticsearchOperations.search(nativeQuery, SentimentReportDocument.class);
+        log.debug("감성 보고서 검색 - 설문 ID: {}, 키워드: {}, 감성: {}, 결과 {}건", surveyId, keyword, sentiment, searchHits.getTotalHits());
+
+        List<SentimentSearchHitDto> hits = searchHits.getSearchHits().stream()
+                                                     .map(SentimentSearchHitDto::from)
+                                                     .toList();
+        return new SentimentSearchResultDto(surveyId, searchHits.getTotalHits(), Math.max(page, 0), pageSize, hits);
+    }
+
+    public SentimentAggregationDto aggregate(Long surveyId, Long questionId, TrendGranularity granularity,
+                                             LocalDateTime from, LocalDateTime to) {
+        requireEnabled();
+        Query query = Query.of(q -> q.bool(b -> filterBy(b, surveyId, questionId, null, from, to)));
+        CalendarInterval interval = granularity == TrendGranularity.HOUR ? CalendarInterval.Hour : CalendarInterval.Day;
+
+        NativeQuery nativeQuery = NativeQuery.builder()
+                                             .withQuery(query)
+                                             .withMaxResults(0)
+                                             .withTrackTotalHits(true)
+                                             .withAggregation(SENTIMENTS_AGGREGATION, sentimentTerms())
+                                             .withAggregation(HISTOGRAM_AGGREGATION, Aggregation.of(a -> a
+                                                     .dateHistogram(h -> h.field("createdAt").calendarInterval(interval).minDocCount(1))
+                                                     .aggregations(SENTIMENTS_AGGREGATION, sentimentTerms())))
+                                             .build();
+        SearchHits<SentimentReportDocument> searchHits = elasticsearchOperations.search(nativeQuery, SentimentReportDocument.class);
+        ElasticsearchAggregations aggregations = (ElasticsearchAggregations) searchHits.getAggregations();
+
+        Map<String, Long> sentimentCounts = Map.of();
+        List<SentimentHistogramBucketDto> histogram = List.of();
+        if (aggregations != null) {
+            sentimentCounts = sentimentCounts(aggregations.get(SENTIMENTS_AGGREGATION).aggregation().getAggregate());
+            histogram = aggregations.get(HISTOGRAM_AGGREGATION).aggregation().getAggregate()
+                                    .dateHistogram().buckets().array().stream()
+                                    .map(this::toHistogramBucket)
+                                    .toList();
+        }
+        return new SentimentAggregationDto(surveyId, questionId, granularity, from, to,
+                searchHits.getTotalHits(), sentimentCounts, histogram);
+    }
+
+    private BoolQuery.Builder filterBy(BoolQuery.Builder b, Long surveyId, Long questionId, String sentiment,
+                                       LocalDateTime from, LocalDateTime to) {
+        b.filter(f -> f.term(t -> t.field("surveyId").value(surveyId)));
+        if (questionId != null) {
+            b.filter(f -> f.term(t -> t.field("questionId").value(questionId)));
+        }
+        if (sentiment != null && !sentiment.isBlank()) {
+            b.filter(f -> f.term(t -> t.field("sentiment").value(sentiment.toUpperCase())));
+        }
+        if (from != null || to != null) {
+            b.filter(f -> f.range(r -> r.date(d -> {
+                d.field("createdAt");
+                if (from != null) {
+                    d.gte(DATE_FORMAT.format(from));
+                }
+                if (to != null) {
+                    d.lt(DATE_FORMAT.format(to));
+                }
+                return d;
+            })));
+        }
+        return b;
+    }
+
+    private Aggregation sentimentTerms() {
+        return Aggregation.of(a -> a.terms(t -> t.field("sentiment").size(4)));
+    }
+
+    private SentimentHistogramBucketDto toHistogramBucket(DateHistogramBucket bucket) {
+        LocalDateTime bucketStart = LocalDateTime.ofInstant(Instant.ofEpochMilli(bucket.key()), ZoneOffset.UTC);
+        return new SentimentHistogramBucketDto(bucketStart, bucket.docCount(),
+                sentimentCounts(bucket.aggregations().get(SENTIMENTS_AGGREGATION)));
+    }
+
+    private Map<String, Long> sentimentCounts(Aggregate aggregate) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        if (aggregate == null) {
+            return counts;
+        }
+        for (StringTermsBucket bucket : aggregate.sterms().buckets().array()) {
+            counts.put(bucket.key().stringValue(), bucket.docCount());
+        }
+        return counts;
+    }
+
+    private void requireEnabled() {
+        if (!searchIndexer.isEnabled()) {
+            throw new NotFoundException(ReportExceptionType.SEARCH_DISABLED);
+        }
+    }
+}
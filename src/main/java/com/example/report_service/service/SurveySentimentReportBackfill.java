@@ -0,0 +1,55 @@
+package com.example.report_service.service;
+
+import com.example.report_service.repository.SurveySentimentReportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 설문 단위 통계(survey_sentiment_reports)가 도입되기 전에 쌓인 질문별 전체 보고서로 설문 행을 채웁니다.
+ * 설문 행은 수집 시 증분으로만 갱신되므로, 채우지 않으면 기존 설문은 배포 이후의 답변과 질문만 반영됩니다.
+ * 전체 보고서에서 다시 계산해 덮어쓰므로 다른 레플리카가 먼저 만든 일부 값의 행도 바로잡으며, 반복 실행해도 안전합니다.
+ */
+@Component
+@Slf4j
+public class SurveySentimentReportBackfill {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final SurveySentimentReportRepository surveyReportRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    public SurveySentimentReportBackfill(
+            SurveySentimentReportRepository surveyReportRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${report.survey-report.backfill-on-startup:true}") boolean enabled
+    ) {
+        this.surveyReportRepository = surveyReportRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                Integer affected = transactionTemplate.execute(status -> surveyReportRepository.rebuildFromOverallReports());
+                log.info("설문 단위 감성 보고서 재계산 완료 - 영향받은 행 수: {}", affected);
+                return;
+            } catch (PessimisticLockingFailureException e) {
+                // 수집 트랜잭션과 전체 보고서 행 잠금 순서가 엇갈리면 교착 상태로 롤백될 수 있음
+                log.warn("설문 단위 감성 보고서 재계산이 잠금 충돌로 롤백되었습니다. 시도 {}/{}", attempt, MAX_ATTEMPTS, e);
+            }
+        }
+        log.error("설문 단위 감성 보고서 재계산에 실패했습니다. 다음 기동 시 다시 시도합니다.");
+    }
+}
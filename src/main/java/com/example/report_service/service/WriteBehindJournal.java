@@ -0,0 +1,203 @@
+package com.example.report_service.service;
+
+import com.example.report_service.dto.internal.SentimentTotals;
+import com.example.report_service.dto.request.SurveyQuestionKey;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 쓰기 지연 집계기의 로컬 저널입니다. 증분을 커밋 직전에 세그먼트 파일에 한 줄씩 추가하고,
+ * 플러시 시 활성 세그먼트를 닫은 뒤 DB 반영이 끝나면 닫힌 세그먼트를 삭제합니다.
+ * 비정상 종료 후 재시작하면 DB에 반영된 번호보다 큰 세그먼트만 읽어 미반영 증분을 복구합니다.
+ * 한 줄은 (설문 ID, 질문 ID, 감성 합계 9개, 새 개별 보고서 ID 목록(;로 구분), 추이 버킷 시각)입니다.
+ * 이 클래스는 스레드 안전하지 않으며, 호출자가 잠금으로 보호해야 합니다.
+ */
+@Slf4j
+class WriteBehindJournal {
+
+    private final Path directory;
+    private final String prefix;
+    private final boolean fsync;
+    private FileChannel active;
+    private long activeSequence;
+
+    WriteBehindJournal(Path path, boolean fsync) {
+        this.directory = path.toAbsolutePath().getParent();
+        this.prefix = path.getFileName().toString() + ".";
+        this.fsync = fsync;
+    }
+
+    /**
+     * 번호가 appliedSequence보다 큰 세그먼트의 증분을 읽어 전달하고 새 활성 세그먼트를 엽니다.
+     * 이미 반영된 세그먼트는 읽지 않고 삭제하며, 마지막 줄이 잘려 있으면 무시합니다.
+     */
+    void recover(long appliedSequence, Replay consumer) {
+        try {
+            Files.createDirectories(directory);
+            deleteUpTo(appliedSequence);
+            // 세그먼트가 모두 지워졌어도 번호가 반영된 번호 이하로 되돌아가지 않도록 함
+            long maxSequence = Math.max(appliedSequence, 0);
+            int recovered = 0;
+            for (Path segment : segments()) {
+                maxSequence = Math.max(maxSequence, sequenceOf(segment));
+                try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (parse(line, consumer)) {
+                            recovered++;
+                        }
+                    }
+                }
+            }
+            if (recovered > 0) {
+                log.warn("쓰기 지연 저널에서 미반영 증분 {}건을 복구했습니다.", recovered);
+            }
+            open(maxSequence + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void append(SurveyQuestionKey key, LocalDateTime occurredAt, SentimentTotals totals, List<Long> childIds) {
+        String line = key.surveyId() + "," + key.questionId() + ","
+                + totals.getTotalResponses() + "," + totals.getPositiveCount() + "," + totals.getNegativeCount() + ","
+                + totals.getNeutralCount() + "," + totals.getMixedCount() + ","
+                + totals.getSumPositive() + "," + totals.getSumNegative() + ","
+                + totals.getSumNeutral() + "," + totals.getSumMixed() + ","
+                + childIds.stream().map(String::valueOf).collect(Collectors.joining(";")) + ","
+                + occurredAt + "\n";
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                active.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 지금까지 추가한 줄을 디스크에 기록합니다. fsync를 끈 경우 OS 버퍼에만 남습니다.
+     */
+    void force() {
+        if (!fsync) {
+            return;
+        }
+        try {
+            active.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 활성 세그먼트를 닫고 새 세그먼트를 엽니다. 닫힌 세그먼트의 번호를 반환합니다.
+     */
+    long rotate() {
+        long closed = activeSequence;
+        try {
+            active.close();
+            open(closed + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return closed;
+    }
+
+    /**
+     * 번호가 sequence 이하인 닫힌 세그먼트를 삭제합니다. 해당 증분이 DB에 반영된 뒤에만 호출합니다.
+     */
+    void deleteUpTo(long sequence) {
+        try {
+            for (Path segment : segments()) {
+                if (sequenceOf(segment) <= sequence) {
+                    Files.deleteIfExists(segment);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("쓰기 지연 저널 세그먼트 삭제 실패 - 재시작 시 중복 반영될 수 있습니다.", e);
+        }
+    }
+
+    void close() {
+        try {
+            active.close();
+        } catch (IOException e) {
+            log.warn("쓰기 지연 저널을 닫는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void open(long sequence) throws IOException {
+        this.activeSequence = sequence;
+        this.active = FileChannel.open(directory.resolve(prefix + sequence),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private List<Path> segments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().startsWith(prefix))
+                 .filter(file -> sequenceOf(file) >= 0)
+                 .sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)))
+                 .forEach(segments::add);
+        }
+        return segments;
+    }
+
+    private long sequenceOf(Path segment) {
+        try {
+            return Long.parseLong(segment.getFileName().toString().substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private boolean parse(String line, Replay consumer) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 13) {
+            return false;
+        }
+        try {
+            List<Long> childIds = new ArrayList<>();
+            for (String childId : fields[11].split(";")) {
+                if (!childId.isEmpty()) {
+                    childIds.add(Long.parseLong(childId));
+                }
+            }
+            consumer.accept(
+                    new SurveyQuestionKey(Long.parseLong(fields[0]), Long.parseLong(fields[1])),
+                    LocalDateTime.parse(fields[12]),
+                    new SentimentTotals(
+                            Integer.parseInt(fields[2]), Integer.parseInt(fields[3]), Integer.parseInt(fields[4]),
+                            Integer.parseInt(fields[5]), Integer.parseInt(fields[6]),
+                            Double.parseDouble(fields[7]), Double.parseDouble(fields[8]),
+                            Double.parseDouble(fields[9]), Double.parseDouble(fields[10])
+                    ),
+                    childIds
+            );
+            return true;
+        } catch (NumberFormatException | DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    interface Replay {
+        void accept(SurveyQuestionKey key, LocalDateTime occurredAt, SentimentTotals totals, List<Long> childIds);
+    }
+}
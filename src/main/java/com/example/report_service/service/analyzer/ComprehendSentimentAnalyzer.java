@@ -0,0 +1,86 @@
+package com.example.report_service.service.analyzer;
+
+import com.amazonaws.services.comprehend.model.DetectSentimentResult;
+import com.example.report_service.dto.response.AWSComprehendResult;
+import com.example.report_service.service.AwsComprehendService;
+import com.example.report_service.service.ComprehendBatchAnalyzer;
+import com.example.report_service.service.SentimentAnalysisExecutor;
+import com.example.report_service.service.SentimentResultCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * AWS Comprehend 기반 감성 분석 제공자입니다.
+ * 결과 캐시를 먼저 조회하고, 캐시에 없는 텍스트만 중복을 제거하여 배치 또는 병렬 단건 호출로 분석합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ComprehendSentimentAnalyzer implements SentimentAnalyzer {
+
+    private final AwsComprehendService awsComprehendService;
+    private final ComprehendBatchAnalyzer comprehendBatchAnalyzer;
+    private final SentimentResultCache sentimentResultCache;
+    private final SentimentAnalysisExecutor sentimentAnalysisExecutor;
+
+    @Override
+    public List<AWSComprehendResult> analyzeAll(List<String> texts, String languageCode) {
+        Map<String, AWSComprehendResult> cached = sentimentResultCache.getAll(texts, languageCode);
+
+        List<String> misses = texts.stream()
+                                   .filter(text -> !cached.containsKey(text))
+                                   .distinct()
+                                   .toList();
+        Map<String, AWSComprehendResult> analyzed = analyzeRemotely(misses, languageCode);
+        sentimentResultCache.putAll(analyzed, languageCode);
+
+        return texts.stream()
+                    .map(text -> cached.containsKey(text) ? cached.get(text) : analyzed.get(text))
+                    .toList();
+    }
+
+    /**
+     * 캐시에 없는 텍스트를 원격 분석합니다. 배치 분석기가 비활성화된 경우 단건 호출을 병렬로 실행하고,
+     * 활성화된 경우 모든 텍스트를 먼저 대기열에 넣어 다른 요청의 텍스트와 함께 한 번에 분석합니다.
+     */
+    private Map<String, AWSComprehendResult> analyzeRemotely(List<String> texts, String languageCode) {
+        Map<String, AWSComprehendResult> results = new LinkedHashMap<>();
+        if (texts.isEmpty()) {
+            return results;
+        }
+        if (!comprehendBatchAnalyzer.isEnabled()) {
+            // 답변별 단건 호출을 제한된 동시성으로 병렬 실행 (결과 순서 유지)
+            List<AWSComprehendResult> analyzed = sentimentAnalysisExecutor.map(texts, text -> analyzeText(text, languageCode));
+            for (int i = 0; i < texts.size(); i++) {
+                results.put(texts.get(i), analyzed.get(i));
+            }
+            return results;
+        }
+
+        log.debug("AWS 배치 감성 분석 요청 - 텍스트 {}건", texts.size());
+        Map<String, CompletableFuture<AWSComprehendResult>> futures = new LinkedHashMap<>();
+        texts.forEach(text -> futures.put(text, comprehendBatchAnalyzer.submit(text, languageCode)));
+        try {
+            futures.forEach((text, future) -> results.put(text, future.join()));
+            return results;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private AWSComprehendResult analyzeText(String text, String languageCode) {
+        log.debug("AWS 감성 분석 호출 시작");
+        DetectSentimentResult dsr = awsComprehendService.analyzeText(text, languageCode);
+        return AWSComprehendResult.from(dsr);
+    }
+}
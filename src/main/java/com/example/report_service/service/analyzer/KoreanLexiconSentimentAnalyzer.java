@@ -0,0 +1,160 @@
+package com.example.report_service.service.analyzer;
+
+import com.example.report_service.dto.response.AWSComprehendResult;
+import com.example.report_service.dto.response.SentimentScore;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 감성 어휘 사전과 부정어 규칙으로 한국어 텍스트를 분석하는 프로세스 내 감성 분석기입니다.
+ * 네트워크 호출이 없으므로 짧은 답변 처리, 테스트, 부하 테스트에 사용합니다.
+ */
+@Component
+public class KoreanLexiconSentimentAnalyzer implements SentimentAnalyzer {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[\\s\\p{Punct}~…·]+");
+
+    // 부정 어휘를 먼저 검사하므로 "불편", "불친절"처럼 긍정 어간을 포함한 부정 어휘도 올바르게 분류됨
+    private static final List<String> NEGATIVE_STEMS = List.of(
+            "불만", "불편", "불친절", "최악", "별로", "나쁘", "나빠", "싫", "어렵", "어려", "느리", "느려", "짜증",
+            "실망", "아쉽", "아쉬", "부족", "비싸", "복잡", "오류", "힘들", "지루", "화나", "후회", "귀찮", "엉망"
+    );
+    private static final List<String> POSITIVE_STEMS = List.of(
+            "좋", "만족", "훌륭", "최고", "감사", "편리", "편하", "편해", "친절", "추천", "유익", "재미", "재밌",
+            "행복", "깔끔", "빠르", "빨라", "쉽", "쉬워", "괜찮", "멋", "감동", "유용", "기쁘", "즐거", "즐겁", "도움"
+    );
+    // 뒤따르는 토큰이 이 접두어로 시작하면 앞 토큰의 감성을 뒤집음 (예: "좋지 않아요")
+    private static final Set<String> TRAILING_NEGATIONS = Set.of("않", "못하", "못해", "아니");
+    // 앞 토큰이 부정 부사이면 뒤 토큰의 감성을 뒤집음 (예: "안 좋아요")
+    private static final Set<String> LEADING_NEGATIONS = Set.of("안", "못", "전혀");
+    // 띄어 쓰지 않은 부정 표현 (예: "안좋아요", "좋지않아요", "좋지못해요")
+    private static final List<String> ATTACHED_LEADING_NEGATIONS = List.of("안", "못");
+    private static final List<String> ATTACHED_TRAILING_NEGATIONS = List.of("지않", "지못", "진않", "진못");
+
+    /**
+     * 분석 결과와 함께 신뢰도와 감성 어휘 일치 수를 반환합니다.
+     * 신뢰도는 일치 수와 긍정/부정 차이로 계산하며(|긍정 - 부정| / (일치 수 + 0.5)), 일치가 없으면 0입니다.
+     * 따라서 어휘 하나만 일치하면 약 0.67, 같은 방향으로 둘이 일치하면 0.8, 셋이면 약 0.86입니다.
+     */
+    public LexiconResult analyze(String text) {
+        String[] tokens = TOKEN_SEPARATOR.split(text.trim().toLowerCase(Locale.ROOT));
+        int positive = 0;
+        int negative = 0;
+
+        for (int i = 0; i < tokens.length; i++) {
+            int polarity = tokenPolarity(tokens[i]);
+            if (polarity == 0) {
+                continue;
+            }
+            if (isNegated(tokens, i)) {
+                polarity = -polarity;
+            }
+            if (polarity > 0) {
+                positive++;
+            } else {
+                negative++;
+            }
+        }
+
+        SentimentScore score = score(positive, negative);
+        String sentiment = dominantSentiment(score);
+        int matched = positive + negative;
+        double confidence = matched == 0 ? 0.0 : Math.abs(positive - negative) / (matched + 0.5);
+        return new LexiconResult(new AWSComprehendResult(sentiment, score), confidence, matched);
+    }
+
+    @Override
+    public List<AWSComprehendResult> analyzeAll(List<String> texts, String languageCode) {
+        return texts.stream()
+                    .map(text -> analyze(text).result())
+                    .toList();
+    }
+
+    /**
+     * 토큰의 감성 방향을 반환합니다. 토큰 안에 붙어 있는 부정 표현("안좋아요", "좋지않아요")은 떼어 내고 방향을 뒤집습니다.
+     */
+    private int tokenPolarity(String token) {
+        for (String prefix : ATTACHED_LEADING_NEGATIONS) {
+            if (token.length() > prefix.length() && token.startsWith(prefix)) {
+                int polarity = polarityOf(token.substring(prefix.length()));
+                if (polarity != 0) {
+                    return -polarity;
+                }
+            }
+        }
+        for (String suffix : ATTACHED_TRAILING_NEGATIONS) {
+            int index = token.indexOf(suffix);
+            if (index > 0) {
+                int polarity = polarityOf(token.substring(0, index));
+                if (polarity != 0) {
+                    return -polarity;
+                }
+            }
+        }
+        return polarityOf(token);
+    }
+
+    private int polarityOf(String token) {
+        for (String stem : NEGATIVE_STEMS) {
+            if (token.contains(stem)) {
+                return -1;
+            }
+        }
+        for (String stem : POSITIVE_STEMS) {
+            if (token.contains(stem)) {
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    private boolean isNegated(String[] tokens, int index) {
+        if (index > 0 && LEADING_NEGATIONS.contains(tokens[index - 1])) {
+            return true;
+        }
+        if (index + 1 < tokens.length) {
+            String next = tokens[index + 1];
+            return TRAILING_NEGATIONS.stream().anyMatch(next::startsWith);
+        }
+        return false;
+    }
+
+    /**
+     * 일치한 긍정/부정 어휘 수를 합이 1인 점수로 변환합니다. 일치가 없으면 중립, 양쪽 모두 있으면 혼합 비중이 커집니다.
+     */
+    private SentimentScore score(int positive, int negative) {
+        double rawPositive = positive;
+        double rawNegative = negative;
+        double rawNeutral = positive + negative == 0 ? 4.0 : 0.25;
+        double rawMixed = Math.min(positive, negative) * 1.5;
+        double sum = rawPositive + rawNegative + rawNeutral + rawMixed;
+        return new SentimentScore(rawPositive / sum, rawNegative / sum, rawNeutral / sum, rawMixed / sum);
+    }
+
+    private String dominantSentiment(SentimentScore score) {
+        String sentiment = "NEUTRAL";
+        double max = score.getNeutral();
+        if (score.getPositive() > max) {
+            sentiment = "POSITIVE";
+            max = score.getPositive();
+        }
+        if (score.getNegative() > max) {
+            sentiment = "NEGATIVE";
+            max = score.getNegative();
+        }
+        if (score.getMixed() > max) {
+            sentiment = "MIXED";
+        }
+        return sentiment;
+    }
+
+    public record LexiconResult(
+            AWSComprehendResult result,
+            double confidence,
+            int matchedTerms
+    ) {}
+}
@@ -0,0 +1,93 @@
+package com.example.report_service.service.analyzer;
+
+import com.example.report_service.dto.response.AWSComprehendResult;
+import com.example.report_service.service.analyzer.KoreanLexiconSentimentAnalyzer.LexiconResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 설정된 모드에 따라 분석 제공자를 선택합니다.
+ * TIERED 모드에서는 감성 어휘가 하나 이상 일치하면서 짧거나 로컬 분석 신뢰도가 임계값을 넘는 텍스트는 로컬 분석기로,
+ * 나머지 애매한 텍스트와 어휘가 하나도 일치하지 않은 텍스트는 Comprehend로 보냅니다.
+ */
+@Component
+@Primary
+@Slf4j
+public class RoutingSentimentAnalyzer implements SentimentAnalyzer {
+
+    public enum Mode {
+        COMPREHEND,
+        LOCAL,
+        TIERED
+    }
+
+    private final ComprehendSentimentAnalyzer comprehendAnalyzer;
+    private final KoreanLexiconSentimentAnalyzer lexiconAnalyzer;
+    private final Mode mode;
+    private final int shortTextMaxLength;
+    private final double localConfidenceThreshold;
+
+    public RoutingSentimentAnalyzer(
+            ComprehendSentimentAnalyzer comprehendAnalyzer,
+            KoreanLexiconSentimentAnalyzer lexiconAnalyzer,
+            @Value("${report.analyzer.mode:COMPREHEND}") Mode mode,
+            @Value("${report.analyzer.tiered.short-text-max-length:10}") int shortTextMaxLength,
+            @Value("${report.analyzer.tiered.local-confidence-threshold:0.8}") double localConfidenceThreshold
+    ) {
+        this.comprehendAnalyzer = comprehendAnalyzer;
+        this.lexiconAnalyzer = lexiconAnalyzer;
+        this.mode = mode;
+        this.shortTextMaxLength = shortTextMaxLength;
+        this.localConfidenceThreshold = localConfidenceThreshold;
+        log.info("감성 분석기 라우팅 모드: {}", mode);
+    }
+
+    @Override
+    public List<AWSComprehendResult> analyzeAll(List<String> texts, String languageCode) {
+        return switch (mode) {
+            case COMPREHEND -> comprehendAnalyzer.analyzeAll(texts, languageCode);
+            case LOCAL -> lexiconAnalyzer.analyzeAll(texts, languageCode);
+            case TIERED -> analyzeTiered(texts, languageCode);
+        };
+    }
+
+    private List<AWSComprehendResult> analyzeTiered(List<String> texts, String languageCode) {
+        AWSComprehendResult[] results = new AWSComprehendResult[texts.size()];
+        List<Integer> remoteIndexes = new ArrayList<>();
+        List<String> remoteTexts = new ArrayList<>();
+
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i);
+            LexiconResult local = lexiconAnalyzer.analyze(text);
+            if (isLocallyDecidable(text, local)) {
+                results[i] = local.result();
+            } else {
+                remoteIndexes.add(i);
+                remoteTexts.add(text);
+            }
+        }
+
+        log.debug("계층형 감성 분석 - 로컬 {}건, Comprehend {}건", texts.size() - remoteTexts.size(), remoteTexts.size());
+        if (!remoteTexts.isEmpty()) {
+            List<AWSComprehendResult> remoteResults = comprehendAnalyzer.analyzeAll(remoteTexts, languageCode);
+            for (int i = 0; i < remoteIndexes.size(); i++) {
+                results[remoteIndexes.get(i)] = remoteResults.get(i);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    // 일치한 어휘가 없으면 로컬 결과(중립)는 근거가 없으므로 항상 Comprehend로 보냄
+    private boolean isLocallyDecidable(String text, LexiconResult local) {
+        if (local.matchedTerms() == 0) {
+            return false;
+        }
+        return text.strip().length() <= shortTextMaxLength || local.confidence() > localConfidenceThreshold;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.report_service.service.analyzer;
+
+import com.example.report_service.dto.response.AWSComprehendResult;
+
+import java.util.List;
+
+/**
+ * 텍스트 감성 분석 제공자 SPI입니다. 구현체는 AWS Comprehend와 동일한 형태의 감성/점수를 반환합니다.
+ */
+public interface SentimentAnalyzer {
+
+    /**
+     * 텍스트들을 분석하여 입력 순서대로 결과를 반환합니다.
+     */
+    List<AWSComprehendResult> analyzeAll(List<String> texts, String languageCode);
+}
@@ -0,0 +1,66 @@
+package com.example.report_service.service.sketch;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 답변 텍스트를 키워드 요약용 용어로 나눕니다.
+ * 공백·구두점으로 토큰을 나눈 뒤 흔한 조사를 떼고, 짧은 토큰·숫자·불용어는 버립니다. 한 답변 안의 중복 용어는 한 번만 셉니다.
+ */
+@Component
+public class AnswerTermTokenizer {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[\\s\\p{Punct}~…·]+");
+    private static final Pattern DIGITS = Pattern.compile("\\d+");
+    // 긴 조사부터 검사해야 "에서"가 "서"보다 먼저 제거됨
+    private static final List<String> PARTICLES = List.of(
+            "으로", "에서", "에게", "까지", "부터", "이랑", "하고", "보다", "처럼",
+            "은", "는", "이", "가", "을", "를", "에", "의", "도", "만", "로", "와", "과", "랑"
+    );
+    private static final Set<String> STOPWORDS = Set.of(
+            "그리고", "그냥", "너무", "정말", "진짜", "조금", "약간", "많이", "그런", "이런", "저는", "제가", "있어요", "없어요",
+            "있습니다", "없습니다", "합니다", "했어요", "같아요", "것", "the", "and", "for", "with", "this", "that", "was", "are"
+    );
+
+    private final int minTermLength;
+    private final int maxTermLength;
+
+    public AnswerTermTokenizer(
+            @Value("${report.sketch.top-terms.min-term-length:2}") int minTermLength,
+            @Value("${report.sketch.top-terms.max-term-length:20}") int maxTermLength
+    ) {
+        this.minTermLength = Math.max(1, minTermLength);
+        this.maxTermLength = Math.max(this.minTermLength, maxTermLength);
+    }
+
+    public Set<String> terms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.trim().toLowerCase(Locale.ROOT))) {
+            String term = stripParticle(token);
+            if (term.length() < minTermLength || DIGITS.matcher(term).matches() || STOPWORDS.contains(term)) {
+                continue;
+            }
+            // 요약 크기를 고정하기 위해 긴 토큰은 잘라서 저장
+            terms.add(term.length() > maxTermLength ? term.substring(0, maxTermLength) : term);
+        }
+        return terms;
+    }
+
+    private String stripParticle(String token) {
+        for (String particle : PARTICLES) {
+            if (token.length() > particle.length() + 1 && token.endsWith(particle)) {
+                return token.substring(0, token.length() - particle.length());
+            }
+        }
+        return token;
+    }
+}
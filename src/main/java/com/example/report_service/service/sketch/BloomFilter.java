@@ -0,0 +1,68 @@
+package com.example.report_service.service.sketch;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * (long, long) 키에 대한 스레드 안전 Bloom 필터입니다.
+ * mightContain이 false이면 키가 확실히 없고, true이면 목표 오탐률(fpp) 이내의 확률로 잘못된 양성일 수 있습니다.
+ * 비트 위치는 두 해시의 선형 결합(Kirsch–Mitzenmacher)으로 구하며, 비트 설정은 CAS로 처리하여 잠금이 없습니다.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLong setBits = new AtomicLong();
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        this.bitCount = (long) words.length() * 64;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 키 수와 목표 오탐률에 맞는 비트 수(-n·ln p / ln²2)와 해시 수((m/n)·ln 2)로 생성합니다.
+     */
+    public static BloomFilter create(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.min(Math.max(fpp, 1e-9), 0.5);
+        long bits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        bits = Math.min(Math.max(bits, 64), (long) Integer.MAX_VALUE * 64);
+        int hashes = (int) Math.max(1, Math.round((double) bits / n * Math.log(2)));
+        return new BloomFilter(bits, hashes);
+    }
+
+    public void put(long first, long second) {
+        long h1 = Hashing.mix64(first ^ Hashing.mix64(second));
+        long h2 = Hashing.mix64(h1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            long previous = words.getAndAccumulate(word, mask, (current, bit) -> current | bit);
+            if ((previous & mask) == 0) {
+                setBits.incrementAndGet();
+            }
+        }
+    }
+
+    public boolean mightContain(long first, long second) {
+        long h1 = Hashing.mix64(first ^ Hashing.mix64(second));
+        long h2 = Hashing.mix64(h1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 채워진 비트 비율로 계산한 오탐률 추정치입니다. 예상 키 수를 넘겨 넣으면 목표 오탐률보다 커집니다.
+     */
+    public double expectedFpp() {
+        return Math.pow((double) setBits.get() / bitCount, hashCount);
+    }
+}
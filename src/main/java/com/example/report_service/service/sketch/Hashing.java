@@ -0,0 +1,15 @@
+package com.example.report_service.service.sketch;
+
+final class Hashing {
+
+    private Hashing() {
+    }
+
+    // 연속된 ID도 비트/레지스터에 고르게 퍼지도록 하는 SplitMix64 finalizer
+    static long mix64(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.report_service.service.sketch;
+
+/**
+ * 고정 크기 레지스터(2^precision 바이트)로 고유 값 개수를 추정하는 HyperLogLog입니다.
+ * 상대 표준 오차는 약 1.04 / sqrt(2^precision)이며(precision 12: 약 1.6%), 작은 값 구간은 선형 계수(linear counting)로 보정합니다.
+ * 병합은 레지스터별 최댓값이므로 교환·결합·멱등적이어서 같은 사용자가 여러 번 들어와도 추정치가 늘지 않습니다.
+ */
+public final class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 12;
+    private static final byte FORMAT_VERSION = 1;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("HyperLogLog precision은 4~18 사이여야 합니다: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public void add(long value) {
+        long hash = Hashing.mix64(value);
+        int index = (int) (hash >>> (64 - precision));
+        // 인덱스로 쓴 비트를 제외한 나머지에서 첫 1비트의 위치 (보초 비트로 최댓값 제한)
+        long remaining = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    /**
+     * 다른 HyperLogLog를 병합합니다.
+     *
+     * @return 레지스터가 하나라도 바뀌었으면 true
+     */
+    public boolean merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("precision이 다른 HyperLogLog는 병합할 수 없습니다.");
+        }
+        boolean changed = false;
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public double relativeStandardError() {
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    public boolean isEmpty() {
+        for (byte register : registers) {
+            if (register != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public byte[] serialize() {
+        byte[] data = new byte[2 + registers.length];
+        data[0] = FORMAT_VERSION;
+        data[1] = (byte) precision;
+        System.arraycopy(registers, 0, data, 2, registers.length);
+        return data;
+    }
+
+    /**
+     * 직렬화된 HyperLogLog를 복원합니다. 빈 바이트 배열은 주어진 precision의 빈 HyperLogLog로 취급합니다.
+     */
+    public static HyperLogLog deserialize(byte[] data, int defaultPrecision) {
+        if (data == null || data.length == 0) {
+            return new HyperLogLog(defaultPrecision);
+        }
+        if (data[0] != FORMAT_VERSION) {
+            throw new IllegalStateException("지원하지 않는 HyperLogLog 형식입니다: " + data[0]);
+        }
+        HyperLogLog hll = new HyperLogLog(data[1]);
+        if (data.length != 2 + hll.registers.length) {
+            throw new IllegalStateException("HyperLogLog 레지스터 크기가 올바르지 않습니다: " + (data.length - 2));
+        }
+        System.arraycopy(data, 2, hll.registers, 0, hll.registers.length);
+        return hll;
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+}
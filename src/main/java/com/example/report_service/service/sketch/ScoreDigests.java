@@ -0,0 +1,37 @@
+package com.example.report_service.service.sketch;
+
+import com.tdunning.math.stats.MergingDigest;
+import com.tdunning.math.stats.TDigest;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 감성 점수 분포 요약(t-digest)의 생성과 직렬화를 담당합니다.
+ * t-digest는 분포 양 끝의 분위수를 더 정밀하게 유지하며, 같은 compression의 요약끼리 병합할 수 있습니다.
+ */
+public final class ScoreDigests {
+
+    private ScoreDigests() {
+    }
+
+    public static TDigest create(double compression) {
+        return new MergingDigest(compression);
+    }
+
+    public static byte[] serialize(TDigest digest) {
+        digest.compress();
+        ByteBuffer buffer = ByteBuffer.allocate(digest.smallByteSize());
+        digest.asSmallBytes(buffer);
+        return buffer.array();
+    }
+
+    /**
+     * 직렬화된 요약을 복원합니다. 빈 바이트 배열은 주어진 compression의 빈 요약으로 취급합니다.
+     */
+    public static TDigest deserialize(byte[] data, double defaultCompression) {
+        if (data == null || data.length == 0) {
+            return create(defaultCompression);
+        }
+        return MergingDigest.fromBytes(ByteBuffer.wrap(data));
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.report_service.service.sketch;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 고정된 capacity개의 카운터만 유지하는 Space-Saving 빈발 항목 요약입니다.
+ * 카운터가 가득 찬 상태에서 새 항목이 들어오면 가장 작은 카운터를 대체하며, 추정치는 실제 빈도 이상이고
+ * 과대 추정량은 항목별 error 이하입니다. 전체 가중치의 1/capacity보다 자주 나온 항목은 반드시 포함됩니다.
+ * 같은 capacity의 요약끼리 병합할 수 있어 레플리카·요청별로 만든 요약을 합칠 수 있습니다.
+ */
+public final class SpaceSavingSketch {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final int capacity;
+    private final Map<String, long[]> counters;
+    private long totalWeight;
+
+    public SpaceSavingSketch(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.counters = new HashMap<>(this.capacity * 2);
+    }
+
+    public void add(String item) {
+        add(item, 1);
+    }
+
+    public void add(String item, long weight) {
+        totalWeight += weight;
+        long[] counter = counters.get(item);
+        if (counter != null) {
+            counter[0] += weight;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(item, new long[]{weight, 0});
+            return;
+        }
+        String minItem = minItem();
+        long[] min = counters.remove(minItem);
+        counters.put(item, new long[]{min[0] + weight, min[0]});
+    }
+
+    /**
+     * 다른 요약을 병합합니다. 한쪽에만 있는 항목은 다른 쪽이 가득 찬 경우 그 최소 카운터만큼 빈도와 오차를 더합니다.
+     */
+    public void merge(SpaceSavingSketch other) {
+        long thisFloor = isFull() ? counters.get(minItem())[0] : 0;
+        long otherFloor = other.isFull() ? other.counters.get(other.minItem())[0] : 0;
+
+        Set<String> items = new HashSet<>(counters.keySet());
+        items.addAll(other.counters.keySet());
+        List<Map.Entry<String, long[]>> merged = new ArrayList<>(items.size());
+        for (String item : items) {
+            long[] mine = counters.get(item);
+            long[] theirs = other.counters.get(item);
+            long count = (mine != null ? mine[0] : thisFloor) + (theirs != null ? theirs[0] : otherFloor);
+            long error = (mine != null ? mine[1] : thisFloor) + (theirs != null ? theirs[1] : otherFloor);
+            merged.add(Map.entry(item, new long[]{count, error}));
+        }
+        // 빈도가 같으면 항목 순으로 정렬하여 병합 순서와 관계없이 같은 항목이 남도록 함 (교환 법칙)
+        merged.sort(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[0]).reversed()
+                              .thenComparing(Map.Entry::getKey));
+
+        counters.clear();
+        for (int i = 0; i < Math.min(capacity, merged.size()); i++) {
+            counters.put(merged.get(i).getKey(), merged.get(i).getValue());
+        }
+        totalWeight += other.totalWeight;
+    }
+
+    /**
+     * 추정 빈도 내림차순으로 최대 limit개의 항목을 반환합니다.
+     */
+    public List<Entry> top(int limit) {
+        return counters.entrySet().stream()
+                       .map(e -> new Entry(e.getKey(), e.getValue()[0], e.getValue()[1]))
+                       .sorted(Comparator.comparingLong(Entry::count).reversed().thenComparing(Entry::item))
+                       .limit(Math.max(0, limit))
+                       .toList();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public boolean isEmpty() {
+        return counters.isEmpty();
+    }
+
+    private boolean isFull() {
+        return counters.size() >= capacity;
+    }
+
+    private String minItem() {
+        String minItem = null;
+        long minCount = Long.MAX_VALUE;
+        for (Map.Entry<String, long[]> entry : counters.entrySet()) {
+            if (entry.getValue()[0] < minCount) {
+                minCount = entry.getValue()[0];
+                minItem = entry.getKey();
+            }
+        }
+        return minItem;
+    }
+
+    public byte[] serialize() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + counters.size() * 24);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(capacity);
+            out.writeLong(totalWeight);
+            out.writeInt(counters.size());
+            for (Map.Entry<String, long[]> entry : counters.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue()[0]);
+                out.writeLong(entry.getValue()[1]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 직렬화된 요약을 복원합니다. 빈 바이트 배열은 주어진 capacity의 빈 요약으로 취급합니다.
+     */
+    public static SpaceSavingSketch deserialize(byte[] data, int defaultCapacity) {
+        if (data == null || data.length == 0) {
+            return new SpaceSavingSketch(defaultCapacity);
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 Space-Saving 요약 형식입니다: " + version);
+            }
+            SpaceSavingSketch sketch = new SpaceSavingSketch(in.readInt());
+            sketch.totalWeight = in.readLong();
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                sketch.counters.put(in.readUTF(), new long[]{in.readLong(), in.readLong()});
+            }
+            return sketch;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record Entry(
+            String item,
+            long count,
+            long error
+    ) {}
+}
@@ -0,0 +1,71 @@
+package com.example.report_service.messaging;
+
+import com.example.report_service.dto.request.AggregateRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryIngestionBrokerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InMemoryIngestionBroker broker = new InMemoryIngestionBroker(meterRegistry, 2, 3, 10);
+
+    @Test
+    void 같은_설문의_이벤트는_같은_파티션에_발행_순서대로_전달된다() {
+        broker.publish(request(1L, 10L));
+        broker.publish(request(1L, 11L));
+        broker.publish(request(1L, 12L));
+
+        int partition = Math.floorMod(Long.hashCode(1L), broker.partitionCount());
+        List<IngestionMessage> batch = broker.poll(partition, 10, Duration.ZERO);
+
+        assertThat(batch).extracting(message -> message.payload().responseId()).containsExactly(10L, 11L, 12L);
+        assertThat(batch).extracting(IngestionMessage::offset).containsExactly(0L, 1L, 2L);
+    }
+
+    @Test
+    void 파티션이_가득_차면_발행을_거부한다() {
+        assertThat(broker.publish(request(1L, 10L))).isTrue();
+        assertThat(broker.publish(request(1L, 11L))).isTrue();
+        assertThat(broker.publish(request(1L, 12L))).isTrue();
+
+        assertThat(broker.publish(request(1L, 13L))).isFalse();
+    }
+
+    @Test
+    void ack한_메시지만_보관에서_제거된다() {
+        broker.publish(request(1L, 10L));
+        broker.publish(request(1L, 11L));
+        int partition = Math.floorMod(Long.hashCode(1L), broker.partitionCount());
+
+        List<IngestionMessage> batch = broker.poll(partition, 10, Duration.ZERO);
+        assertThat(lag()).isEqualTo(2);
+
+        broker.ack(partition, batch.get(0).offset());
+        assertThat(lag()).isEqualTo(1);
+        assertThat(broker.publish(request(1L, 12L))).isTrue();
+        assertThat(broker.poll(partition, 10, Duration.ZERO)).extracting(IngestionMessage::offset).containsExactly(2L);
+    }
+
+    @Test
+    void 데드_레터는_보관_한도를_넘으면_오래된_것부터_버린다() {
+        InMemoryIngestionBroker small = new InMemoryIngestionBroker(new SimpleMeterRegistry(), 1, 10, 2);
+        for (long responseId = 1; responseId <= 3; responseId++) {
+            small.deadLetter(new IngestionMessage(0, responseId, request(1L, responseId)), new IllegalStateException("실패"));
+        }
+
+        assertThat(small.deadLetters()).extracting(deadLetter -> deadLetter.message().offset()).containsExactly(2L, 3L);
+    }
+
+    private double lag() {
+        return meterRegistry.get("report.ingest.broker.lag").gauge().value();
+    }
+
+    private static AggregateRequest request(Long surveyId, Long responseId) {
+        return new AggregateRequest(surveyId, responseId, 1L, List.of());
+    }
+}
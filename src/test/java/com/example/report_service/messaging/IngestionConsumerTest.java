@@ -0,0 +1,125 @@
+package com.example.report_service.messaging;
+
+import com.example.global.exception.type.NotFoundException;
+import com.example.report_service.dto.request.AggregateRequest;
+import com.example.report_service.exception.ReportExceptionType;
+import com.example.report_service.service.BulkIngestService;
+import com.example.report_service.service.SentimentReportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IngestionConsumerTest {
+
+    private static final long WAIT_MILLIS = 5000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InMemoryIngestionBroker broker = new InMemoryIngestionBroker(meterRegistry, 1, 100, 10);
+    private final BulkIngestService bulkIngestService = mock(BulkIngestService.class);
+    private final SentimentReportService sentimentReportService = mock(SentimentReportService.class);
+    private IngestionConsumer consumer;
+
+    @AfterEach
+    void tearDown() {
+        if (consumer != null) {
+            consumer.shutdown();
+        }
+    }
+
+    @Test
+    void 배치를_처리하면_ack한다() throws InterruptedException {
+        consumer = consumer(3, 10);
+        consumer.publish(request(10L));
+        consumer.publish(request(11L));
+
+        consumer.start();
+
+        verify(bulkIngestService, timeout(WAIT_MILLIS)).ingestChunk(List.of(request(10L), request(11L)));
+        awaitLag(0);
+        assertThat(broker.deadLetters()).isEmpty();
+    }
+
+    @Test
+    void 배치가_실패하면_메시지별로_재시도하고_계속_실패한_메시지만_데드_레터로_보낸다() throws InterruptedException {
+        AggregateRequest poison = request(11L);
+        when(bulkIngestService.ingestChunk(anyList())).thenThrow(new IllegalStateException("배치 실패"));
+        when(sentimentReportService.aggregateAndGenerateReport(poison)).thenThrow(new CannotAcquireLockException("잠금 대기 시간 초과"));
+        consumer = consumer(2, 1);
+        consumer.publish(request(10L));
+        consumer.publish(poison);
+        consumer.publish(request(12L));
+
+        consumer.start();
+
+        awaitLag(0);
+        verify(sentimentReportService).aggregateAndGenerateReport(request(10L));
+        verify(sentimentReportService, times(2)).aggregateAndGenerateReport(poison);
+        verify(sentimentReportService).aggregateAndGenerateReport(request(12L));
+        assertThat(broker.deadLetters()).extracting(deadLetter -> deadLetter.message().payload()).containsExactly(poison);
+        assertThat(meterRegistry.get("report.ingest.broker.dead-lettered").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 검증에_실패한_메시지는_재시도하지_않고_바로_데드_레터로_보낸다() throws InterruptedException {
+        AggregateRequest invalid = request(11L);
+        when(bulkIngestService.ingestChunk(anyList())).thenThrow(new NotFoundException(ReportExceptionType.TEXTS_IS_EMPTY));
+        when(sentimentReportService.aggregateAndGenerateReport(invalid)).thenThrow(new NotFoundException(ReportExceptionType.TEXTS_IS_EMPTY));
+        consumer = consumer(3, 1000);
+        consumer.publish(request(10L));
+        consumer.publish(invalid);
+
+        consumer.start();
+
+        awaitLag(0);
+        verify(sentimentReportService, times(1)).aggregateAndGenerateReport(invalid);
+        assertThat(broker.deadLetters()).extracting(deadLetter -> deadLetter.message().payload()).containsExactly(invalid);
+    }
+
+    @Test
+    void 종료_중에_실패한_메시지는_데드_레터로_보내거나_ack하지_않는다() throws InterruptedException {
+        when(bulkIngestService.ingestChunk(anyList())).thenThrow(new IllegalStateException("배치 실패"));
+        when(sentimentReportService.aggregateAndGenerateReport(any())).thenThrow(new CannotAcquireLockException("잠금 대기 시간 초과"));
+        consumer = consumer(1000, 20);
+        consumer.publish(request(10L));
+
+        consumer.start();
+        verify(sentimentReportService, timeout(WAIT_MILLIS).atLeast(2)).aggregateAndGenerateReport(request(10L));
+        consumer.shutdown();
+
+        assertThat(broker.deadLetters()).isEmpty();
+        assertThat(lag()).isEqualTo(1);
+    }
+
+    private IngestionConsumer consumer(int maxAttempts, long retryBackoffMillis) {
+        return new IngestionConsumer(broker, bulkIngestService, sentimentReportService, meterRegistry,
+                10, 50, maxAttempts, retryBackoffMillis);
+    }
+
+    private void awaitLag(double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (lag() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(lag()).isEqualTo(expected);
+    }
+
+    private double lag() {
+        return meterRegistry.get("report.ingest.broker.lag").gauge().value();
+    }
+
+    private static AggregateRequest request(Long responseId) {
+        return new AggregateRequest(1L, responseId, 1L, List.of());
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.report_service.service;
+
+import com.example.report_service.dto.internal.SentimentTotals;
+import com.example.report_service.dto.request.SurveyQuestionKey;
+import com.example.report_service.repository.OverallSentimentReportRepository;
+import com.example.report_service.repository.SentimentReportRepository;
+import com.example.report_service.repository.SentimentTrendBucketRepository;
+import com.example.report_service.repository.SurveySentimentReportRepository;
+import com.example.report_service.repository.WriteBehindJournalStateRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.support.PseudoTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OverallWriteBehindAggregatorTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2026, 10, 18, 9, 0);
+    private static final LocalDateTime TEN = LocalDateTime.of(2026, 10, 18, 10, 0);
+    private static final String JOURNAL_ID = "report-0";
+
+    private final OverallSentimentReportRepository overallReportRepository = mock(OverallSentimentReportRepository.class);
+    private final SurveySentimentReportRepository surveyReportRepository = mock(SurveySentimentReportRepository.class);
+    private final SentimentReportRepository sentimentReportRepository = mock(SentimentReportRepository.class);
+    private final SentimentTrendBucketRepository trendBucketRepository = mock(SentimentTrendBucketRepository.class);
+    private final WriteBehindJournalStateRepository journalStateRepository = mock(WriteBehindJournalStateRepository.class);
+    private final ReportVersionTracker reportVersionTracker = mock(ReportVersionTracker.class);
+    private OverallWriteBehindAggregator aggregator;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        when(overallReportRepository.upsertIncrement(anyLong(), anyLong(), any())).thenReturn(1);
+        when(overallReportRepository.findIdBySurveyIdAndQuestionId(anyLong(), anyLong())).thenReturn(Optional.of(100L));
+        when(journalStateRepository.findAppliedSequence(JOURNAL_ID)).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (aggregator != null) {
+            aggregator.shutdown();
+        }
+    }
+
+    @Test
+    void 같은_키의_증분은_플러시마다_한_번의_upsert로_합쳐진다() {
+        aggregator = aggregator(false);
+        aggregator.addOnCommit(1L, 2L, NINE, totals(1), List.of(10L));
+        aggregator.addOnCommit(1L, 2L, NINE, totals(2), List.of(11L, 12L));
+        aggregator.addOnCommit(1L, 2L, TEN, totals(3), List.of(13L));
+
+        aggregator.flush();
+
+        assertThat(overallTotals()).extracting(SentimentTotals::getTotalResponses).containsExactly(6);
+        verify(sentimentReportRepository).linkReports(100L, List.of(10L, 11L, 12L, 13L));
+        // 시간 버킷 2개(9시, 10시)와 일 버킷 1개를 (질문, 단위, 버킷 시작) 순서로 한 번씩 반영
+        ArgumentCaptor<SentimentTotals> trendTotals = ArgumentCaptor.forClass(SentimentTotals.class);
+        verify(trendBucketRepository).upsertIncrement(eq(1L), eq(2L), eq("HOUR"), eq(NINE), trendTotals.capture());
+        verify(trendBucketRepository).upsertIncrement(eq(1L), eq(2L), eq("HOUR"), eq(TEN), trendTotals.capture());
+        verify(trendBucketRepository).upsertIncrement(eq(1L), eq(2L), eq("DAY"), eq(NINE.toLocalDate().atStartOfDay()), trendTotals.capture());
+        assertThat(trendTotals.getAllValues()).extracting(SentimentTotals::getTotalResponses).containsExactly(3, 3, 6);
+        verify(surveyReportRepository).upsertIncrement(eq(1L), eq(1), any());
+        verify(reportVersionTracker, atLeastOnce()).bump(1L);
+
+        aggregator.flush();
+        verify(overallReportRepository, times(1)).upsertIncrement(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void 플러시가_실패하면_증분을_다시_합쳐_다음_플러시에서_반영한다() {
+        when(overallReportRepository.upsertIncrement(anyLong(), anyLong(), any()))
+                .thenThrow(new CannotAcquireLockException("잠금 대기 시간 초과"))
+                .thenReturn(2);
+        aggregator = aggregator(false);
+        aggregator.addOnCommit(1L, 2L, NINE, totals(2), List.of(10L, 11L));
+
+        aggregator.flush();
+        aggregator.addOnCommit(1L, 2L, NINE, totals(1), List.of(12L));
+        aggregator.flush();
+
+        assertThat(overallTotals()).extracting(SentimentTotals::getTotalResponses).containsExactly(2, 3);
+        verify(sentimentReportRepository).linkReports(eq(100L), anyCollection());
+        verify(sentimentReportRepository).linkReports(100L, List.of(10L, 11L, 12L));
+        ArgumentCaptor<SentimentTotals> trendTotals = ArgumentCaptor.forClass(SentimentTotals.class);
+        verify(trendBucketRepository).upsertIncrement(eq(1L), eq(2L), eq("HOUR"), eq(NINE), trendTotals.capture());
+        assertThat(trendTotals.getValue().getTotalResponses()).isEqualTo(3);
+        verify(surveyReportRepository).upsertIncrement(eq(1L), eq(0), any());
+    }
+
+    @Test
+    void 플러시와_동시에_합쳐지는_증분은_유실되거나_중복되지_않는다() throws InterruptedException {
+        AtomicLong applied = new AtomicLong();
+        when(overallReportRepository.upsertIncrement(anyLong(), anyLong(), any())).thenAnswer(invocation -> {
+            applied.addAndGet(invocation.<SentimentTotals>getArgument(2).getTotalResponses());
+            return 2;
+        });
+        aggregator = aggregator(false);
+
+        int writers = 8;
+        int addsPerWriter = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(writers);
+        for (int writer = 0; writer < writers; writer++) {
+            long questionId = writer % 2;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < addsPerWriter; i++) {
+                        aggregator.addOnCommit(1L, questionId, NINE, totals(1), List.of());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (writing.get()) {
+                aggregator.flush();
+            }
+        });
+        flusher.start();
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        writing.set(false);
+        flusher.join();
+        aggregator.flush();
+        executor.shutdown();
+
+        assertThat(applied.get()).isEqualTo((long) writers * addsPerWriter);
+    }
+
+    @Test
+    void 저널_복구는_반영되지_않은_세그먼트의_커밋된_증분만_합친다() throws Exception {
+        Path journalPath = directory.resolve("write-behind.journal");
+        WriteBehindJournal journal = new WriteBehindJournal(journalPath, false);
+        journal.recover(0, (key, occurredAt, totals, childIds) -> {});
+        journal.append(new SurveyQuestionKey(1L, 1L), NINE, totals(5), List.of(10L));
+        long appliedSegment = journal.rotate();
+        journal.append(new SurveyQuestionKey(1L, 2L), NINE, totals(2), List.of(20L, 21L));
+        // 저널에 기록된 뒤 커밋되지 않은 트랜잭션의 증분
+        journal.append(new SurveyQuestionKey(1L, 3L), NINE, totals(7), List.of(30L));
+        journal.close();
+        Files.writeString(journalPath.resolveSibling("write-behind.journal." + (appliedSegment + 1)), "1,4,9,9",
+                StandardOpenOption.APPEND);
+
+        when(journalStateRepository.findAppliedSequence(JOURNAL_ID)).thenReturn(Optional.of(appliedSegment));
+        when(sentimentReportRepository.findExistingIds(List.of(20L, 30L))).thenReturn(List.of(20L));
+        aggregator = aggregator(true);
+        aggregator.flush();
+
+        ArgumentCaptor<SentimentTotals> totals = ArgumentCaptor.forClass(SentimentTotals.class);
+        verify(overallReportRepository).upsertIncrement(eq(1L), eq(2L), totals.capture());
+        assertThat(totals.getValue().getTotalResponses()).isEqualTo(2);
+        verify(overallReportRepository, never()).upsertIncrement(eq(1L), eq(1L), any());
+        verify(overallReportRepository, never()).upsertIncrement(eq(1L), eq(3L), any());
+        verify(sentimentReportRepository).linkReports(100L, List.of(20L, 21L));
+        verify(journalStateRepository).markApplied(eq(JOURNAL_ID), anyLong());
+        try (var segments = Files.list(directory)) {
+            // 반영이 끝난 세그먼트는 삭제되고 새 활성 세그먼트만 남음
+            assertThat(segments.toList()).hasSize(1);
+        }
+    }
+
+    private List<SentimentTotals> overallTotals() {
+        ArgumentCaptor<SentimentTotals> captor = ArgumentCaptor.forClass(SentimentTotals.class);
+        verify(overallReportRepository, atLeastOnce()).upsertIncrement(anyLong(), anyLong(), captor.capture());
+        return new ArrayList<>(captor.getAllValues());
+    }
+
+    private OverallWriteBehindAggregator aggregator(boolean journalEnabled) {
+        return new OverallWriteBehindAggregator(
+                overallReportRepository,
+                surveyReportRepository,
+                sentimentReportRepository,
+                trendBucketRepository,
+                reportVersionTracker,
+                journalStateRepository,
+                new PseudoTransactionManager(),
+                new SimpleMeterRegistry(),
+                true, Integer.MAX_VALUE, journalEnabled, directory.resolve("write-behind.journal").toString(), false, JOURNAL_ID
+        );
+    }
+
+    private static SentimentTotals totals(int responses) {
+        return new SentimentTotals(responses, responses, 0, 0, 0, 0.9 * responses, 0.05 * responses, 0.05 * responses, 0);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.report_service.service;
+
+import com.example.report_service.dto.internal.SentimentTotals;
+import com.example.report_service.dto.request.SurveyQuestionKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteBehindJournalTest {
+
+    private static final LocalDateTime HOUR = LocalDateTime.of(2026, 10, 18, 9, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 기록한_증분을_재시작_후_그대로_복구한다() {
+        WriteBehindJournal journal = open(0);
+        journal.append(new SurveyQuestionKey(1L, 2L), HOUR, totals(3), List.of(10L, 11L, 12L));
+        journal.append(new SurveyQuestionKey(1L, 3L), HOUR, totals(1), List.of());
+        journal.force();
+        journal.close();
+
+        List<Replayed> replayed = recover(0);
+
+        assertThat(replayed).hasSize(2);
+        Replayed first = replayed.get(0);
+        assertThat(first.key()).isEqualTo(new SurveyQuestionKey(1L, 2L));
+        assertThat(first.occurredAt()).isEqualTo(HOUR);
+        assertThat(first.totals().getTotalResponses()).isEqualTo(3);
+        assertThat(first.totals().getSumPositive()).isEqualTo(totals(3).getSumPositive());
+        assertThat(first.childIds()).containsExactly(10L, 11L, 12L);
+        assertThat(replayed.get(1).childIds()).isEmpty();
+    }
+
+    @Test
+    void 반영된_번호_이하의_세그먼트는_읽지_않고_삭제한다() {
+        WriteBehindJournal journal = open(0);
+        journal.append(new SurveyQuestionKey(1L, 1L), HOUR, totals(1), List.of(10L));
+        long applied = journal.rotate();
+        journal.append(new SurveyQuestionKey(1L, 2L), HOUR, totals(2), List.of(20L));
+        journal.close();
+
+        List<Replayed> replayed = recover(applied);
+
+        assertThat(replayed).extracting(Replayed::key).containsExactly(new SurveyQuestionKey(1L, 2L));
+        assertThat(segment(applied)).doesNotExist();
+    }
+
+    @Test
+    void 잘린_마지막_줄은_무시한다() throws IOException {
+        WriteBehindJournal journal = open(0);
+        journal.append(new SurveyQuestionKey(1L, 1L), HOUR, totals(1), List.of(10L));
+        journal.close();
+        Files.writeString(segment(1), "1,2,3,1,0,0", StandardOpenOption.APPEND);
+
+        List<Replayed> replayed = recover(0);
+
+        assertThat(replayed).extracting(Replayed::key).containsExactly(new SurveyQuestionKey(1L, 1L));
+    }
+
+    @Test
+    void 복구_후_새_세그먼트_번호는_반영된_번호보다_크다() {
+        WriteBehindJournal journal = open(5);
+
+        assertThat(journal.rotate()).isEqualTo(6);
+        journal.close();
+    }
+
+    @Test
+    void 반영이_끝난_세그먼트만_삭제한다() {
+        WriteBehindJournal journal = open(0);
+        long closed = journal.rotate();
+        journal.deleteUpTo(closed);
+
+        assertThat(segment(closed)).doesNotExist();
+        assertThat(segment(closed + 1)).exists();
+        journal.close();
+    }
+
+    private WriteBehindJournal open(long appliedSequence) {
+        WriteBehindJournal journal = new WriteBehindJournal(directory.resolve("write-behind.journal"), false);
+        journal.recover(appliedSequence, (key, occurredAt, totals, childIds) -> {});
+        return journal;
+    }
+
+    private List<Replayed> recover(long appliedSequence) {
+        List<Replayed> replayed = new ArrayList<>();
+        WriteBehindJournal journal = new WriteBehindJournal(directory.resolve("write-behind.journal"), false);
+        journal.recover(appliedSequence, (key, occurredAt, totals, childIds) -> replayed.add(new Replayed(key, occurredAt, totals, childIds)));
+        journal.close();
+        return replayed;
+    }
+
+    private Path segment(long sequence) {
+        return directory.resolve("write-behind.journal." + sequence);
+    }
+
+    private static SentimentTotals totals(int responses) {
+        return new SentimentTotals(responses, responses, 0, 0, 0, 0.9 * responses, 0.05 * responses, 0.05 * responses, 0);
+    }
+
+    private record Replayed(SurveyQuestionKey key, LocalDateTime occurredAt, SentimentTotals totals, List<Long> childIds) {}
+}
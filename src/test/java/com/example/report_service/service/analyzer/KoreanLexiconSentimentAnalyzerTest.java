@@ -0,0 +1,72 @@
+package com.example.report_service.service.analyzer;
+
+import com.example.report_service.service.analyzer.KoreanLexiconSentimentAnalyzer.LexiconResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class KoreanLexiconSentimentAnalyzerTest {
+
+    private final KoreanLexiconSentimentAnalyzer analyzer = new KoreanLexiconSentimentAnalyzer();
+
+    @Test
+    void 감성_어휘가_없으면_중립이고_신뢰도는_0이다() {
+        LexiconResult result = analyzer.analyze("배송은 어제 도착했습니다");
+
+        assertThat(result.result().getSentiment()).isEqualTo("NEUTRAL");
+        assertThat(result.matchedTerms()).isZero();
+        assertThat(result.confidence()).isZero();
+    }
+
+    @Test
+    void 어휘_하나만_일치하면_신뢰도는_0_8보다_낮다() {
+        LexiconResult result = analyzer.analyze("서비스가 좋아요");
+
+        assertThat(result.result().getSentiment()).isEqualTo("POSITIVE");
+        assertThat(result.matchedTerms()).isEqualTo(1);
+        assertThat(result.confidence()).isCloseTo(1 / 1.5, within(1e-9)).isLessThan(0.8);
+    }
+
+    @Test
+    void 같은_방향의_일치가_많을수록_신뢰도가_높아진다() {
+        LexiconResult two = analyzer.analyze("친절하고 좋아요");
+        LexiconResult three = analyzer.analyze("친절하고 깔끔하고 좋아요");
+
+        assertThat(two.confidence()).isCloseTo(0.8, within(1e-9));
+        assertThat(three.confidence()).isGreaterThan(0.8);
+    }
+
+    @Test
+    void 긍정과_부정이_섞이면_신뢰도가_낮아진다() {
+        LexiconResult result = analyzer.analyze("직원은 친절한데 가격이 비싸요");
+
+        assertThat(result.matchedTerms()).isEqualTo(2);
+        assertThat(result.confidence()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"안 좋아요", "안좋아요", "좋지 않아요", "좋지않아요", "좋지 못해요", "좋지못해요", "좋진않아요"})
+    void 띄어쓰기와_관계없이_부정_표현은_감성을_뒤집는다(String text) {
+        LexiconResult result = analyzer.analyze(text);
+
+        assertThat(result.result().getSentiment()).isEqualTo("NEGATIVE");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"안불편해요", "불편하지않아요", "싫지않아요"})
+    void 부정_어휘를_부정하면_긍정이다(String text) {
+        LexiconResult result = analyzer.analyze(text);
+
+        assertThat(result.result().getSentiment()).isEqualTo("POSITIVE");
+    }
+
+    @Test
+    void 안으로_시작하지만_부정이_아닌_단어는_뒤집지_않는다() {
+        LexiconResult result = analyzer.analyze("안내가 친절해요");
+
+        assertThat(result.result().getSentiment()).isEqualTo("POSITIVE");
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.report_service.service.analyzer;
+
+import com.example.report_service.dto.response.AWSComprehendResult;
+import com.example.report_service.dto.response.SentimentScore;
+import com.example.report_service.service.analyzer.RoutingSentimentAnalyzer.Mode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoutingSentimentAnalyzerTest {
+
+    private static final AWSComprehendResult REMOTE = new AWSComprehendResult("MIXED", new SentimentScore(0.3, 0.3, 0.1, 0.3));
+
+    private final ComprehendSentimentAnalyzer comprehendAnalyzer = mock(ComprehendSentimentAnalyzer.class);
+    private final RoutingSentimentAnalyzer analyzer = new RoutingSentimentAnalyzer(
+            comprehendAnalyzer, new KoreanLexiconSentimentAnalyzer(), Mode.TIERED, 10, 0.8);
+
+    @Test
+    void 어휘가_일치하지_않는_텍스트는_짧아도_Comprehend로_보낸다() {
+        when(comprehendAnalyzer.analyzeAll(anyList(), anyString())).thenReturn(List.of(REMOTE, REMOTE));
+
+        List<AWSComprehendResult> results = analyzer.analyzeAll(List.of("그냥 그래요", "배송은 어제 도착했고 포장 상태는 보통이었습니다"), "ko");
+
+        assertThat(results).containsExactly(REMOTE, REMOTE);
+        verify(comprehendAnalyzer).analyzeAll(List.of("그냥 그래요", "배송은 어제 도착했고 포장 상태는 보통이었습니다"), "ko");
+    }
+
+    @Test
+    void 긴_텍스트에서_어휘가_하나만_일치하면_Comprehend로_보낸다() {
+        String text = "전반적으로 진행은 무난했고 마지막 안내가 좋았습니다";
+        when(comprehendAnalyzer.analyzeAll(anyList(), anyString())).thenReturn(List.of(REMOTE));
+
+        List<AWSComprehendResult> results = analyzer.analyzeAll(List.of(text), "ko");
+
+        assertThat(results).containsExactly(REMOTE);
+    }
+
+    @Test
+    void 짧거나_확실한_텍스트는_로컬에서_분석한다() {
+        String longConfident = "직원분들이 모두 친절하고 매장도 깔끔해서 정말 만족스러웠습니다";
+
+        List<AWSComprehendResult> results = analyzer.analyzeAll(List.of("좋아요", "안좋아요", longConfident), "ko");
+
+        assertThat(results).extracting(AWSComprehendResult::getSentiment)
+                           .containsExactly("POSITIVE", "NEGATIVE", "POSITIVE");
+        verify(comprehendAnalyzer, never()).analyzeAll(anyList(), eq("ko"));
+    }
+}
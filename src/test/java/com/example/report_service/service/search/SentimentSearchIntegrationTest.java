@@ -0,0 +1,211 @@
+package com.example.report_service.service.search;
+
+import com.example.global.exception.type.NotFoundException;
+import com.example.report_service.document.SentimentReportDocument;
+import com.example.report_service.dto.internal.AnalyzedAnswer;
+import com.example.report_service.dto.response.AWSComprehendResult;
+import com.example.report_service.dto.response.SentimentAggregationDto;
+import com.example.report_service.dto.response.SentimentHistogramBucketDto;
+import com.example.report_service.dto.response.SentimentScore;
+import com.example.report_service.dto.response.SentimentSearchHitDto;
+import com.example.report_service.dto.response.SentimentSearchResultDto;
+import com.example.report_service.entity.TrendGranularity;
+import com.example.report_service.service.SentimentSearchIndexer;
+import com.example.report_service.service.SentimentSearchService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.testcontainers.elasticsearch.ElasticsearchContainer;
+import org.testcontainers.images.builder.ImageFromDockerfile;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 Elasticsearch 노드(Testcontainers)를 띄워 색인기와 검색·집계 쿼리를 함께 검증합니다. Docker가 없으면 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SentimentSearchIntegrationTest {
+
+    private static final String ELASTICSEARCH_IMAGE = "docker.elastic.co/elasticsearch/elasticsearch:8.15.5";
+
+    @Container
+    private static final ElasticsearchContainer ELASTICSEARCH =
+            new ElasticsearchContainer(noriImage())
+                    .withEnv("xpack.security.enabled", "false")
+                    .withEnv("ES_JAVA_OPTS", "-Xms512m -Xmx512m");
+
+    private static ElasticsearchOperations elasticsearchOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SentimentSearchIndexer searchIndexer;
+    private SentimentSearchService searchService;
+
+    @BeforeAll
+    static void connect() {
+        ClientConfiguration configuration = ClientConfiguration.builder()
+                                                               .connectedTo(ELASTICSEARCH.getHttpHostAddress())
+                                                               .build();
+        elasticsearchOperations = new ElasticsearchTemplate(ElasticsearchClients.createImperative(configuration));
+    }
+
+    @BeforeEach
+    void setUp() {
+        indexOps().delete();
+        searchIndexer = indexer(true);
+        searchIndexer.createIndexIfMissing();
+        searchService = new SentimentSearchService(elasticsearchOperations, searchIndexer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchIndexer.shutdown();
+    }
+
+    @Test
+    void 색인한_답변을_키워드와_감성으로_검색한다() throws InterruptedException {
+        index(1L, 100L, List.of(answer(10L, "배송 정말 빨라요", "POSITIVE"), answer(11L, "포장 깔끔해요", "POSITIVE")));
+        index(1L, 101L, List.of(answer(10L, "배송 너무 느려요", "NEGATIVE")));
+        index(2L, 200L, List.of(answer(10L, "배송 보통이에요", "NEUTRAL")));
+        awaitIndexed(4);
+
+        SentimentSearchResultDto byKeyword = searchService.search(1L, null, "배송", null, 0, 20);
+        SentimentSearchResultDto byKeywordAndSentiment = searchService.search(1L, 10L, "배송", "negative", 0, 20);
+
+        assertThat(byKeyword.totalHits()).isEqualTo(2);
+        assertThat(byKeyword.hits()).extracting(SentimentSearchHitDto::responseId).containsExactlyInAnyOrder(100L, 101L);
+        assertThat(byKeywordAndSentiment.totalHits()).isEqualTo(1);
+        assertThat(byKeywordAndSentiment.hits().get(0).answerText()).isEqualTo("배송 너무 느려요");
+        assertThat(byKeywordAndSentiment.hits().get(0).sentiment()).isEqualTo("NEGATIVE");
+    }
+
+    @Test
+    void 조사가_붙은_답변도_형태소_단위로_검색한다() throws InterruptedException {
+        index(1L, 100L, List.of(answer(10L, "배송이 정말 빨라요", "POSITIVE")));
+        index(1L, 101L, List.of(answer(10L, "포장을 꼼꼼하게 해 주셨어요", "POSITIVE")));
+        awaitIndexed(2);
+
+        assertThat(searchService.search(1L, null, "배송", null, 0, 20).hits())
+                .extracting(SentimentSearchHitDto::responseId).containsExactly(100L);
+        assertThat(searchService.search(1L, null, "포장", null, 0, 20).hits())
+                .extracting(SentimentSearchHitDto::responseId).containsExactly(101L);
+    }
+
+    @Test
+    void 같은_답변을_다시_색인하면_문서를_덮어쓴다() throws InterruptedException {
+        index(1L, 100L, List.of(answer(10L, "배송 빨라요", "POSITIVE")));
+        awaitIndexed(1);
+        index(1L, 100L, List.of(answer(10L, "배송 빨라요", "MIXED")));
+        awaitIndexed(2);
+
+        SentimentSearchResultDto result = searchService.search(1L, 10L, null, null, 0, 20);
+
+        assertThat(result.totalHits()).isEqualTo(1);
+        assertThat(result.hits().get(0).sentiment()).isEqualTo("MIXED");
+    }
+
+    @Test
+    void 감성별_건수와_기간별_분포를_집계한다() throws InterruptedException {
+        index(1L, 100L, List.of(answer(10L, "좋아요", "POSITIVE"), answer(11L, "별로예요", "NEGATIVE")));
+        index(1L, 101L, List.of(answer(10L, "최고예요", "POSITIVE")));
+        index(2L, 200L, List.of(answer(10L, "그저 그래요", "NEUTRAL")));
+        awaitIndexed(4);
+
+        SentimentAggregationDto survey = searchService.aggregate(1L, null, TrendGranularity.DAY, null, null);
+        SentimentAggregationDto question = searchService.aggregate(1L, 10L, TrendGranularity.HOUR, null, null);
+
+        assertThat(survey.totalResponses()).isEqualTo(3);
+        assertThat(survey.sentimentCounts()).containsEntry("POSITIVE", 2L).containsEntry("NEGATIVE", 1L).hasSize(2);
+        assertThat(survey.histogram()).extracting(SentimentHistogramBucketDto::totalResponses)
+                                      .reduce(0L, Long::sum).isEqualTo(3L);
+        assertThat(question.totalResponses()).isEqualTo(2);
+        assertThat(question.sentimentCounts()).containsOnlyKeys("POSITIVE");
+    }
+
+    @Test
+    void 답변_원문_색인을_끄면_원문_없이_색인한다() throws InterruptedException {
+        searchIndexer.shutdown();
+        searchIndexer = new SentimentSearchIndexer(elasticsearchOperations, meterRegistry, true, false,
+                100, 10, 50, 50, 3, 100);
+        searchService = new SentimentSearchService(elasticsearchOperations, searchIndexer);
+        index(1L, 100L, List.of(answer(10L, "배송 빨라요", "POSITIVE")));
+        awaitIndexed(1);
+
+        assertThat(searchService.search(1L, null, "배송", null, 0, 20).totalHits()).isZero();
+        assertThat(searchService.search(1L, null, null, null, 0, 20).hits().get(0).answerText()).isNull();
+    }
+
+    @Test
+    void 검색_기능이_꺼져_있으면_조회를_거부한다() {
+        SentimentSearchIndexer disabled = indexer(false);
+        SentimentSearchService service = new SentimentSearchService(elasticsearchOperations, disabled);
+
+        disabled.indexAfterCommit(1L, 100L, 7L, List.of(answer(10L, "배송 빨라요", "POSITIVE")));
+
+        assertThatThrownBy(() -> service.search(1L, null, "배송", null, 0, 20)).isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> service.aggregate(1L, null, TrendGranularity.DAY, null, null)).isInstanceOf(NotFoundException.class);
+        assertThat(indexOps().exists()).isTrue();
+        assertThat(elasticsearchOperations.count(Query.findAll(), SentimentReportDocument.class)).isZero();
+    }
+
+    /**
+     * 답변 원문 필드가 nori 분석기를 사용하므로 analysis-nori 플러그인을 설치한 이미지를 만듭니다.
+     */
+    private static DockerImageName noriImage() {
+        String image = new ImageFromDockerfile("report-service-elasticsearch-nori", false)
+                .withDockerfileFromBuilder(builder -> builder.from(ELASTICSEARCH_IMAGE)
+                                                             .run("bin/elasticsearch-plugin install --batch analysis-nori")
+                                                             .build())
+                .get();
+        return DockerImageName.parse(image).asCompatibleSubstituteFor("docker.elastic.co/elasticsearch/elasticsearch");
+    }
+
+    private SentimentSearchIndexer indexer(boolean enabled) {
+        return new SentimentSearchIndexer(elasticsearchOperations, meterRegistry, enabled, true,
+                100, 10, 50, 50, 3, 100);
+    }
+
+    private void index(Long surveyId, Long responseId, List<AnalyzedAnswer> answers) {
+        searchIndexer.indexAfterCommit(surveyId, responseId, 7L, answers);
+    }
+
+    private void awaitIndexed(double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (indexedCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(indexedCount()).isEqualTo(expected);
+        indexOps().refresh();
+    }
+
+    private double indexedCount() {
+        return meterRegistry.get("report.search.indexer.indexed").counter().count();
+    }
+
+    private static IndexOperations indexOps() {
+        return elasticsearchOperations.indexOps(SentimentReportDocument.class);
+    }
+
+    private static AnalyzedAnswer answer(Long questionId, String text, String sentiment) {
+        SentimentScore score = switch (sentiment) {
+            case "POSITIVE" -> new SentimentScore(0.9, 0.05, 0.05, 0.0);
+            case "NEGATIVE" -> new SentimentScore(0.05, 0.9, 0.05, 0.0);
+            case "MIXED" -> new SentimentScore(0.3, 0.3, 0.1, 0.3);
+            default -> new SentimentScore(0.05, 0.05, 0.9, 0.0);
+        };
+        return new AnalyzedAnswer(questionId, text, new AWSComprehendResult(sentiment, score));
+    }
+}
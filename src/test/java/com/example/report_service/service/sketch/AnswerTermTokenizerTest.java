@@ -0,0 +1,43 @@
+package com.example.report_service.service.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnswerTermTokenizerTest {
+
+    private final AnswerTermTokenizer tokenizer = new AnswerTermTokenizer(2, 10);
+
+    @Test
+    void 조사를_떼고_용어를_추출한다() {
+        assertThat(tokenizer.terms("배송이 빠르고 포장에서 가격까지 만족했습니다"))
+                .containsExactly("배송", "빠르고", "포장", "가격", "만족했습니다");
+    }
+
+    @Test
+    void 불용어_숫자_짧은_토큰은_버린다() {
+        assertThat(tokenizer.terms("정말 그냥 2024 a 좋아요!!")).containsExactly("좋아요");
+    }
+
+    @Test
+    void 한_답변_안의_중복_용어는_한_번만_센다() {
+        assertThat(tokenizer.terms("배송 배송이 배송은 Delivery delivery")).containsExactly("배송", "delivery");
+    }
+
+    @Test
+    void 긴_용어는_최대_길이로_자른다() {
+        assertThat(tokenizer.terms("abcdefghijklmnop")).containsExactly("abcdefghij");
+    }
+
+    @Test
+    void 조사를_떼면_너무_짧아지는_토큰은_그대로_둔다() {
+        assertThat(tokenizer.terms("차가 밤을")).containsExactly("차가", "밤을");
+    }
+
+    @Test
+    void 빈_텍스트는_용어가_없다() {
+        assertThat(tokenizer.terms(null)).isEmpty();
+        assertThat(tokenizer.terms("   ")).isEmpty();
+        assertThat(tokenizer.terms("... !!")).isEmpty();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.report_service.service.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int KEYS = 100_000;
+    private static final double FPP = 0.01;
+
+    @Test
+    void 넣은_키는_항상_있다고_판단한다() {
+        BloomFilter filter = BloomFilter.create(KEYS, FPP);
+        for (long i = 0; i < KEYS; i++) {
+            filter.put(i, i * 7 + 1);
+        }
+
+        for (long i = 0; i < KEYS; i++) {
+            assertThat(filter.mightContain(i, i * 7 + 1)).isTrue();
+        }
+    }
+
+    @Test
+    void 오탐률은_목표_오탐률_근처다() {
+        BloomFilter filter = BloomFilter.create(KEYS, FPP);
+        for (long i = 0; i < KEYS; i++) {
+            filter.put(i, 1);
+        }
+
+        int falsePositives = 0;
+        for (long i = 0; i < KEYS; i++) {
+            if (filter.mightContain(i, 2)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / KEYS).isLessThan(FPP * 2);
+        assertThat(filter.expectedFpp()).isLessThan(FPP * 2);
+    }
+
+    @Test
+    void 키의_두_값은_순서가_다르면_다른_키다() {
+        BloomFilter filter = BloomFilter.create(1_000, FPP);
+        filter.put(1, 2);
+
+        assertThat(filter.mightContain(1, 2)).isTrue();
+        assertThat(filter.mightContain(2, 1)).isFalse();
+    }
+
+    @Test
+    void 빈_필터는_아무것도_포함하지_않는다() {
+        BloomFilter filter = BloomFilter.create(0, 0);
+
+        assertThat(filter.mightContain(1, 1)).isFalse();
+        assertThat(filter.expectedFpp()).isZero();
+    }
+
+    @Test
+    void 여러_스레드가_동시에_넣어도_유실되지_않는다() throws InterruptedException {
+        BloomFilter filter = BloomFilter.create(KEYS, FPP);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            long offset = thread;
+            executor.execute(() -> {
+                for (long i = offset; i < KEYS; i += 4) {
+                    filter.put(i, -i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        for (long i = 0; i < KEYS; i++) {
+            assertThat(filter.mightContain(i, -i)).isTrue();
+        }
+    }
+}
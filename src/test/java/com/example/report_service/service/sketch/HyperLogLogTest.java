@@ -0,0 +1,91 @@
+package com.example.report_service.service.sketch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    private static final int PRECISION = 12;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 1_000, 10_000, 100_000, 1_000_000})
+    void 추정치는_상대_표준_오차의_3배_이내다(int distinct) {
+        HyperLogLog hll = new HyperLogLog(PRECISION);
+        for (long value = 1; value <= distinct; value++) {
+            hll.add(value);
+        }
+
+        double tolerance = Math.max(3 * hll.relativeStandardError() * distinct, 1);
+        assertThat((double) hll.estimate()).isCloseTo(distinct, within(tolerance));
+    }
+
+    @Test
+    void 같은_값을_여러_번_넣어도_추정치가_늘지_않는다() {
+        HyperLogLog hll = new HyperLogLog(PRECISION);
+        for (int round = 0; round < 5; round++) {
+            for (long value = 1; value <= 1_000; value++) {
+                hll.add(value);
+            }
+        }
+
+        assertThat((double) hll.estimate()).isCloseTo(1_000, within(3 * hll.relativeStandardError() * 1_000));
+    }
+
+    @Test
+    void 병합은_교환_가능하고_멱등이다() {
+        HyperLogLog a = new HyperLogLog(PRECISION);
+        HyperLogLog b = new HyperLogLog(PRECISION);
+        for (long value = 1; value <= 20_000; value++) {
+            a.add(value);
+            b.add(value + 10_000);
+        }
+
+        HyperLogLog ab = HyperLogLog.deserialize(a.serialize(), PRECISION);
+        assertThat(ab.merge(b)).isTrue();
+        HyperLogLog ba = HyperLogLog.deserialize(b.serialize(), PRECISION);
+        ba.merge(a);
+
+        assertThat(ab.serialize()).isEqualTo(ba.serialize());
+        assertThat(ab.merge(b)).isFalse();
+        assertThat((double) ab.estimate()).isCloseTo(30_000, within(3 * ab.relativeStandardError() * 30_000));
+    }
+
+    @Test
+    void 직렬화_후_복원하면_같은_레지스터다() {
+        HyperLogLog hll = new HyperLogLog(10);
+        for (long value = 1; value <= 5_000; value++) {
+            hll.add(value * 31);
+        }
+
+        HyperLogLog restored = HyperLogLog.deserialize(hll.serialize(), PRECISION);
+
+        assertThat(restored.serialize()).isEqualTo(hll.serialize());
+        assertThat(restored.estimate()).isEqualTo(hll.estimate());
+        assertThat(restored.relativeStandardError()).isEqualTo(hll.relativeStandardError());
+    }
+
+    @Test
+    void 빈_바이트_배열은_기본_precision의_빈_HyperLogLog다() {
+        HyperLogLog hll = HyperLogLog.deserialize(new byte[0], PRECISION);
+
+        assertThat(hll.isEmpty()).isTrue();
+        assertThat(hll.estimate()).isZero();
+        assertThat(hll.serialize()).hasSize(2 + (1 << PRECISION));
+    }
+
+    @Test
+    void 잘못된_입력은_거부한다() {
+        assertThatThrownBy(() -> new HyperLogLog(3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HyperLogLog(PRECISION).merge(new HyperLogLog(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HyperLogLog.deserialize(new byte[]{99, PRECISION}, PRECISION))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> HyperLogLog.deserialize(new byte[]{1, PRECISION, 0, 0}, PRECISION))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
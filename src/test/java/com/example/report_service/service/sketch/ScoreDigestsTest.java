@@ -0,0 +1,77 @@
+package com.example.report_service.service.sketch;
+
+import com.tdunning.math.stats.TDigest;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ScoreDigestsTest {
+
+    private static final double COMPRESSION = 100;
+
+    @Test
+    void 분위수는_균등_분포의_실제_분위수에_가깝다() {
+        TDigest digest = ScoreDigests.create(COMPRESSION);
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 100_000; i++) {
+            digest.add(random.nextDouble());
+        }
+
+        for (double q : new double[]{0.01, 0.1, 0.5, 0.9, 0.99}) {
+            assertThat(digest.quantile(q)).isCloseTo(q, within(0.01));
+        }
+    }
+
+    @Test
+    void 병합은_순서와_관계없이_같은_분포를_낸다() {
+        TDigest low = digestOf(0.0, 0.5, 5);
+        TDigest high = digestOf(0.5, 1.0, 7);
+
+        TDigest lowHigh = ScoreDigests.deserialize(ScoreDigests.serialize(low), COMPRESSION);
+        lowHigh.add(high);
+        TDigest highLow = ScoreDigests.deserialize(ScoreDigests.serialize(high), COMPRESSION);
+        highLow.add(low);
+
+        assertThat(lowHigh.size()).isEqualTo(highLow.size()).isEqualTo(20_000);
+        for (double q : new double[]{0.1, 0.25, 0.5, 0.75, 0.9}) {
+            assertThat(lowHigh.quantile(q)).isCloseTo(highLow.quantile(q), within(0.01))
+                                            .isCloseTo(q, within(0.02));
+        }
+    }
+
+    @Test
+    void 직렬화_후_복원하면_같은_분포다() {
+        TDigest digest = digestOf(0.2, 0.8, 11);
+
+        TDigest restored = ScoreDigests.deserialize(ScoreDigests.serialize(digest), 50);
+
+        assertThat(restored.size()).isEqualTo(digest.size());
+        assertThat(restored.compression()).isEqualTo(digest.compression());
+        assertThat(restored.getMin()).isEqualTo(digest.getMin());
+        assertThat(restored.getMax()).isEqualTo(digest.getMax());
+        for (double q : new double[]{0.1, 0.5, 0.9}) {
+            assertThat(restored.quantile(q)).isCloseTo(digest.quantile(q), within(1e-6));
+        }
+    }
+
+    @Test
+    void 빈_바이트_배열은_기본_compression의_빈_요약이다() {
+        TDigest digest = ScoreDigests.deserialize(new byte[0], COMPRESSION);
+
+        assertThat(digest.size()).isZero();
+        assertThat(digest.compression()).isEqualTo(COMPRESSION);
+        assertThat(ScoreDigests.deserialize(null, COMPRESSION).size()).isZero();
+    }
+
+    private static TDigest digestOf(double from, double to, long seed) {
+        TDigest digest = ScoreDigests.create(COMPRESSION);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < 10_000; i++) {
+            digest.add(random.nextDouble(from, to));
+        }
+        return digest;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.report_service.service.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpaceSavingSketchTest {
+
+    private static final int CAPACITY = 16;
+
+    @Test
+    void 추정치는_실제_빈도_이상이고_오차_범위_안에_있다() {
+        Map<String, Long> actual = new HashMap<>();
+        SpaceSavingSketch sketch = new SpaceSavingSketch(CAPACITY);
+        zipfStream(20_000, 7L).forEach(item -> {
+            sketch.add(item);
+            actual.merge(item, 1L, Long::sum);
+        });
+
+        assertWithinBounds(sketch, actual, 20_000);
+    }
+
+    @Test
+    void 병합한_요약도_오차_범위를_지킨다() {
+        Map<String, Long> actual = new HashMap<>();
+        SpaceSavingSketch left = new SpaceSavingSketch(CAPACITY);
+        SpaceSavingSketch right = new SpaceSavingSketch(CAPACITY);
+        zipfStream(10_000, 11L).forEach(item -> {
+            left.add(item);
+            actual.merge(item, 1L, Long::sum);
+        });
+        zipfStream(10_000, 13L).forEach(item -> {
+            right.add(item);
+            actual.merge(item, 1L, Long::sum);
+        });
+
+        left.merge(right);
+
+        assertThat(left.getTotalWeight()).isEqualTo(20_000);
+        assertWithinBounds(left, actual, 20_000);
+    }
+
+    @Test
+    void 병합은_순서와_관계없이_같은_결과를_낸다() {
+        SpaceSavingSketch a = new SpaceSavingSketch(CAPACITY);
+        SpaceSavingSketch b = new SpaceSavingSketch(CAPACITY);
+        zipfStream(5_000, 17L).forEach(a::add);
+        zipfStream(5_000, 19L).forEach(b::add);
+
+        SpaceSavingSketch ab = SpaceSavingSketch.deserialize(a.serialize(), CAPACITY);
+        ab.merge(b);
+        SpaceSavingSketch ba = SpaceSavingSketch.deserialize(b.serialize(), CAPACITY);
+        ba.merge(a);
+
+        assertThat(ab.top(CAPACITY)).isEqualTo(ba.top(CAPACITY));
+        assertThat(ab.getTotalWeight()).isEqualTo(ba.getTotalWeight());
+    }
+
+    @Test
+    void 직렬화_후_복원하면_같은_요약이다() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(CAPACITY);
+        zipfStream(3_000, 23L).forEach(sketch::add);
+
+        SpaceSavingSketch restored = SpaceSavingSketch.deserialize(sketch.serialize(), 4);
+
+        assertThat(restored.getCapacity()).isEqualTo(CAPACITY);
+        assertThat(restored.getTotalWeight()).isEqualTo(sketch.getTotalWeight());
+        assertThat(restored.top(CAPACITY)).isEqualTo(sketch.top(CAPACITY));
+    }
+
+    @Test
+    void 빈_바이트_배열은_기본_capacity의_빈_요약이다() {
+        SpaceSavingSketch fromEmpty = SpaceSavingSketch.deserialize(new byte[0], CAPACITY);
+        SpaceSavingSketch fromNull = SpaceSavingSketch.deserialize(null, CAPACITY);
+
+        assertThat(fromEmpty.isEmpty()).isTrue();
+        assertThat(fromEmpty.getCapacity()).isEqualTo(CAPACITY);
+        assertThat(fromEmpty.getTotalWeight()).isZero();
+        assertThat(fromNull.isEmpty()).isTrue();
+    }
+
+    @Test
+    void 지원하지_않는_형식은_거부한다() {
+        assertThatThrownBy(() -> SpaceSavingSketch.deserialize(new byte[]{99, 0, 0, 0}, CAPACITY))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * 모든 항목이 count - error ≤ 실제 빈도 ≤ count를 만족하고, 전체의 1/capacity보다 자주 나온 항목은 모두 포함되는지 확인합니다.
+     */
+    private void assertWithinBounds(SpaceSavingSketch sketch, Map<String, Long> actual, long total) {
+        List<SpaceSavingSketch.Entry> entries = sketch.top(CAPACITY);
+        for (SpaceSavingSketch.Entry entry : entries) {
+            long frequency = actual.getOrDefault(entry.item(), 0L);
+            assertThat(entry.count()).isGreaterThanOrEqualTo(frequency);
+            assertThat(entry.count() - entry.error()).isLessThanOrEqualTo(frequency);
+        }
+        actual.forEach((item, frequency) -> {
+            if (frequency > total / CAPACITY) {
+                assertThat(entries).extracting(SpaceSavingSketch.Entry::item).contains(item);
+            }
+        });
+    }
+
+    // 순위 r의 항목이 1/r에 비례해 나오는 고정 시드 스트림
+    private static List<String> zipfStream(int size, long seed) {
+        int distinct = 500;
+        double[] cumulative = new double[distinct];
+        double sum = 0;
+        for (int rank = 1; rank <= distinct; rank++) {
+            sum += 1.0 / rank;
+            cumulative[rank - 1] = sum;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        String[] items = new String[size];
+        for (int i = 0; i < size; i++) {
+            double target = random.nextDouble() * sum;
+            int rank = 0;
+            while (cumulative[rank] < target) {
+                rank++;
+            }
+            items[i] = "term-" + rank;
+        }
+        return List.of(items);
+    }
+}